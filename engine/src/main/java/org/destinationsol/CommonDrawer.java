@@ -30,15 +30,18 @@
 import com.badlogic.gdx.utils.viewport.Viewport;
 import org.destinationsol.assets.Assets;
 import org.destinationsol.common.SolMath;
+import org.destinationsol.ui.DebugCollector;
 import org.destinationsol.ui.DisplayDimensions;
+import org.destinationsol.ui.GlyphLayoutCache;
 import org.destinationsol.ui.ResizeSubscriber;
 import org.destinationsol.ui.UiDrawer;
 
 public class CommonDrawer implements ResizeSubscriber {
+    private static final int LAYOUT_CACHE_SIZE = 256;
     private final SpriteBatch spriteBatch;
     private final BitmapFont font;
     private final float originalFontHeight;
-    private final GlyphLayout layout;
+    private final GlyphLayoutCache layoutCache;
     private final OrthographicCamera orthographicCamera;
     private final Viewport screenViewport;
 
@@ -52,7 +55,7 @@ public class CommonDrawer implements ResizeSubscriber {
         font = Assets.getFont("engine:main").getBitmapFont();
         originalFontHeight = font.getXHeight();
 
-        layout = new GlyphLayout();
+        layoutCache = new GlyphLayoutCache(LAYOUT_CACHE_SIZE);
 
         orthographicCamera = new OrthographicCamera(1024, 768);
         screenViewport = new ScreenViewport(orthographicCamera);
@@ -73,11 +76,18 @@ public void end() {
         spriteBatch.end();
     }
 
-    public void drawString(String s, float x, float y, float fontSize, boolean centered, Color col) {
+    /**
+     * Reports the statistics of the text layout cache through the {@link DebugCollector}.
+     */
+    public void debug() {
+        layoutCache.debug();
+    }
+
+    public void drawString(CharSequence s, float x, float y, float fontSize, boolean centered, Color col) {
         drawString(s, x, y, fontSize, UiDrawer.TextAlignment.CENTER, centered, col);
     }
 
-    public void drawString(String s, float x, float y, float fontSize, UiDrawer.TextAlignment align, boolean verticalCentering, Color col) {
+    public void drawString(CharSequence s, float x, float y, float fontSize, UiDrawer.TextAlignment align, boolean verticalCentering, Color col) {
         if (s == null) {
             return;
         }
@@ -85,8 +95,7 @@ public void drawString(String s, float x, float y, float fontSize, UiDrawer.Text
         font.setColor(col);
         font.getData().setScale(fontSize / originalFontHeight);
         // http://www.badlogicgames.com/wordpress/?p=3658
-        layout.reset();
-        layout.setText(font, s);
+        GlyphLayout layout = layoutCache.getLayout(font, s);
 
         switch (align) {
             case LEFT:
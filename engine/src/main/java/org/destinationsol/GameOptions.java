@@ -133,6 +133,15 @@ public Volume advance() {
     public static final int DEFAULT_BUTTON_RIGHT = -1;
     public static final int DEFAULT_MAP_SCROLL_SPEED = 10;
     public static final int DEFAULT_MOBILE_MAP_SCROLL_SPEED = 5;
+    public static final boolean DEFAULT_PHYSICS_ADAPTIVE_ITERATIONS = true;
+    public static final int DEFAULT_PHYSICS_MAX_SUB_STEPS = 4;
+    public static final boolean DEFAULT_PHYSICS_PLANET_GROUND_BODY = true;
+    public static final int DEFAULT_SOUND_RESIDENCY_BUDGET = 128;
+    public static final int DEFAULT_MOBILE_SOUND_RESIDENCY_BUDGET = 48;
+    public static final int DEFAULT_AI_THINK_RATE = 10;
+    public static final int DEFAULT_MOBILE_AI_THINK_RATE = 5;
+    public static final int DEFAULT_CHUNK_FILL_DISTANCE = 1;
+    public static final int DEFAULT_BACKGROUND_CHUNK_FILL_DISTANCE = 2;
 
     public int x;
     public int y;
@@ -177,6 +186,13 @@ public Volume advance() {
     private int controllerButtonUp;
     private int controllerButtonDown;
     private int mapScrollSpeed;
+    private boolean physicsAdaptiveIterations;
+    private int physicsMaxSubSteps;
+    private boolean physicsPlanetGroundBody;
+    private int soundResidencyBudget;
+    private int aiThinkRate;
+    private int chunkFillDistance;
+    private int backgroundChunkFillDistance;
 
     private ResolutionProvider resolutionProvider;
 
@@ -226,6 +242,13 @@ public GameOptions(boolean mobile, SolFileReader solFileReader) {
         controllerButtonDown = reader.getInt("controllerButtonDown", DEFAULT_BUTTON_DOWN);
         canSellEquippedItems = reader.getBoolean("canSellEquippedItems", false);
         mapScrollSpeed = reader.getInt("mapScrollSpeed", mobile ? DEFAULT_MOBILE_MAP_SCROLL_SPEED : DEFAULT_MAP_SCROLL_SPEED);
+        physicsAdaptiveIterations = reader.getBoolean("physicsAdaptiveIterations", DEFAULT_PHYSICS_ADAPTIVE_ITERATIONS);
+        physicsMaxSubSteps = reader.getInt("physicsMaxSubSteps", DEFAULT_PHYSICS_MAX_SUB_STEPS);
+        physicsPlanetGroundBody = reader.getBoolean("physicsPlanetGroundBody", DEFAULT_PHYSICS_PLANET_GROUND_BODY);
+        soundResidencyBudget = reader.getInt("soundResidencyBudget", mobile ? DEFAULT_MOBILE_SOUND_RESIDENCY_BUDGET : DEFAULT_SOUND_RESIDENCY_BUDGET);
+        aiThinkRate = reader.getInt("aiThinkRate", mobile ? DEFAULT_MOBILE_AI_THINK_RATE : DEFAULT_AI_THINK_RATE);
+        chunkFillDistance = reader.getInt("chunkFillDistance", DEFAULT_CHUNK_FILL_DISTANCE);
+        backgroundChunkFillDistance = reader.getInt("backgroundChunkFillDistance", DEFAULT_BACKGROUND_CHUNK_FILL_DISTANCE);
     }
 
     public void advanceResolution() {
@@ -286,7 +309,10 @@ public void save() {
                 "controllerButtonShoot2", getControllerButtonShoot2(), "controllerButtonAbility", getControllerButtonAbility(),
                 "controllerButtonLeft", getControllerButtonLeft(), "controllerButtonRight", getControllerButtonRight(),
                 "controllerButtonUp", getControllerButtonUp(), "controllerButtonDown", getControllerButtonDown(),
-                "mapScrollSpeed", getMapScrollSpeed());
+                "mapScrollSpeed", getMapScrollSpeed(), "physicsAdaptiveIterations", isPhysicsAdaptiveIterations(),
+                "physicsMaxSubSteps", getPhysicsMaxSubSteps(), "physicsPlanetGroundBody", isPhysicsPlanetGroundBody(),
+                "soundResidencyBudget", getSoundResidencyBudget(), "aiThinkRate", getAiThinkRate(),
+                "chunkFillDistance", getChunkFillDistance(), "backgroundChunkFillDistance", getBackgroundChunkFillDistance());
     }
 
     /**
@@ -1005,4 +1031,98 @@ public int getMapScrollSpeed() {
     public void setMapScrollSpeed(int mapScrollSpeed) {
         this.mapScrollSpeed = mapScrollSpeed;
     }
+
+    /**
+     * Whether the physics solver should pick its iteration counts from the number of active contacts.
+     *
+     * @return true if the iteration counts are adaptive, false to always use the default counts
+     */
+    public boolean isPhysicsAdaptiveIterations() {
+        return physicsAdaptiveIterations;
+    }
+
+    public void setPhysicsAdaptiveIterations(boolean physicsAdaptiveIterations) {
+        this.physicsAdaptiveIterations = physicsAdaptiveIterations;
+    }
+
+    /**
+     * Get the maximum number of sub-steps a single physics step can be split into, when the game runs faster than real time.
+     *
+     * @return int The maximum number of physics sub-steps per tick
+     */
+    public int getPhysicsMaxSubSteps() {
+        return physicsMaxSubSteps;
+    }
+
+    public void setPhysicsMaxSubSteps(int physicsMaxSubSteps) {
+        this.physicsMaxSubSteps = physicsMaxSubSteps;
+    }
+
+    /**
+     * Whether the ground tiles of a planet should share one rotating physics body, instead of each having its own.
+     *
+     * @return true if ground tiles are fixtures of a single body per planet
+     */
+    public boolean isPhysicsPlanetGroundBody() {
+        return physicsPlanetGroundBody;
+    }
+
+    public void setPhysicsPlanetGroundBody(boolean physicsPlanetGroundBody) {
+        this.physicsPlanetGroundBody = physicsPlanetGroundBody;
+    }
+
+    /**
+     * Get the memory budget for decoded sounds. Once it is exceeded, the least recently used sounds are released until
+     * they are needed again. Textures stay loaded and do not count towards it.
+     *
+     * @return int The sound residency budget, in megabytes
+     */
+    public int getSoundResidencyBudget() {
+        return soundResidencyBudget;
+    }
+
+    public void setSoundResidencyBudget(int soundResidencyBudget) {
+        this.soundResidencyBudget = soundResidencyBudget;
+    }
+
+    /**
+     * Get how many times per second AI pilots near the camera reconsider their destination and whether to fight.
+     * Steering and shooting still happen every tick.
+     *
+     * @return int The AI think rate, in decisions per second
+     */
+    public int getAiThinkRate() {
+        return aiThinkRate;
+    }
+
+    public void setAiThinkRate(int aiThinkRate) {
+        this.aiThinkRate = aiThinkRate;
+    }
+
+    /**
+     * Get how many chunks around the camera are filled with junk and enemies, in each direction. Larger distances
+     * fill more of the space ahead of the player, at the cost of more objects to simulate.
+     *
+     * @return int The chunk fill distance, in chunks
+     */
+    public int getChunkFillDistance() {
+        return chunkFillDistance;
+    }
+
+    public void setChunkFillDistance(int chunkFillDistance) {
+        this.chunkFillDistance = chunkFillDistance;
+    }
+
+    /**
+     * Get how many chunks around the camera are filled with far background decorations, in each direction.
+     *
+     * @return int The background chunk fill distance, in chunks
+     */
+    public int getBackgroundChunkFillDistance() {
+        return backgroundChunkFillDistance;
+    }
+
+    public void setBackgroundChunkFillDistance(int backgroundChunkFillDistance) {
+        this.backgroundChunkFillDistance = backgroundChunkFillDistance;
+    }
 }
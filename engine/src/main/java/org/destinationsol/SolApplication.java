@@ -44,7 +44,6 @@
 import org.destinationsol.moneyDropping.components.DropsMoneyOnDestruction;
 import org.destinationsol.rendering.RenderableElement;
 import org.destinationsol.rendering.components.Renderable;
-import org.destinationsol.rendering.events.RenderEvent;
 import org.destinationsol.entitysystem.ComponentSystemManager;
 import org.destinationsol.entitysystem.EntitySystemManager;
 import org.destinationsol.entitysystem.SerialisationManager;
@@ -138,10 +137,13 @@ public void create() {
         }
         options = new GameOptions(isMobile(), null);
 
+        long assetStartTime = System.nanoTime();
         componentManager = new ComponentManager();
         AssetHelper helper = new AssetHelper();
         helper.init(moduleManager.getEnvironment(), componentManager, isMobile);
         Assets.initialize(helper);
+        Assets.getSoundResidencyManager().setBudget(options.getSoundResidencyBudget());
+        logger.info("Asset discovery took {} ms", (System.nanoTime() - assetStartTime) / 1000000);
 
         context.put(ComponentSystemManager.class, new ComponentSystemManager(moduleManager.getEnvironment(), context));
         logger.info("\n\n ------------------------------------------------------------ \n");
@@ -234,9 +236,15 @@ private void update() {
 
         if (DebugOptions.SHOW_FPS) {
             DebugCollector.debug("Fps", Gdx.graphics.getFramesPerSecond());
+            commonDrawer.debug();
+        }
+
+        if (DebugOptions.ASSET_INFO) {
+            Assets.getSoundResidencyManager().debug();
         }
 
         inputManager.update(this);
+        musicManager.update(Const.REAL_TIME_STEP);
 
         if (solGame != null) {
             solGame.update();
@@ -255,9 +263,6 @@ private void draw() {
         if (solGame != null) {
             solGame.draw();
 
-            //This event causes each entity with a `Renderable` component to be rendered onscreen
-            entitySystemManager.sendEvent(new RenderEvent(), new Renderable(), new Position());
-
             //TODO remove this block - it is for debugging purposes
             if (!entityCreated) {
 
@@ -330,13 +335,15 @@ public void play(boolean tut, String shipName, boolean isNewGame, WorldConfig wo
         Iterator<Class<? extends Component>> componentClasses =
                 moduleManager.getEnvironment().getSubtypesOf(Component.class).iterator();
         SerialisationManager serialisationManager = new SerialisationManager(
-                SaveManager.getResourcePath("entity_store.dat"), entitySystemManager.getEntityManager(),
+                SaveManager.getResourcePath("entity_store.dat"), entitySystemManager,
                 componentClasses.hasNext() ? componentClasses.next().getClassLoader() : null);
         context.put(SerialisationManager.class, serialisationManager);
+        solGame.getChunkManager().addListener(serialisationManager);
 
         if (!isNewGame) {
             try {
-                context.get(SerialisationManager.class).deserialise();
+                serialisationManager.deserialise(solGame.getHero().getPosition(),
+                        solGame.getChunkManager().getFillDistance());
             } catch (Exception e) {
                 e.printStackTrace();
             }
@@ -362,6 +369,7 @@ public void dispose() {
         }
 
         inputManager.dispose();
+        musicManager.dispose();
     }
 
     public SolGame getGame() {
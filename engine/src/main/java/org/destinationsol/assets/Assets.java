@@ -20,6 +20,7 @@
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import org.destinationsol.assets.music.OggMusic;
 import org.destinationsol.assets.sound.OggSound;
+import org.destinationsol.assets.sound.SoundResidencyManager;
 import org.destinationsol.assets.emitters.Emitter;
 import org.destinationsol.assets.fonts.Font;
 import org.destinationsol.assets.json.Json;
@@ -43,6 +44,7 @@
  * This class allows loading of assets without the need of explicit error handling, using static methods.
  */
 public abstract class Assets {
+    private static final SoundResidencyManager soundResidencyManager = new SoundResidencyManager(SoundResidencyManager.DEFAULT_BUDGET_MEGABYTES);
     private static AssetHelper assetHelper;
     private static Set<ResourceUrn> textureList;
 
@@ -56,12 +58,22 @@ public abstract class Assets {
      */
     public static void initialize(AssetHelper helper) {
         assetHelper = helper;
+        soundResidencyManager.clear();
     }
 
     public static AssetHelper getAssetHelper() {
         return assetHelper;
     }
 
+    /**
+     * Returns the manager that decides which sounds keep their decoded data loaded.
+     *
+     * @return the sound residency manager
+     */
+    public static SoundResidencyManager getSoundResidencyManager() {
+        return soundResidencyManager;
+    }
+
     /**
      * Loads an Prefab (.prefab) from the current environment. Throws an exception if the asset is not found.
      * @param path A String specifying the desired asset.
@@ -79,6 +91,7 @@ public static Prefab getPrefab(String path) {
 
     /**
      * Loads an OggSound (.ogg) from the current environment. Throws an exception if the asset is not found.
+     * The sound itself is only decoded once it is first played or prefetched.
      * @param path A String specifying the desired asset.
      * @return The loaded OggSound.
      */
@@ -42,6 +42,6 @@ public OggMusicData load(ResourceUrn urn, List<AssetDataFile> inputs) throws IOE
             outFile.write(fileStream, false);
         }
 
-        return new OggMusicData(Gdx.audio.newMusic(outFile));
+        return new OggMusicData(outFile);
     }
 }
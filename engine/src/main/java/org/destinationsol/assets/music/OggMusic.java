@@ -38,4 +38,15 @@ protected void doReload(OggMusicData data) {
     public Music getMusic() {
         return musicData.getMusic();
     }
+
+    public boolean isOpen() {
+        return musicData.isOpen();
+    }
+
+    /**
+     * Closes the music stream, releasing its buffers. The next call to {@link #getMusic()} opens it again.
+     */
+    public void close() {
+        musicData.close();
+    }
 }
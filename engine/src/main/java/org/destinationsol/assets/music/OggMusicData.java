@@ -15,17 +15,44 @@
  */
 package org.destinationsol.assets.music;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.files.FileHandle;
 import org.terasology.gestalt.assets.AssetData;
 
+/**
+ * The data of an {@link OggMusic}. The music stream is only opened when it is first asked for, and can be closed again
+ * with {@link #close()}. While open, a stream only holds a few decoded buffers, regardless of the length of the track.
+ */
 public class OggMusicData implements AssetData {
+    private final FileHandle file;
     private Music music;
 
-    public OggMusicData(Music music) {
-        this.music = music;
+    public OggMusicData(FileHandle file) {
+        this.file = file;
     }
 
-    public Music getMusic() {
+    /**
+     * Returns the music stream, opening it if needed. Opening parses the stream headers, so it may be done away from
+     * the render thread.
+     *
+     * @return the music stream
+     */
+    public synchronized Music getMusic() {
+        if (music == null) {
+            music = Gdx.audio.newMusic(file);
+        }
         return music;
     }
+
+    public synchronized boolean isOpen() {
+        return music != null;
+    }
+
+    public synchronized void close() {
+        if (music != null) {
+            music.dispose();
+            music = null;
+        }
+    }
 }
@@ -15,7 +15,6 @@
  */
 package org.destinationsol.assets.music;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import org.destinationsol.assets.AssetDataFileHandle;
 import org.destinationsol.assets.Assets;
@@ -36,6 +35,6 @@ public OggMusicFileFormat() {
     @Override
     public OggMusicData load(ResourceUrn urn, List<AssetDataFile> inputs) throws IOException {
         FileHandle handle = new AssetDataFileHandle(inputs.get(0));
-        return new OggMusicData(Gdx.audio.newMusic(handle));
+        return new OggMusicData(handle);
     }
 }
@@ -26,23 +26,53 @@
 import org.terasology.gestalt.assets.ResourceUrn;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class responsible for playing all music throughout the game.
  * <p>
- * This class does not rely on external updates; once a music set is set to be played, it will play, even looping,
- * until another is chosen. By default, music does not play concurrently.
+ * Once a music set is set to be played, it will play, even looping, until another is chosen. By default, music does
+ * not play concurrently, except while one track cross-fades into the next.
+ * <p>
+ * Tracks are only opened when they are about to be played. Opening a track happens on a background thread, and only
+ * the track that is playing and the one that follows it in the set are kept open, so switching sets does not stall
+ * the render loop. {@link #update(float)} has to be called every tick to start tracks once they are open and to drive
+ * the cross-fades.
  */
 public class OggMusicManager {
     public static final String NO_MUSIC = "";
     public static final String MENU_MUSIC_SET = "menu";
     public static final String GAME_MUSIC_SET = "game";
-    private final Map<String, List<Music>> musicMap;
+    /**
+     * Time, in seconds, that the previous track takes to fade out when another one starts.
+     */
+    private static final float CROSS_FADE_TIME = 1.5f;
+    private static final long LOADER_SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private final Map<String, List<OggMusic>> musicMap;
+    private final ExecutorService loader;
+    /**
+     * Tracks that are no longer wanted, but may still be being opened. They are closed once their opening finishes.
+     */
+    private final Map<OggMusic, CompletableFuture<Music>> discarded;
+    private OggMusic currentTrack;
     private Music currentlyPlaying;
+    private OggMusic fadingTrack;
+    private float fadeProgress = 1;
+    private OggMusic pendingTrack;
+    private CompletableFuture<Music> pendingOpen;
+    private OggMusic prefetchedTrack;
+    private CompletableFuture<Music> prefetchedOpen;
+    private volatile boolean trackCompleted;
+    private float volume;
     private String currentlyRegisteredModule;
     private String currentMusicSet = NO_MUSIC;
     private Logger logger = LoggerFactory.getLogger(OggMusicManager.class);
@@ -53,6 +83,13 @@ public class OggMusicManager {
      */
     public OggMusicManager(GameOptions options) {
         musicMap = new HashMap<>();
+        discarded = new HashMap<>();
+        loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Music loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        volume = options.musicVolume.getVolume();
         registerMusic(GAME_MUSIC_SET, "engine:cimmerianDawn");
         registerMusic(GAME_MUSIC_SET, "engine:intoTheDark");
         registerMusic(GAME_MUSIC_SET, "engine:spaceTheatre");
@@ -70,7 +107,7 @@ public OggMusicManager(GameOptions options) {
      * @param music    Fully qualified name of the music to register (eg. {@code "engine:dreadnaught"})
      */
     public void registerMusic(String musicSet, String music) {
-        registerMusic(musicSet, Assets.getMusic(music).getMusic());
+        registerMusic(musicSet, Assets.getMusic(music));
     }
 
     /**
@@ -82,7 +119,7 @@ public void registerMusic(String musicSet, String music) {
      * @param musicSet Name of the set to register to
      * @param music    Music to register
      */
-    public void registerMusic(String musicSet, Music music) {
+    public void registerMusic(String musicSet, OggMusic music) {
         if (!musicMap.containsKey(musicSet)) {
             musicMap.put(musicSet, new ArrayList<>());
         }
@@ -101,42 +138,188 @@ public void registerMusic(String musicSet, Music music) {
      * @param options  GameOptions with volume for the music to have.
      */
     public void playMusic(final String musicSet, final GameOptions options) {
-        stopMusic();
-        if (musicMap.get(musicSet).isEmpty()) {
+        volume = options.musicVolume.getVolume();
+        List<OggMusic> tracks = musicMap.getOrDefault(musicSet, Collections.emptyList());
+        if (tracks.isEmpty()) {
+            stopMusic();
             return;
         }
-        int index = 0;
-        if (currentlyPlaying != null && musicMap.get(musicSet).contains(currentlyPlaying)) {
-            // skip the track
-            index = musicMap.get(musicSet).indexOf(currentlyPlaying);
-            if (++index + 1 > musicMap.get(musicSet).size()) { // next track, plus one because indexing is from 0
-                index = 0;
+        // skip the track, if the set is already playing
+        OggMusic latestTrack = pendingTrack != null ? pendingTrack : currentTrack;
+        int index = (tracks.indexOf(latestTrack) + 1) % tracks.size();
+        currentMusicSet = musicSet;
+        playMusicTrack(tracks.get(index));
+    }
+
+    /**
+     * Requests a music track to be played and set as current. The track starts in {@link #update(float)}, as soon as
+     * it has been opened, and the track playing before it fades out.
+     *
+     * @param track Music track to play
+     */
+    private void playMusicTrack(OggMusic track) {
+        if (track == pendingTrack) {
+            return;
+        }
+        if (pendingTrack != null) {
+            discard(pendingTrack, pendingOpen);
+        }
+        if (track == prefetchedTrack) {
+            pendingOpen = prefetchedOpen;
+        } else {
+            if (prefetchedTrack != null) {
+                discard(prefetchedTrack, prefetchedOpen);
             }
+            pendingOpen = discarded.containsKey(track) ? discarded.remove(track) : open(track);
+        }
+        pendingTrack = track;
+        prefetchedTrack = null;
+        prefetchedOpen = null;
+    }
+
+    private CompletableFuture<Music> open(OggMusic track) {
+        return CompletableFuture.supplyAsync(track::getMusic, loader);
+    }
+
+    private void discard(OggMusic track, CompletableFuture<Music> open) {
+        if (track != currentTrack && track != fadingTrack) {
+            discarded.put(track, open);
         }
-        currentMusicSet = musicSet;
-        final Music music = musicMap.get(musicSet).get(index);
-        music.setOnCompletionListener(a -> playMusic(musicSet, options));
-        playMusicTrack(music, options);
     }
 
     /**
-     * Plays a music track and sets it as current.
+     * Starts tracks whose opening has finished, advances the cross-fade and releases tracks that are no longer needed.
      *
-     * @param music   Music track to play
-     * @param options Options with volume for the track
+     * @param timeStep Time passed since the last update, in seconds.
      */
-    private void playMusicTrack(Music music, GameOptions options) {
+    public void update(float timeStep) {
+        if (trackCompleted) {
+            trackCompleted = false;
+            if (!currentMusicSet.equals(NO_MUSIC) && pendingTrack == null) {
+                playMusicTrackFromSet();
+            }
+        }
+
+        if (pendingOpen != null && pendingOpen.isDone()) {
+            startPendingTrack();
+        }
+
+        if (fadeProgress < 1) {
+            fadeProgress = Math.min(1, fadeProgress + timeStep / CROSS_FADE_TIME);
+            if (currentlyPlaying != null) {
+                currentlyPlaying.setVolume(volume * fadeProgress);
+            }
+            if (fadingTrack != null && fadingTrack.isOpen()) {
+                fadingTrack.getMusic().setVolume(volume * (1 - fadeProgress));
+            }
+            if (fadingTrack != null && fadeProgress == 1) {
+                closeTrack(fadingTrack);
+                fadingTrack = null;
+            }
+        }
+
+        Iterator<Map.Entry<OggMusic, CompletableFuture<Music>>> iterator = discarded.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<OggMusic, CompletableFuture<Music>> entry = iterator.next();
+            if (entry.getValue().isDone()) {
+                closeTrack(entry.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    private void playMusicTrackFromSet() {
+        List<OggMusic> tracks = musicMap.getOrDefault(currentMusicSet, Collections.emptyList());
+        if (tracks.isEmpty()) {
+            return;
+        }
+        playMusicTrack(tracks.get((tracks.indexOf(currentTrack) + 1) % tracks.size()));
+    }
+
+    private void startPendingTrack() {
+        Music music = pendingOpen.isCompletedExceptionally() ? null : pendingOpen.getNow(null);
+        OggMusic track = pendingTrack;
+        pendingTrack = null;
+        pendingOpen = null;
+        if (music == null) {
+            logger.warn("Could not open music track {}", track.getUrn());
+            return;
+        }
+
+        if (track == currentTrack) {
+            // The only track of the set has finished, so it just starts over
+            music.stop();
+        } else {
+            if (fadingTrack != null && fadingTrack != track) {
+                closeTrack(fadingTrack);
+            }
+            if (currentlyPlaying != null) {
+                // Only the incoming track may advance the set
+                currentlyPlaying.setOnCompletionListener(null);
+            }
+            fadingTrack = currentTrack;
+            fadeProgress = fadingTrack == null ? 1 : 0;
+        }
+        currentTrack = track;
         currentlyPlaying = music;
-        currentlyPlaying.setVolume(options.musicVolume.getVolume());
+        currentlyPlaying.setOnCompletionListener(completed -> trackCompleted = true);
+        currentlyPlaying.setVolume(fadeProgress < 1 ? 0 : volume);
         currentlyPlaying.play();
+
+        prefetchNextTrack();
     }
 
     /**
-     * Stop playing current music track.
+     * Opens the track that follows the current one in its set in the background, so that it is ready to play when the
+     * current one ends.
+     */
+    private void prefetchNextTrack() {
+        List<OggMusic> tracks = musicMap.getOrDefault(currentMusicSet, Collections.emptyList());
+        if (tracks.size() < 2) {
+            return;
+        }
+        OggMusic next = tracks.get((tracks.indexOf(currentTrack) + 1) % tracks.size());
+        if (next != currentTrack && next != fadingTrack) {
+            prefetchedTrack = next;
+            prefetchedOpen = discarded.containsKey(next) ? discarded.remove(next) : open(next);
+        }
+    }
+
+    private void closeTrack(OggMusic track) {
+        if (track == currentTrack || track == pendingTrack || track == prefetchedTrack) {
+            return;
+        }
+        if (track.isOpen()) {
+            track.getMusic().stop();
+        }
+        track.close();
+    }
+
+    /**
+     * Stop playing current music track, and close it.
      */
     private void stopMusic() {
-        if (currentlyPlaying != null) {
-            currentlyPlaying.stop();
+        if (pendingTrack != null) {
+            discard(pendingTrack, pendingOpen);
+            pendingTrack = null;
+            pendingOpen = null;
+        }
+        if (prefetchedTrack != null) {
+            discard(prefetchedTrack, prefetchedOpen);
+            prefetchedTrack = null;
+            prefetchedOpen = null;
+        }
+        if (fadingTrack != null) {
+            closeTrack(fadingTrack);
+            fadingTrack = null;
+            fadeProgress = 1;
+        }
+        if (currentTrack != null) {
+            currentlyPlaying.setOnCompletionListener(null);
+            OggMusic track = currentTrack;
+            currentTrack = null;
+            currentlyPlaying = null;
+            closeTrack(track);
         }
         currentMusicSet = NO_MUSIC;
     }
@@ -147,7 +330,10 @@ private void stopMusic() {
      * @param options GameOptions containing the requested volume.
      */
     public void changeVolume(GameOptions options) {
-        currentlyPlaying.setVolume(options.musicVolume.getVolume());
+        volume = options.musicVolume.getVolume();
+        if (currentlyPlaying != null && fadeProgress == 1) {
+            currentlyPlaying.setVolume(volume);
+        }
     }
 
     /**
@@ -159,8 +345,8 @@ public void registerModuleMusic(String moduleName, final GameOptions options) {
         if (currentlyRegisteredModule != null) {
             if (moduleName.equals(currentlyRegisteredModule)) {
                 //Skips directly to module music
-                stopMusic();
-                playMusicTrack(this.musicMap.get(GAME_MUSIC_SET).get(2), options);
+                currentMusicSet = GAME_MUSIC_SET;
+                playMusicTrack(this.musicMap.get(GAME_MUSIC_SET).get(2));
                 return;
             } else {
                 unregisterModuleMusic();
@@ -187,8 +373,8 @@ public void registerModuleMusic(String moduleName, final GameOptions options) {
         currentlyRegisteredModule = moduleName;
 
         //Skips directly to module music
-        stopMusic();
-        playMusicTrack(this.musicMap.get(GAME_MUSIC_SET).get(2), options);
+        currentMusicSet = GAME_MUSIC_SET;
+        playMusicTrack(this.musicMap.get(GAME_MUSIC_SET).get(2));
     }
 
     /**
@@ -217,7 +403,8 @@ public void registerAllMenuMusic(GameOptions options) {
 
         registerMusic(MENU_MUSIC_SET, "engine:dreadnaught");
         //Skips to module music
-        playMusicTrack(musicMap.get(MENU_MUSIC_SET).get(0), options);
+        currentMusicSet = MENU_MUSIC_SET;
+        playMusicTrack(musicMap.get(MENU_MUSIC_SET).get(0));
     }
 
     /**
@@ -238,4 +425,26 @@ public void resetMusic() {
     public String getCurrentMusicSet() {
         return currentMusicSet;
     }
+
+    /**
+     * Stops the music and closes every open track.
+     */
+    public void dispose() {
+        stopMusic();
+        // Tracks still being opened are only closed below once the loader has finished opening them
+        loader.shutdownNow();
+        try {
+            if (!loader.awaitTermination(LOADER_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Music loader did not stop in time, a track being opened may be left open");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        discarded.clear();
+        for (List<OggMusic> tracks : musicMap.values()) {
+            for (OggMusic track : tracks) {
+                track.close();
+            }
+        }
+    }
 }
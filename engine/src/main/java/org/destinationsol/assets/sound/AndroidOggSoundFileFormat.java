@@ -42,6 +42,6 @@ public OggSoundData load(ResourceUrn urn, List<AssetDataFile> inputs) throws IOE
             outFile.write(fileStream, false);
         }
 
-        return new OggSoundData(Gdx.audio.newSound(outFile));
+        return new OggSoundData(outFile);
     }
 }
@@ -16,17 +16,20 @@
 package org.destinationsol.assets.sound;
 
 import com.badlogic.gdx.audio.Sound;
+import org.destinationsol.assets.Assets;
 import org.terasology.gestalt.assets.Asset;
 import org.terasology.gestalt.assets.AssetType;
 import org.terasology.gestalt.assets.ResourceUrn;
 import org.terasology.gestalt.assets.module.annotations.RegisterAssetType;
 
 @RegisterAssetType(folderName = "sounds", factoryClass = OggSoundFactory.class)
-public class OggSound extends Asset<OggSoundData> implements PlayableSound {
+public class OggSound extends Asset<OggSoundData> implements PlayableSound, ResidentSound {
+    private final String residencyKey;
     private OggSoundData soundData;
 
     public OggSound(ResourceUrn urn, AssetType<?, OggSoundData> assetType, OggSoundData data) {
         super(urn, assetType);
+        residencyKey = urn.toString();
         reload(data);
     }
 
@@ -58,9 +61,37 @@ public float getBaseVolume() {
     }
 
     public Sound getSound() {
+        Assets.getSoundResidencyManager().use(residencyKey, this);
         return soundData.getSound();
     }
 
+    /**
+     * Decodes the sound ahead of its first use, see {@link SoundResidencyManager}.
+     */
+    public void prefetch() {
+        Assets.getSoundResidencyManager().prefetch(residencyKey, this);
+    }
+
+    @Override
+    public boolean isResident() {
+        return soundData.isLoaded();
+    }
+
+    @Override
+    public void makeResident() {
+        soundData.load();
+    }
+
+    @Override
+    public void evict() {
+        soundData.unload();
+    }
+
+    @Override
+    public long getResidentSize() {
+        return soundData.getDecodedSize();
+    }
+
     public void doDispose() {
         soundData.dispose();
     }
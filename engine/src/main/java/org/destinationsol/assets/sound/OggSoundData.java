@@ -15,18 +15,38 @@
  */
 package org.destinationsol.assets.sound;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.terasology.gestalt.assets.AssetData;
 
+/**
+ * The data of an {@link OggSound}. The sound is only decoded the first time it is needed, and can be released again
+ * with {@link #unload()} - the file it came from is kept, so it can be decoded again later.
+ */
 public class OggSoundData implements AssetData {
+    /**
+     * Rough ratio between the size of a decoded sound and its ogg file, used to estimate the memory a sound takes up.
+     */
+    private static final int DECODED_SIZE_RATIO = 10;
+    /**
+     * The ogg file size assumed when the actual size cannot be found, about that of a typical sound effect.
+     */
+    private static final long FALLBACK_FILE_SIZE = 64 * 1024;
+    private static final Logger logger = LoggerFactory.getLogger(OggSoundData.class);
+
+    private final FileHandle file;
     private Sound sound;
+    private long decodedSize;
 
     private float loopTime;
     private float baseVolume;
     private float basePitch;
 
-    public OggSoundData(Sound sound) {
-        this.sound = sound;
+    public OggSoundData(FileHandle file) {
+        this.file = file;
         this.loopTime = 0.0f;
         this.baseVolume = 1.0f;
         this.basePitch = 1.0f;
@@ -55,10 +75,44 @@ public void setBasePitch(float basePitch) {
     }
 
     public Sound getSound() {
+        load();
         return sound;
     }
 
+    public boolean isLoaded() {
+        return sound != null;
+    }
+
+    public void load() {
+        if (sound == null) {
+            sound = Gdx.audio.newSound(file);
+        }
+    }
+
+    public void unload() {
+        if (sound != null) {
+            sound.dispose();
+            sound = null;
+        }
+    }
+
+    /**
+     * @return the approximate size of the decoded sound, in bytes
+     */
+    public long getDecodedSize() {
+        if (decodedSize == 0) {
+            long fileSize = file.length();
+            if (fileSize <= 0) {
+                // The estimate is only used for the residency budget, so a missing size is not fatal
+                logger.warn("Could not find the size of sound file {}, assuming {} bytes", file, FALLBACK_FILE_SIZE);
+                fileSize = FALLBACK_FILE_SIZE;
+            }
+            decodedSize = fileSize * DECODED_SIZE_RATIO;
+        }
+        return decodedSize;
+    }
+
     public void dispose() {
-        sound.dispose();
+        unload();
     }
 }
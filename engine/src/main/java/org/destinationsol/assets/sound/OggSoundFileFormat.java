@@ -15,7 +15,6 @@
  */
 package org.destinationsol.assets.sound;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import org.destinationsol.assets.AssetDataFileHandle;
 import org.destinationsol.assets.Assets;
@@ -36,6 +35,6 @@ public OggSoundFileFormat() {
     @Override
     public OggSoundData load(ResourceUrn urn, List<AssetDataFile> inputs) throws IOException {
         FileHandle handle = new AssetDataFileHandle(inputs.get(0));
-        return new OggSoundData(Gdx.audio.newSound(handle));
+        return new OggSoundData(handle);
     }
 }
@@ -57,8 +57,9 @@
  */
 public class OggSoundManager implements UpdateAwareSystem {
     /**
-     * A container for all the sounds that have been so far loaded in the game. Sounds are loaded on as needed basis,
-     * and once loaded, they persist here till the end of game. String is the fully qualified name of the sound
+     * A container for all the sounds that have been so far requested in the game. Sounds are requested on as needed
+     * basis, and once requested, they persist here till the end of game. Their decoded data however is only held while
+     * the {@link SoundResidencyManager} keeps it resident. String is the fully qualified name of the sound
      * ("module:sound_name").
      */
     private final Map<String, OggSound> soundMap;
@@ -122,6 +123,22 @@ public OggSound getSound(String path, float basePitch) {
         return sound;
     }
 
+    /**
+     * Hints that a sound is about to be needed, so that it is decoded before it is first played. Every sound of a
+     * sound set is prefetched.
+     *
+     * @param playableSound The sound to prefetch, or null.
+     */
+    public void prefetch(@Nullable PlayableSound playableSound) {
+        if (playableSound instanceof OggSoundSet) {
+            for (String urn : ((OggSoundSet) playableSound).getUrns()) {
+                getSound(urn).prefetch();
+            }
+        } else if (playableSound != null) {
+            playableSound.getOggSound().prefetch();
+        }
+    }
+
     /**
      * Plays a sound at specified position, or coming from specific source.
      * <p>
@@ -299,6 +316,15 @@ private void cleanLooped(SolGame game) {
         loopedSoundMap.keySet().removeIf(o -> o.shouldBeRemoved(game));
     }
 
+    /**
+     * Forgets the looped sounds of an object, for objects that are reused after having been removed from the game.
+     *
+     * @param source Object that played the looped sounds.
+     */
+    public void removeLooped(SolObject source) {
+        loopedSoundMap.remove(source);
+    }
+
     /**
      * Handles deallocation of resources by the libGdx backend.
      */
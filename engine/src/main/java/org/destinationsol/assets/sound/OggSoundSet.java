@@ -45,6 +45,15 @@ public OggSound getOggSound() {
         return oggSoundManager.getSound(SolRandom.randomElement(urnList));
     }
 
+    /**
+     * Returns every sound the set can pick from.
+     *
+     * @return the urns of the sounds in this set
+     */
+    public List<String> getUrns() {
+        return urnList;
+    }
+
     @Override
     public float getBasePitch() {
         return basePitch;
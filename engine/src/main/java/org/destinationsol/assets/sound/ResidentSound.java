@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.assets.sound;
+
+/**
+ * A sound whose decoded audio can be released and reloaded on demand, while the sound object itself stays valid for
+ * everyone holding a reference to it.
+ *
+ * @see SoundResidencyManager
+ */
+public interface ResidentSound {
+    /**
+     * @return true if the backing data is currently loaded
+     */
+    boolean isResident();
+
+    /**
+     * Loads the backing data, if it is not loaded already.
+     */
+    void makeResident();
+
+    /**
+     * Releases the backing data. The next use of the sound loads it again.
+     */
+    void evict();
+
+    /**
+     * @return the approximate number of bytes the backing data occupies while resident
+     */
+    long getResidentSize();
+}
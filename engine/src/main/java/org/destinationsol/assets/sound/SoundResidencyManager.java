@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.assets.sound;
+
+import org.destinationsol.ui.DebugCollector;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of which {@link ResidentSound}s currently have their backing data loaded, and releases the least recently
+ * used ones once their combined size exceeds a memory budget.
+ * <p>
+ * Sounds are loaded on their first use, or earlier if a caller expects to need them soon and passes a hint through
+ * {@link #prefetch(String, ResidentSound)}. Sounds used within the last {@link #MIN_RESIDENT_TIME_NANOS} are never
+ * released, so that they are not cut off while still playing.
+ */
+public class SoundResidencyManager {
+    public static final int DEFAULT_BUDGET_MEGABYTES = 128;
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+    private static final long MIN_RESIDENT_TIME_NANOS = 10_000_000_000L;
+
+    /**
+     * Resident sounds by their urn, in access order - the eldest entry is the least recently used one.
+     */
+    private final LinkedHashMap<String, Entry> residents;
+    private long budget;
+    private long residentBytes;
+    private int hits;
+    private int misses;
+    private int prefetches;
+    private int evictions;
+
+    public SoundResidencyManager(int budgetMegabytes) {
+        residents = new LinkedHashMap<>(64, .75f, true);
+        setBudget(budgetMegabytes);
+    }
+
+    /**
+     * Sets the memory budget, releasing sounds straight away if the new budget is already exceeded.
+     *
+     * @param budgetMegabytes the budget, in megabytes
+     */
+    public synchronized void setBudget(int budgetMegabytes) {
+        budget = budgetMegabytes * BYTES_PER_MEGABYTE;
+        trim(null, System.nanoTime());
+    }
+
+    /**
+     * Marks an sound as used, loading its backing data if it is not resident.
+     *
+     * @param urn the urn of the sound
+     * @param sound the sound being used
+     */
+    public synchronized void use(String urn, ResidentSound sound) {
+        long now = System.nanoTime();
+        Entry entry = residents.get(urn);
+        if (entry != null && entry.sound == sound && sound.isResident()) {
+            entry.lastUse = now;
+            hits++;
+            return;
+        }
+        misses++;
+        load(urn, sound, now);
+    }
+
+    /**
+     * Hints that an sound will be used soon, loading its backing data ahead of time. Does nothing if the sound is
+     * already resident.
+     *
+     * @param urn the urn of the sound
+     * @param sound the sound expected to be used
+     */
+    public synchronized void prefetch(String urn, ResidentSound sound) {
+        Entry entry = residents.get(urn);
+        if (entry != null && entry.sound == sound && sound.isResident()) {
+            // Looking it up moved it to the most recently used end, so its time must follow
+            entry.lastUse = System.nanoTime();
+            return;
+        }
+        prefetches++;
+        load(urn, sound, System.nanoTime());
+    }
+
+    private void load(String urn, ResidentSound sound, long now) {
+        Entry previous = residents.remove(urn);
+        if (previous != null) {
+            residentBytes -= previous.size;
+        }
+
+        sound.makeResident();
+        Entry entry = new Entry(sound, sound.getResidentSize(), now);
+        residents.put(urn, entry);
+        residentBytes += entry.size;
+        trim(urn, now);
+    }
+
+    /**
+     * Releases the least recently used sounds until the resident size fits in the budget, or nothing more can be
+     * released. The residents are in the order of their last use, so the first one that must stay resident means that
+     * all the others must too.
+     *
+     * @param keep the urn of an sound that must stay resident, or null
+     * @param now the current value of {@link System#nanoTime()}
+     */
+    private void trim(String keep, long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = residents.entrySet().iterator();
+        while (residentBytes > budget && iterator.hasNext()) {
+            Map.Entry<String, Entry> next = iterator.next();
+            Entry entry = next.getValue();
+            if (next.getKey().equals(keep) || now - entry.lastUse < MIN_RESIDENT_TIME_NANOS) {
+                break;
+            }
+            entry.sound.evict();
+            residentBytes -= entry.size;
+            evictions++;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Forgets every tracked sound without releasing anything, for when the asset environment is replaced.
+     */
+    public synchronized void clear() {
+        residents.clear();
+        residentBytes = 0;
+    }
+
+    public synchronized long getResidentBytes() {
+        return residentBytes;
+    }
+
+    public synchronized int getResidentCount() {
+        return residents.size();
+    }
+
+    /**
+     * @return the fraction of uses that found the sound already resident
+     */
+    public synchronized float getHitRate() {
+        int uses = hits + misses;
+        return uses == 0 ? 1 : (float) hits / uses;
+    }
+
+    public synchronized int getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Reports the residency statistics through the {@link DebugCollector}.
+     */
+    public synchronized void debug() {
+        DebugCollector.debug("Resident sounds", residents.size());
+        DebugCollector.debug("Resident sound KiB", (int) (residentBytes / 1024));
+        DebugCollector.debug("Sound budget KiB", (int) (budget / 1024));
+        DebugCollector.debug("Sound hit rate", getHitRate());
+        DebugCollector.debug("Sound uses", hits + misses);
+        DebugCollector.debug("Sounds prefetched", prefetches);
+        DebugCollector.debug("Sounds evicted", evictions);
+    }
+
+    private static class Entry {
+        private final ResidentSound sound;
+        private final long size;
+        private long lastUse;
+
+        Entry(ResidentSound sound, long size, long lastUse) {
+            this.sound = sound;
+            this.size = size;
+            this.lastUse = lastUse;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 The Terasology Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.entitysystem;
+
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The component types an {@link EntityJob} reads and writes. A job runs over every entity having all of them. Two jobs
+ * conflict when either writes a type the other reads or writes, and conflicting jobs never run at the same time.
+ */
+public final class ComponentAccess {
+    private final Set<Class<? extends Component>> reads;
+    private final Set<Class<? extends Component>> writes;
+
+    private ComponentAccess(Set<Class<? extends Component>> reads, Set<Class<? extends Component>> writes) {
+        this.reads = reads;
+        this.writes = writes;
+    }
+
+    @SafeVarargs
+    public static ComponentAccess reading(Class<? extends Component>... types) {
+        return new ComponentAccess(new LinkedHashSet<>(Arrays.asList(types)), new LinkedHashSet<>());
+    }
+
+    @SafeVarargs
+    public static ComponentAccess writing(Class<? extends Component>... types) {
+        return reading().andWriting(types);
+    }
+
+    /**
+     * @return a copy of this access, also writing the given types
+     */
+    @SafeVarargs
+    public final ComponentAccess andWriting(Class<? extends Component>... types) {
+        Set<Class<? extends Component>> newWrites = new LinkedHashSet<>(writes);
+        newWrites.addAll(Arrays.asList(types));
+        Set<Class<? extends Component>> newReads = new LinkedHashSet<>(reads);
+        newReads.removeAll(newWrites);
+        return new ComponentAccess(newReads, newWrites);
+    }
+
+    public boolean conflictsWith(ComponentAccess other) {
+        for (Class<? extends Component> type : writes) {
+            if (other.reads.contains(type) || other.writes.contains(type)) {
+                return true;
+            }
+        }
+        for (Class<? extends Component> type : other.writes) {
+            if (reads.contains(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Set<Class<? extends Component>> getWrites() {
+        return writes;
+    }
+
+    /**
+     * @return every type read or written, which is what an entity must have for the job to run on it
+     */
+    @SuppressWarnings("unchecked")
+    Class<? extends Component>[] getAllTypes() {
+        Set<Class<? extends Component>> types = new LinkedHashSet<>(writes);
+        types.addAll(reads);
+        return types.toArray(new Class[0]);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 The Terasology Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.entitysystem;
+
+import org.terasology.gestalt.entitysystem.component.Component;
+import org.terasology.gestalt.entitysystem.component.management.ComponentType;
+import org.terasology.gestalt.entitysystem.component.store.ComponentStore;
+
+import java.util.BitSet;
+
+/**
+ * Wraps a component store to record the ids of the entities whose components are set or removed through it. Creating
+ * an entity sets its components and deleting one removes them, so every change that needs saving passes through here.
+ *
+ * @param <T> the component type of the store
+ */
+final class DirtyTrackingComponentStore<T extends Component> implements ComponentStore<T> {
+    private final ComponentStore<T> store;
+    /**
+     * Shared by the stores of all component types, and locked on since jobs may set components from several threads.
+     */
+    private final BitSet dirtyEntities;
+
+    DirtyTrackingComponentStore(ComponentStore<T> store, BitSet dirtyEntities) {
+        this.store = store;
+        this.dirtyEntities = dirtyEntities;
+    }
+
+    @Override
+    public ComponentType<T> getType() {
+        return store.getType();
+    }
+
+    @Override
+    public boolean has(int entityId) {
+        return store.has(entityId);
+    }
+
+    @Override
+    public boolean get(int entityId, T into) {
+        return store.get(entityId, into);
+    }
+
+    @Override
+    public boolean set(int entityId, T component) {
+        markDirty(entityId);
+        return store.set(entityId, component);
+    }
+
+    @Override
+    public T remove(int entityId) {
+        T removed = store.remove(entityId);
+        if (removed != null) {
+            markDirty(entityId);
+        }
+        return removed;
+    }
+
+    @Override
+    public void extend(int capacity) {
+        store.extend(capacity);
+    }
+
+    @Override
+    public int iterationCost() {
+        return store.iterationCost();
+    }
+
+    @Override
+    public ComponentIterator<T> iterate() {
+        return store.iterate();
+    }
+
+    private void markDirty(int entityId) {
+        synchronized (dirtyEntities) {
+            dirtyEntities.set(entityId);
+        }
+    }
+}
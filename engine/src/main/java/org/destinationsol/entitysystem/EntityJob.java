@@ -0,0 +1,34 @@
+/*
+ * Copyright 2020 The Terasology Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.entitysystem;
+
+/**
+ * Work done on each entity matching a {@link ComponentAccess}, which the {@link EntityJobScheduler} may spread across
+ * several threads.
+ */
+@FunctionalInterface
+public interface EntityJob {
+    /**
+     * Processes the entity in the given row of the query. This is called from worker threads, so it may only look at
+     * the components of its row and change those its access declares as written. It must not go through the entity
+     * manager, send events or touch any other shared state.
+     *
+     * @param query the query over the entities of the job, already refreshed
+     * @param row the row of the entity to process
+     * @return true if any written component of the row was changed and has to be stored back
+     */
+    boolean process(EntityQuery query, int row);
+}
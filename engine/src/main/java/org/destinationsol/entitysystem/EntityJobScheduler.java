@@ -0,0 +1,205 @@
+/*
+ * Copyright 2020 The Terasology Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.entitysystem;
+
+import org.destinationsol.game.DebugOptions;
+import org.terasology.gestalt.entitysystem.component.Component;
+import org.terasology.gestalt.entitysystem.entity.EntityRef;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs {@link EntityJob}s over the entities matching their {@link ComponentAccess}, on a fork-join pool.
+ * <p>
+ * Jobs are submitted during a tick and run together by {@link #run()}. They are grouped, in the order they were
+ * submitted, into waves of jobs that do not conflict with each other; a job waits for the next wave if it conflicts
+ * with a job of the current one. Within a wave, the matching entities of each job are split into chunks of
+ * {@link #CHUNK_SIZE} rows, and all chunks of all jobs are processed in parallel. Components are read into the
+ * {@link EntityQuery} of each job before the wave starts, and the changed ones are stored back on the calling thread
+ * after it ends, in row order, so the worker threads never touch the entity manager.
+ * <p>
+ * With {@link Ordering#SEQUENTIAL}, every job runs on the calling thread, one row after the other, which makes failures
+ * reproducible and is what tests should use.
+ */
+public class EntityJobScheduler {
+    /**
+     * The number of rows processed by one task at most.
+     */
+    public static final int CHUNK_SIZE = 256;
+    private static final ForkJoinPool POOL = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    private final EntitySystemManager entitySystemManager;
+    private final List<ScheduledJob> jobs;
+    private Ordering ordering;
+
+    EntityJobScheduler(EntitySystemManager entitySystemManager) {
+        this.entitySystemManager = entitySystemManager;
+        jobs = new ArrayList<>();
+        ordering = DebugOptions.SEQUENTIAL_ENTITY_JOBS ? Ordering.SEQUENTIAL : Ordering.PARALLEL;
+    }
+
+    /**
+     * Queues a job to be run by the next {@link #run()}.
+     *
+     * @param access the components the job reads and writes
+     * @param job the work to do on each entity having all of them
+     */
+    public void submit(ComponentAccess access, EntityJob job) {
+        jobs.add(new ScheduledJob(access, job));
+    }
+
+    /**
+     * Runs the queued jobs, and returns when all of them are done and their changes stored.
+     */
+    public void run() {
+        List<ScheduledJob> wave = new ArrayList<>();
+        while (!jobs.isEmpty()) {
+            wave.clear();
+            for (int i = 0; i < jobs.size(); i++) {
+                ScheduledJob job = jobs.get(i);
+                // Earlier jobs include those of the wave, and those that have to wait for a later one
+                if (!conflictsWithAny(job, jobs.subList(0, i))) {
+                    wave.add(job);
+                }
+            }
+            jobs.removeAll(wave);
+            runWave(wave);
+        }
+    }
+
+    private static boolean conflictsWithAny(ScheduledJob job, List<ScheduledJob> others) {
+        for (ScheduledJob other : others) {
+            if (job.access.conflictsWith(other.access)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void runWave(List<ScheduledJob> wave) {
+        Set<EntityQuery> refreshed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<RowRangeTask> tasks = new ArrayList<>();
+        for (ScheduledJob job : wave) {
+            job.query = entitySystemManager.getQuery(job.access.getAllTypes());
+            if (refreshed.add(job.query)) {
+                job.query.refresh();
+            }
+            job.changed = new boolean[job.query.size()];
+            tasks.add(new RowRangeTask(job, 0, job.query.size()));
+        }
+
+        if (ordering == Ordering.SEQUENTIAL) {
+            for (RowRangeTask task : tasks) {
+                task.processRows();
+            }
+        } else {
+            POOL.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+
+        for (ScheduledJob job : wave) {
+            storeChanges(job);
+        }
+    }
+
+    private void storeChanges(ScheduledJob job) {
+        Set<Class<? extends Component>> writes = job.access.getWrites();
+        for (int row = 0; row < job.changed.length; row++) {
+            if (!job.changed[row]) {
+                continue;
+            }
+            EntityRef entity = job.query.getEntity(row);
+            for (Class<? extends Component> type : writes) {
+                entity.setComponent(job.query.get(row, type));
+            }
+        }
+        job.query = null;
+        job.changed = null;
+    }
+
+    public Ordering getOrdering() {
+        return ordering;
+    }
+
+    public void setOrdering(Ordering ordering) {
+        this.ordering = ordering;
+    }
+
+    public enum Ordering {
+        /**
+         * Spread the rows of the jobs across the worker threads of the pool.
+         */
+        PARALLEL,
+        /**
+         * Process every row on the calling thread, jobs in the order their waves run and rows in query order.
+         */
+        SEQUENTIAL
+    }
+
+    private static final class ScheduledJob {
+        private final ComponentAccess access;
+        private final EntityJob job;
+        private EntityQuery query;
+        private boolean[] changed;
+
+        private ScheduledJob(ComponentAccess access, EntityJob job) {
+            this.access = access;
+            this.job = job;
+        }
+    }
+
+    /**
+     * Processes a range of rows of a job, splitting itself in halves down to {@link #CHUNK_SIZE} rows.
+     */
+    private static final class RowRangeTask extends RecursiveAction {
+        private final ScheduledJob job;
+        private final int from;
+        private final int to;
+
+        private RowRangeTask(ScheduledJob job, int from, int to) {
+            this.job = job;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                processRows();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RowRangeTask(job, from, middle), new RowRangeTask(job, middle, to));
+        }
+
+        private void processRows() {
+            EntityQuery query = job.query;
+            boolean[] changed = job.changed;
+            for (int row = from; row < to; row++) {
+                changed[row] = job.job.process(query, row);
+            }
+        }
+    }
+}
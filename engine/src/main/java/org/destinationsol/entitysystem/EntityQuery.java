@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 The Terasology Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.entitysystem;
+
+import org.terasology.gestalt.entitysystem.component.Component;
+import org.terasology.gestalt.entitysystem.entity.EntityIterator;
+import org.terasology.gestalt.entitysystem.entity.EntityManager;
+import org.terasology.gestalt.entitysystem.entity.EntityRef;
+
+import java.util.Arrays;
+
+/**
+ * A cached query over all entities having a given set of components, obtained from
+ * {@link EntitySystemManager#getQuery(Class[])}.
+ * <p>
+ * Each {@link #refresh()} gathers the matching entities and copies of their components into dense columns, one per
+ * component type, indexed by row. The component instances are kept and refilled on later refreshes, so iterating a
+ * query neither allocates nor goes through {@link EntityRef#getComponent(Class)} and its {@code Optional}. The
+ * components are copies: a system changing them writes them back with {@link EntityRef#setComponent(Component)}, as it
+ * would a component it got from the entity.
+ * <pre>{@code
+ * for (int row = 0, size = query.refresh(); row < size; row++) {
+ *     Position position = query.get(row, Position.class);
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class EntityQuery {
+    private static final int INITIAL_CAPACITY = 64;
+    private final EntityManager entityManager;
+    private final Class<? extends Component>[] types;
+    private final Component[] scratch;
+    private final Component[][] columns;
+    private EntityRef[] entities;
+    private int size;
+
+    EntityQuery(EntityManager entityManager, Class<? extends Component>[] types) {
+        this.entityManager = entityManager;
+        this.types = types;
+        scratch = new Component[types.length];
+        columns = new Component[types.length][];
+        for (int i = 0; i < types.length; i++) {
+            scratch[i] = newComponent(types[i]);
+            columns[i] = new Component[INITIAL_CAPACITY];
+        }
+        entities = new EntityRef[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Gathers the entities currently matching the query.
+     *
+     * @return the number of matching entities, which is the number of rows
+     */
+    @SuppressWarnings("unchecked")
+    public int refresh() {
+        int row = 0;
+        EntityIterator iterator = entityManager.iterate(scratch);
+        while (iterator.next()) {
+            if (row == entities.length) {
+                grow();
+            }
+            entities[row] = iterator.getEntity();
+            for (int i = 0; i < types.length; i++) {
+                Component[] column = columns[i];
+                if (column[row] == null) {
+                    column[row] = newComponent(types[i]);
+                }
+                column[row].copy(scratch[i]);
+            }
+            row++;
+        }
+        if (size > row) {
+            // Let go of the entities no longer matching
+            Arrays.fill(entities, row, size, null);
+        }
+        size = row;
+        return size;
+    }
+
+    /**
+     * @return the number of entities found by the last {@link #refresh()}
+     */
+    public int size() {
+        return size;
+    }
+
+    public EntityRef getEntity(int row) {
+        return entities[row];
+    }
+
+    /**
+     * Returns a component of the entity in the given row, as it was at the last {@link #refresh()}.
+     *
+     * @param row the row of the entity
+     * @param type one of the component types of the query
+     * @return the component of that type
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Component> T get(int row, Class<T> type) {
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == type) {
+                return (T) columns[i][row];
+            }
+        }
+        throw new IllegalArgumentException(type + " is not part of this query");
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Arrays.copyOf(columns[i], capacity);
+        }
+    }
+
+    private static Component newComponent(Class<? extends Component> type) {
+        try {
+            return type.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot query component type " + type, e);
+        }
+    }
+}
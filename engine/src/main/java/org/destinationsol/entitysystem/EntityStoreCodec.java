@@ -0,0 +1,634 @@
+/*
+ * Copyright 2020 The Terasology Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.entitysystem;
+
+import com.badlogic.gdx.math.Vector2;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import org.destinationsol.protobuf.EntityData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.gestalt.assets.ResourceUrn;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes entity stores in the version 2 format described in {@code EntityDataV2.proto}, and reads stores in
+ * the version 1 format of {@code EntityData.proto}.
+ */
+final class EntityStoreCodec {
+    static final int VERSION = 2;
+    /**
+     * The first byte of every version 2 store: the tag of its version field.
+     */
+    static final int VERSION_2_TAG = (2 << 3) | WireFormat.WIRETYPE_VARINT;
+
+    private static final int STORE_VERSION = 2;
+    private static final int STORE_COMPONENT_TYPE = 3;
+    private static final int STORE_ENTITY = 4;
+    private static final int STORE_REMOVED_ENTITY = 5;
+    private static final int STORE_GENERATION = 6;
+    private static final int TYPE_NAME = 1;
+    private static final int TYPE_FIELD_NAME = 2;
+    private static final int ENTITY_ID = 1;
+    private static final int ENTITY_COMPONENT = 2;
+    private static final int ENTITY_X = 3;
+    private static final int ENTITY_Y = 4;
+    private static final int COMPONENT_TYPE = 1;
+    private static final int COMPONENT_FIELD = 2;
+    private static final int FIELD_INDEX = 1;
+    private static final int DOUBLE_VALUE = 2;
+    private static final int FLOAT_VALUE = 3;
+    private static final int INT_VALUE = 4;
+    private static final int LONG_VALUE = 5;
+    private static final int BOOL_VALUE = 6;
+    private static final int STRING_VALUE = 7;
+    private static final int URN_VALUE = 8;
+    private static final int VECTOR_VALUE = 9;
+    private static final int VECTOR_X = 1;
+    private static final int VECTOR_Y = 2;
+
+    private static final Logger logger = LoggerFactory.getLogger(EntityStoreCodec.class);
+
+    private EntityStoreCodec() {
+    }
+
+    /**
+     * Tells whether values of the given type can be stored.
+     */
+    static boolean isSupported(Class<?> type) {
+        return type == double.class || type == float.class || type == int.class || type == long.class
+                || type == boolean.class || type == String.class || type == ResourceUrn.class || type == Vector2.class;
+    }
+
+    /**
+     * Reads a whole version 2 store.
+     */
+    static StoreData read(InputStream stream) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(stream);
+        input.setSizeLimit(Integer.MAX_VALUE);
+        StoreData data = new StoreData();
+        List<ComponentType> types = new ArrayList<>();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case STORE_VERSION:
+                    int version = input.readInt32();
+                    if (version > VERSION) {
+                        throw new InvalidProtocolBufferException("Unsupported entity store version " + version);
+                    }
+                    break;
+                case STORE_GENERATION:
+                    data.generation = input.readInt64();
+                    break;
+                case STORE_COMPONENT_TYPE:
+                    types.add(readType(input));
+                    break;
+                case STORE_ENTITY:
+                    data.entities.add(readEntity(input, types));
+                    break;
+                case STORE_REMOVED_ENTITY:
+                    data.removedEntities.add(input.readInt64());
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Lists the entities of a version 2 store without decoding their components. Only the id and location of each
+     * entity are read; the rest is skipped over, to be decoded later by {@link #readEntity(ByteBuffer, IndexEntry, List)}.
+     *
+     * @param buffer the whole store
+     */
+    static StoreIndex index(ByteBuffer buffer) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(buffer.duplicate());
+        input.setSizeLimit(Integer.MAX_VALUE);
+        StoreIndex index = new StoreIndex();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case STORE_VERSION:
+                    int version = input.readInt32();
+                    if (version > VERSION) {
+                        throw new InvalidProtocolBufferException("Unsupported entity store version " + version);
+                    }
+                    break;
+                case STORE_GENERATION:
+                    index.generation = input.readInt64();
+                    break;
+                case STORE_COMPONENT_TYPE:
+                    index.types.add(readType(input));
+                    break;
+                case STORE_ENTITY:
+                    index.entries.add(indexEntity(input));
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        return index;
+    }
+
+    private static IndexEntry indexEntity(CodedInputStream input) throws IOException {
+        int length = input.readRawVarint32();
+        IndexEntry entry = new IndexEntry();
+        entry.offset = input.getTotalBytesRead();
+        entry.length = length;
+        int limit = input.pushLimit(length);
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            int fieldNumber = WireFormat.getTagFieldNumber(tag);
+            if (fieldNumber == ENTITY_ID) {
+                entry.id = input.readInt64();
+            } else if (fieldNumber == ENTITY_X) {
+                entry.hasLocation = true;
+                entry.x = input.readFloat();
+            } else if (fieldNumber == ENTITY_Y) {
+                entry.hasLocation = true;
+                entry.y = input.readFloat();
+            } else {
+                // The id and location come first, so the components need not be looked at
+                input.skipRawBytes(input.getBytesUntilLimit());
+            }
+        }
+        input.popLimit(limit);
+        return entry;
+    }
+
+    /**
+     * Decodes one entity listed by {@link #index(ByteBuffer)}.
+     */
+    static EntityRecord readEntity(ByteBuffer buffer, IndexEntry entry, List<ComponentType> types) throws IOException {
+        ByteBuffer entityBuffer = buffer.duplicate();
+        entityBuffer.position(entry.offset);
+        entityBuffer.limit(entry.offset + entry.length);
+        return readEntityFields(CodedInputStream.newInstance(entityBuffer), types);
+    }
+
+    private static ComponentType readType(CodedInputStream input) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        String name = "";
+        List<String> fieldNames = new ArrayList<>();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case TYPE_NAME:
+                    name = input.readString();
+                    break;
+                case TYPE_FIELD_NAME:
+                    fieldNames.add(input.readString());
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        input.popLimit(limit);
+        return new ComponentType(name, fieldNames.toArray(new String[0]));
+    }
+
+    private static EntityRecord readEntity(CodedInputStream input, List<ComponentType> types) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        EntityRecord entity = readEntityFields(input, types);
+        input.popLimit(limit);
+        return entity;
+    }
+
+    private static EntityRecord readEntityFields(CodedInputStream input, List<ComponentType> types) throws IOException {
+        EntityRecord entity = new EntityRecord(0);
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ENTITY_ID:
+                    entity.id = input.readInt64();
+                    break;
+                case ENTITY_X:
+                    entity.hasLocation = true;
+                    entity.x = input.readFloat();
+                    break;
+                case ENTITY_Y:
+                    entity.hasLocation = true;
+                    entity.y = input.readFloat();
+                    break;
+                case ENTITY_COMPONENT:
+                    entity.components.add(readComponent(input, types));
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        return entity;
+    }
+
+    private static ComponentRecord readComponent(CodedInputStream input, List<ComponentType> types) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        ComponentRecord component = null;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case COMPONENT_TYPE:
+                    int typeIndex = input.readInt32();
+                    if (typeIndex < 0 || typeIndex >= types.size()) {
+                        throw new InvalidProtocolBufferException("Unknown component type index " + typeIndex);
+                    }
+                    component = new ComponentRecord(types.get(typeIndex));
+                    break;
+                case COMPONENT_FIELD:
+                    if (component == null) {
+                        throw new InvalidProtocolBufferException("Component field before component type");
+                    }
+                    readField(input, component);
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        input.popLimit(limit);
+        if (component == null) {
+            throw new InvalidProtocolBufferException("Component without a type");
+        }
+        return component;
+    }
+
+    private static void readField(CodedInputStream input, ComponentRecord component) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        int index = -1;
+        Object value = null;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case FIELD_INDEX:
+                    index = input.readInt32();
+                    break;
+                case DOUBLE_VALUE:
+                    value = input.readDouble();
+                    break;
+                case FLOAT_VALUE:
+                    value = input.readFloat();
+                    break;
+                case INT_VALUE:
+                    value = input.readSInt32();
+                    break;
+                case LONG_VALUE:
+                    value = input.readSInt64();
+                    break;
+                case BOOL_VALUE:
+                    value = input.readBool();
+                    break;
+                case STRING_VALUE:
+                    value = input.readString();
+                    break;
+                case URN_VALUE:
+                    value = new ResourceUrn(input.readString());
+                    break;
+                case VECTOR_VALUE:
+                    value = readVector(input);
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        input.popLimit(limit);
+        if (index < 0 || index >= component.values.length) {
+            throw new InvalidProtocolBufferException("Unknown field index " + index);
+        }
+        component.values[index] = value;
+    }
+
+    private static Vector2 readVector(CodedInputStream input) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        Vector2 vector = new Vector2();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case VECTOR_X:
+                    vector.x = input.readFloat();
+                    break;
+                case VECTOR_Y:
+                    vector.y = input.readFloat();
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        input.popLimit(limit);
+        return vector;
+    }
+
+    /**
+     * Applies a checkpoint or delta on top of the entities read so far: removed entities are dropped, and stored
+     * entities replace any entity of the same id.
+     *
+     * @param data the store to apply
+     * @param records the entities read so far, by their stored ids
+     */
+    static void apply(StoreData data, Map<Long, EntityRecord> records) {
+        for (Long removedId : data.removedEntities) {
+            records.remove(removedId);
+        }
+        for (EntityRecord record : data.entities) {
+            records.put(record.id, record);
+        }
+    }
+
+    /**
+     * Reads a whole version 1 store, parsing the string value of each field by its type string.
+     */
+    static List<EntityRecord> readVersion1(InputStream input) throws IOException {
+        EntityData.EntityStore store = EntityData.EntityStore.parseFrom(input);
+        List<EntityRecord> entities = new ArrayList<>(store.getEntityCount());
+        for (EntityData.Entity entity : store.getEntityList()) {
+            EntityRecord record = new EntityRecord(entity.getId());
+            for (EntityData.Component component : entity.getComponentList()) {
+                int fieldCount = component.getFieldCount();
+                String[] fieldNames = new String[fieldCount];
+                for (int i = 0; i < fieldCount; i++) {
+                    fieldNames[i] = component.getField(i).getName();
+                }
+                ComponentRecord componentRecord = new ComponentRecord(new ComponentType(component.getTypeName(), fieldNames));
+                for (int i = 0; i < fieldCount; i++) {
+                    componentRecord.values[i] = parseVersion1Value(component.getField(i));
+                }
+                record.components.add(componentRecord);
+            }
+            entities.add(record);
+        }
+        return entities;
+    }
+
+    private static Object parseVersion1Value(EntityData.Field field) {
+        String value = new String(field.getValue().toByteArray());
+        switch (field.getType()) {
+            case "double":
+                return Double.valueOf(value);
+            case "float":
+                return Float.valueOf(value);
+            case "int":
+                return Integer.valueOf(value);
+            case "long":
+                return Long.valueOf(value);
+            case "boolean":
+                return Boolean.valueOf(value);
+            case "class java.lang.String":
+                return value;
+            case "class org.terasology.gestalt.assets.ResourceUrn":
+                return new ResourceUrn(value);
+            default:
+                logger.error("Trying to deserialise unknown data-type: '{}'", field.getType());
+                return null;
+        }
+    }
+
+    /**
+     * The name and field names of a component type, as stored once per file.
+     */
+    static final class ComponentType {
+        final String name;
+        final String[] fieldNames;
+
+        ComponentType(String name, String[] fieldNames) {
+            this.name = name;
+            this.fieldNames = fieldNames;
+        }
+    }
+
+    /**
+     * The values of one component, in the order of the field names of its type. A null value is not stored.
+     */
+    static final class ComponentRecord {
+        final ComponentType type;
+        final Object[] values;
+
+        ComponentRecord(ComponentType type) {
+            this.type = type;
+            values = new Object[type.fieldNames.length];
+        }
+    }
+
+    /**
+     * A stored entity. Entities with a position also carry it outside of their components, so that it can be found
+     * without decoding them.
+     */
+    static final class EntityRecord {
+        long id;
+        boolean hasLocation;
+        float x;
+        float y;
+        final List<ComponentRecord> components = new ArrayList<>();
+
+        EntityRecord(long id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * Where an entity lies within a store, and where it lies in the world.
+     */
+    static final class IndexEntry {
+        long id;
+        int offset;
+        int length;
+        boolean hasLocation;
+        float x;
+        float y;
+    }
+
+    static final class StoreIndex {
+        long generation;
+        final List<ComponentType> types = new ArrayList<>();
+        final List<IndexEntry> entries = new ArrayList<>();
+    }
+
+    static final class StoreData {
+        long generation;
+        final List<EntityRecord> entities = new ArrayList<>();
+        final List<Long> removedEntities = new ArrayList<>();
+    }
+
+    /**
+     * Streams a version 2 store to an output stream. Component types are written the first time an entity uses them.
+     */
+    static final class Writer implements Closeable {
+        private static final int VECTOR_SIZE = CodedOutputStream.computeFloatSize(VECTOR_X, 0)
+                + CodedOutputStream.computeFloatSize(VECTOR_Y, 0);
+        private final OutputStream stream;
+        private final CodedOutputStream output;
+        private final Map<ComponentType, Integer> typeIndices = new IdentityHashMap<>();
+        private int[] componentSizes = new int[16];
+        private int entityCount;
+
+        Writer(OutputStream stream, long generation) throws IOException {
+            this.stream = stream;
+            output = CodedOutputStream.newInstance(stream);
+            output.writeInt32(STORE_VERSION, VERSION);
+            output.writeInt64(STORE_GENERATION, generation);
+        }
+
+        void writeEntity(EntityRecord entity) throws IOException {
+            List<ComponentRecord> components = entity.components;
+            int componentCount = components.size();
+            if (componentSizes.length < componentCount) {
+                componentSizes = new int[componentCount];
+            }
+            int entitySize = CodedOutputStream.computeInt64Size(ENTITY_ID, entity.id);
+            if (entity.hasLocation) {
+                entitySize += CodedOutputStream.computeFloatSize(ENTITY_X, entity.x);
+                entitySize += CodedOutputStream.computeFloatSize(ENTITY_Y, entity.y);
+            }
+            for (int i = 0; i < componentCount; i++) {
+                ComponentRecord component = components.get(i);
+                writeTypeIfNew(component.type);
+                int componentSize = computeComponentSize(component);
+                componentSizes[i] = componentSize;
+                entitySize += computeLengthDelimitedSize(ENTITY_COMPONENT, componentSize);
+            }
+
+            output.writeTag(STORE_ENTITY, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(entitySize);
+            output.writeInt64(ENTITY_ID, entity.id);
+            if (entity.hasLocation) {
+                output.writeFloat(ENTITY_X, entity.x);
+                output.writeFloat(ENTITY_Y, entity.y);
+            }
+            for (int i = 0; i < componentCount; i++) {
+                ComponentRecord component = components.get(i);
+                output.writeTag(ENTITY_COMPONENT, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(componentSizes[i]);
+                output.writeInt32(COMPONENT_TYPE, typeIndices.get(component.type));
+                Object[] values = component.values;
+                for (int j = 0; j < values.length; j++) {
+                    if (values[j] != null) {
+                        output.writeTag(COMPONENT_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                        output.writeUInt32NoTag(computeFieldSize(j, values[j]));
+                        output.writeInt32(FIELD_INDEX, j);
+                        writeValue(values[j]);
+                    }
+                }
+            }
+            entityCount++;
+        }
+
+        void writeRemovedEntity(long id) throws IOException {
+            output.writeInt64(STORE_REMOVED_ENTITY, id);
+        }
+
+        int getEntityCount() {
+            return entityCount;
+        }
+
+        private void writeTypeIfNew(ComponentType type) throws IOException {
+            if (typeIndices.containsKey(type)) {
+                return;
+            }
+            typeIndices.put(type, typeIndices.size());
+            int size = CodedOutputStream.computeStringSize(TYPE_NAME, type.name);
+            for (String fieldName : type.fieldNames) {
+                size += CodedOutputStream.computeStringSize(TYPE_FIELD_NAME, fieldName);
+            }
+            output.writeTag(STORE_COMPONENT_TYPE, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(size);
+            output.writeString(TYPE_NAME, type.name);
+            for (String fieldName : type.fieldNames) {
+                output.writeString(TYPE_FIELD_NAME, fieldName);
+            }
+        }
+
+        private int computeComponentSize(ComponentRecord component) {
+            int size = CodedOutputStream.computeInt32Size(COMPONENT_TYPE, typeIndices.get(component.type));
+            Object[] values = component.values;
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    size += computeLengthDelimitedSize(COMPONENT_FIELD, computeFieldSize(i, values[i]));
+                }
+            }
+            return size;
+        }
+
+        private static int computeFieldSize(int index, Object value) {
+            int size = CodedOutputStream.computeInt32Size(FIELD_INDEX, index);
+            if (value instanceof Double) {
+                return size + CodedOutputStream.computeDoubleSize(DOUBLE_VALUE, (Double) value);
+            } else if (value instanceof Float) {
+                return size + CodedOutputStream.computeFloatSize(FLOAT_VALUE, (Float) value);
+            } else if (value instanceof Integer) {
+                return size + CodedOutputStream.computeSInt32Size(INT_VALUE, (Integer) value);
+            } else if (value instanceof Long) {
+                return size + CodedOutputStream.computeSInt64Size(LONG_VALUE, (Long) value);
+            } else if (value instanceof Boolean) {
+                return size + CodedOutputStream.computeBoolSize(BOOL_VALUE, (Boolean) value);
+            } else if (value instanceof String) {
+                return size + CodedOutputStream.computeStringSize(STRING_VALUE, (String) value);
+            } else if (value instanceof Vector2) {
+                return size + computeLengthDelimitedSize(VECTOR_VALUE, VECTOR_SIZE);
+            } else {
+                return size + CodedOutputStream.computeStringSize(URN_VALUE, value.toString());
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value instanceof Double) {
+                output.writeDouble(DOUBLE_VALUE, (Double) value);
+            } else if (value instanceof Float) {
+                output.writeFloat(FLOAT_VALUE, (Float) value);
+            } else if (value instanceof Integer) {
+                output.writeSInt32(INT_VALUE, (Integer) value);
+            } else if (value instanceof Long) {
+                output.writeSInt64(LONG_VALUE, (Long) value);
+            } else if (value instanceof Boolean) {
+                output.writeBool(BOOL_VALUE, (Boolean) value);
+            } else if (value instanceof String) {
+                output.writeString(STRING_VALUE, (String) value);
+            } else if (value instanceof Vector2) {
+                Vector2 vector = (Vector2) value;
+                output.writeTag(VECTOR_VALUE, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(VECTOR_SIZE);
+                output.writeFloat(VECTOR_X, vector.x);
+                output.writeFloat(VECTOR_Y, vector.y);
+            } else {
+                output.writeString(URN_VALUE, value.toString());
+            }
+        }
+
+        private static int computeLengthDelimitedSize(int fieldNumber, int size) {
+            return CodedOutputStream.computeTagSize(fieldNumber) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+        }
+
+        @Override
+        public void close() throws IOException {
+            output.flush();
+            stream.close();
+        }
+    }
+}
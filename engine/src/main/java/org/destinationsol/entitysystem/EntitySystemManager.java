@@ -16,6 +16,7 @@
 package org.destinationsol.entitysystem;
 
 import com.google.common.collect.Lists;
+import org.destinationsol.game.DebugOptions;
 import org.destinationsol.game.context.Context;
 import org.destinationsol.util.InjectionHelper;
 import org.terasology.gestalt.entitysystem.component.Component;
@@ -35,13 +36,20 @@
 import org.terasology.gestalt.module.ModuleEnvironment;
 
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class EntitySystemManager {
 
     private static EntityManager entityManager;
     private final EventSystem eventSystem = new EventSystemImpl();
     private static final EventReceiverMethodSupport eventReceiverMethodSupport = new EventReceiverMethodSupport();
+    private final BitSet dirtyEntities = new BitSet();
+    private final Map<List<Class<? extends Component>>, EntityQuery> queries = new HashMap<>();
+    private final EntityJobScheduler jobScheduler = new EntityJobScheduler(this);
 
     public EntitySystemManager(ModuleEnvironment environment, ComponentManager componentManager, Context context) {
 
@@ -51,12 +59,10 @@ public EntitySystemManager(ModuleEnvironment environment, ComponentManager compo
         for (Class<? extends Component> componentType : environment.getSubtypesOf(Component.class)) {
             //This filters out abstract components, which would create exceptions
             if (!Modifier.isAbstract(componentType.getModifiers())) {
-                stores.add(
-                        new ConcurrentComponentStore<>(new ArrayComponentStore<>(componentManager.getType(componentType))));
+                stores.add(createStore(componentManager, componentType));
             }
         }
-        stores.add(new ConcurrentComponentStore<>(
-                new ArrayComponentStore<>(componentManager.getType(GeneratedFromRecipeComponent.class))));
+        stores.add(createStore(componentManager, GeneratedFromRecipeComponent.class));
 
         entityManager = new CoreEntityManager(stores);
 
@@ -71,6 +77,38 @@ public EntitySystemManager(ModuleEnvironment environment, ComponentManager compo
         }
     }
 
+    /**
+     * Creates the store of a component type, which records the entities changed through it for the next save. The
+     * stores are only synchronised when {@link DebugOptions#SINGLE_THREADED_ENTITY_STORES} is off; with it on,
+     * components must only be accessed from the game thread.
+     */
+    private <T extends Component> ComponentStore<T> createStore(ComponentManager componentManager,
+                                                                Class<T> componentType) {
+        ComponentStore<T> store = new ArrayComponentStore<>(componentManager.getType(componentType));
+        if (!DebugOptions.SINGLE_THREADED_ENTITY_STORES) {
+            store = new ConcurrentComponentStore<>(store);
+        }
+        return new DirtyTrackingComponentStore<>(store, dirtyEntities);
+    }
+
+    /**
+     * Returns the query over all entities having each of the given component types. Queries are cached, so systems
+     * can look them up every tick or keep them.
+     *
+     * @param componentTypes the component types an entity must all have to match
+     * @return the query, to be {@link EntityQuery#refresh() refreshed} before use
+     */
+    @SafeVarargs
+    public final EntityQuery getQuery(Class<? extends Component>... componentTypes) {
+        List<Class<? extends Component>> key = Arrays.asList(componentTypes);
+        EntityQuery query = queries.get(key);
+        if (query == null) {
+            query = new EntityQuery(entityManager, componentTypes.clone());
+            queries.put(key, query);
+        }
+        return query;
+    }
+
     public void sendEvent(Event event, Component... components) {
         EntityIterator iterator = entityManager.iterate(components);
         while (iterator.next()) {
@@ -87,4 +125,19 @@ public void sendEvent(Event event, EntityRef entity) {
     public EntityManager getEntityManager() {
         return entityManager;
     }
+
+    public EntityJobScheduler getJobScheduler() {
+        return jobScheduler;
+    }
+
+    /**
+     * @return the ids of the entities whose components changed since the last save, including those deleted since
+     */
+    BitSet getDirtyEntities() {
+        return dirtyEntities;
+    }
+
+    void clearDirtyEntities() {
+        dirtyEntities.clear();
+    }
 }
@@ -15,150 +15,525 @@
  */
 package org.destinationsol.entitysystem;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+import com.badlogic.gdx.math.Vector2;
 import com.google.common.collect.Lists;
-import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
 
-import org.destinationsol.protobuf.EntityData;
+import org.destinationsol.entitysystem.EntityStoreCodec.ComponentRecord;
+import org.destinationsol.entitysystem.EntityStoreCodec.ComponentType;
+import org.destinationsol.entitysystem.EntityStoreCodec.EntityRecord;
+import org.destinationsol.entitysystem.EntityStoreCodec.IndexEntry;
+import org.destinationsol.entitysystem.EntityStoreCodec.StoreData;
+import org.destinationsol.entitysystem.EntityStoreCodec.StoreIndex;
+import org.destinationsol.game.chunk.ChunkListener;
+import org.destinationsol.game.chunk.ChunkManager;
+import org.destinationsol.location.components.Position;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.terasology.gestalt.assets.ResourceUrn;
 import org.terasology.gestalt.entitysystem.component.Component;
 import org.terasology.gestalt.entitysystem.entity.EntityManager;
 import org.terasology.gestalt.entitysystem.entity.EntityRef;
 
-public final class SerialisationManager {
-
+/**
+ * Saves the entities of a game to disk and loads them back.
+ * <p>
+ * The store is a checkpoint file holding every entity, followed by numbered delta files. A save only writes the
+ * entities changed since the previous save into a new delta, so its size and duration depend on what changed rather
+ * than on the size of the world. Once {@link #MAX_DELTAS} deltas have piled up, they are merged into a new checkpoint.
+ * Saves in the older format, holding every field as a string, are still loaded, and replaced by a checkpoint in the
+ * current format on the next save.
+ * <p>
+ * Loading reads the checkpoint into memory and only indexes where each entity is, both in the file and in the world.
+ * Entities in the chunks around the player's starting position, and entities without a position, are created straight
+ * away. All others are created when the {@link ChunkManager} fills their chunk.
+ */
+public final class SerialisationManager implements ChunkListener {
+    /**
+     * The number of deltas written after a checkpoint before they are merged into a new one.
+     */
+    private static final int MAX_DELTAS = 8;
     private static final Logger logger = LoggerFactory.getLogger(SerialisationManager.class);
     private File file;
+    private EntitySystemManager entitySystemManager;
     private EntityManager entityManager;
     private ClassLoader classLoader;
+    private final Map<Class<?>, ComponentLayout> layouts = new HashMap<>();
+    private final Map<String, Class<?>> componentClasses = new HashMap<>();
+    private final Map<ComponentType, Field[]> storedFields = new IdentityHashMap<>();
+    /**
+     * Maps the ids of the live entities to the ids they are stored under.
+     */
+    private final Map<Long, Long> storeIds = new HashMap<>();
+    private long nextStoreId;
+    private long generation;
+    private int deltaCount;
+    private boolean hasCheckpoint;
+    private ByteBuffer checkpointBuffer;
+    private List<ComponentType> checkpointTypes;
+    /**
+     * The entities still to be created, by the key of their chunk.
+     */
+    private final Map<Long, List<PendingEntity>> pendingChunks = new HashMap<>();
+    private int pendingCount;
 
-    public SerialisationManager(String path, EntityManager entityManager, ClassLoader classLoader) {
+    public SerialisationManager(String path, EntitySystemManager entitySystemManager, ClassLoader classLoader) {
         file = new File(path);
-        this.entityManager = entityManager;
+        this.entitySystemManager = entitySystemManager;
+        this.entityManager = entitySystemManager.getEntityManager();
         this.classLoader = classLoader;
     }
 
     public void serialise() throws IllegalArgumentException, IllegalAccessException, IOException {
+        long startTime = System.nanoTime();
+        int entityCount;
+        if (hasCheckpoint) {
+            entityCount = writeDelta();
+        } else {
+            entityCount = writeCheckpoint();
+        }
+        entitySystemManager.clearDirtyEntities();
+        logger.info("Saved {} entities in {} ms", entityCount, (System.nanoTime() - startTime) / 1000000);
 
-        EntityData.EntityStore.Builder storeBuilder = EntityData.EntityStore.newBuilder();
-        for (EntityRef entity : entityManager.allEntities()) {
-            if (entity.getId() == -1) {
-                break;
+        if (deltaCount >= MAX_DELTAS) {
+            compact();
+        }
+    }
+
+    /**
+     * Writes every live entity into a new checkpoint, along with the stored entities whose chunks have not been reached
+     * yet. Those keep their stored ids, and the live entities are numbered after them.
+     */
+    private int writeCheckpoint() throws IllegalAccessException, IOException {
+        long newGeneration = nextGeneration();
+        File newFile = getTemporaryFile();
+        int entityCount;
+        releaseCheckpointBuffer();
+        storeIds.clear();
+        nextStoreId = 0;
+        for (List<PendingEntity> entities : pendingChunks.values()) {
+            for (PendingEntity entity : entities) {
+                nextStoreId = Math.max(nextStoreId, entity.id + 1);
             }
-            EntityData.Entity.Builder entityBuilder = EntityData.Entity.newBuilder();
-            entityBuilder.setId(entity.getId());
-
-            for (Component component : entity.getAllComponents().values()) {
-                EntityData.Component.Builder componentBuilder = EntityData.Component.newBuilder();
-                componentBuilder.setTypeName(component.getClass().toString().replaceFirst("class ", ""));
-
-                for (Field field : component.getClass().getDeclaredFields()) {
-                    EntityData.Field.Builder fieldBuilder = EntityData.Field.newBuilder();
-                    fieldBuilder.setName(field.getName());
-                    fieldBuilder.setType(field.getType().toString());
-                    field.setAccessible(true);
-
-                    String value = "";
-                    switch (field.getType().toString()) {
-                    case "double":
-                        value = String.valueOf((double) field.get(component));
-                        break;
-                    case "float":
-                        value = String.valueOf((float) field.get(component));
-                        break;
-                    case "int":
-                        value = String.valueOf((int) field.get(component));
-                        break;
-                    case "long":
-                        value = String.valueOf((long) field.get(component));
-                        break;
-                    case "boolean":
-                        value = String.valueOf((boolean) field.get(component));
-                        break;
-                    case "class java.lang.String":
-                        value = (String) field.get(component);
-                        break;
-                    case "class org.terasology.gestalt.assets.ResourceUrn":
-                        value = ((ResourceUrn) field.get(component)).toString();
-                        break;
-                    default:
-                        logger.error("Trying to serialise unknown data-type: '{}'", field);
-                        break;
-                    }
-                    fieldBuilder.setValue(ByteString.copyFrom(value.getBytes()));
-                    componentBuilder.addField(fieldBuilder);
+        }
+        try (EntityStoreCodec.Writer writer = createWriter(newFile, newGeneration)) {
+            for (List<PendingEntity> entities : pendingChunks.values()) {
+                for (PendingEntity entity : entities) {
+                    writer.writeEntity(entity.record);
+                }
+            }
+            for (EntityRef entity : entityManager.allEntities()) {
+                if (entity.getId() == -1) {
+                    break;
                 }
-                entityBuilder.addComponent(componentBuilder);
+                long storeId = nextStoreId++;
+                storeIds.put((long) entity.getId(), storeId);
+                writer.writeEntity(toRecord(storeId, entity));
             }
-            storeBuilder.addEntity(entityBuilder);
+            entityCount = writer.getEntityCount();
         }
+        replaceCheckpoint(newFile, newGeneration);
+        return entityCount;
+    }
 
-        FileOutputStream output = new FileOutputStream(file);
-        storeBuilder.build().writeTo(output);
-        output.close();
+    /**
+     * Writes the entities changed since the last save into the next delta, and the ids of those deleted since. Finding
+     * the changed entities among the live ones only reads their ids; only the changed ones are turned into records.
+     */
+    private int writeDelta() throws IllegalAccessException, IOException {
+        int entityCount;
+        BitSet dirtyEntities = entitySystemManager.getDirtyEntities();
+        try (EntityStoreCodec.Writer writer = createWriter(getDeltaFile(deltaCount + 1), generation)) {
+            for (EntityRef entity : entityManager.allEntities()) {
+                if (entity.getId() == -1) {
+                    break;
+                }
+                int id = entity.getId();
+                if (!dirtyEntities.get(id)) {
+                    continue;
+                }
+                dirtyEntities.clear(id);
+                Long storeId = storeIds.get((long) id);
+                if (storeId == null) {
+                    storeId = nextStoreId++;
+                    storeIds.put((long) id, storeId);
+                }
+                writer.writeEntity(toRecord(storeId, entity));
+            }
+            // The changed entities left are no longer alive
+            for (int id = dirtyEntities.nextSetBit(0); id >= 0; id = dirtyEntities.nextSetBit(id + 1)) {
+                Long storeId = storeIds.remove((long) id);
+                if (storeId != null) {
+                    writer.writeRemovedEntity(storeId);
+                }
+            }
+            entityCount = writer.getEntityCount();
+        }
+        deltaCount++;
+        return entityCount;
     }
 
-    public void deserialise() throws IOException, ClassNotFoundException, InstantiationException,
-            IllegalAccessException, NoSuchFieldException {
+    /**
+     * Merges the checkpoint and its deltas into a new checkpoint, without going through the live entities.
+     */
+    private void compact() throws IOException {
+        long startTime = System.nanoTime();
+        Map<Long, EntityRecord> records = readStore();
+        long newGeneration = nextGeneration();
+        File newFile = getTemporaryFile();
+        try (EntityStoreCodec.Writer writer = createWriter(newFile, newGeneration)) {
+            for (EntityRecord record : records.values()) {
+                writer.writeEntity(record);
+            }
+        }
+        replaceCheckpoint(newFile, newGeneration);
+        logger.info("Merged entity store deltas in {} ms", (System.nanoTime() - startTime) / 1000000);
+    }
+
+    /**
+     * Loads the stored entities near the given position, and prepares the rest to be loaded once their chunks are
+     * filled.
+     *
+     * @param startPosition the position the player starts at
+     * @param fillDistance how many chunks around the start the {@link ChunkManager} fills around the start
+     */
+    public void deserialise(Vector2 startPosition, int fillDistance) throws IOException, ClassNotFoundException,
+            InstantiationException, IllegalAccessException, NoSuchFieldException {
         if (classLoader == null) {
             logger.warn("Trying to deserialise with Null classloader. Aborting");
             return;
         }
 
-        FileInputStream input = new FileInputStream(file);
-        EntityData.EntityStore store = EntityData.EntityStore.parseFrom(input);
-        input.close();
-
-        for (EntityData.Entity entity : store.getEntityList()) {
-            Collection<Component> componentsToAdd = Lists.newArrayList();
-
-            for (EntityData.Component component : entity.getComponentList()) {
-                Class<?> componentClass = Class.forName(component.getTypeName(), true, classLoader);
-                Component<?> componentObject = (Component<?>) componentClass.newInstance();
-
-                for (EntityData.Field field : component.getFieldList()) {
-                    Field componentObjectField = componentClass.getDeclaredField(field.getName());
-                    componentObjectField.setAccessible(true);
-
-                    String value = new String(field.getValue().toByteArray());
-                    switch (field.getType()) {
-                    case "double":
-                        componentObjectField.set(componentObject, Double.valueOf(value));
-                        break;
-                    case "float":
-                        componentObjectField.set(componentObject, Float.valueOf(value));
-                        break;
-                    case "int":
-                        componentObjectField.set(componentObject, Integer.valueOf(value));
-                        break;
-                    case "long":
-                        componentObjectField.set(componentObject, Long.valueOf(value));
-                        break;
-                    case "boolean":
-                        componentObjectField.set(componentObject, Boolean.valueOf(value));
-                        break;
-                    case "class java.lang.String":
-                        componentObjectField.set(componentObject, value);
-                        break;
-                    case "class org.terasology.gestalt.assets.ResourceUrn":
-                        componentObjectField.set(componentObject, new ResourceUrn(value));
-                        break;
-                    default:
-                        logger.error("Trying to deserialise unknown data-type: '{}'", componentObjectField);
-                        break;
-                    }
+        long startTime = System.nanoTime();
+        int startX = ChunkManager.posToChunkIdx(startPosition.x);
+        int startY = ChunkManager.posToChunkIdx(startPosition.y);
+        int createdCount = 0;
+        Map<Long, PendingEntity> entities = indexStore();
+        // A version 1 store is replaced by a checkpoint of the live entities on the next save, so all of its entities
+        // are created straight away, as they were before stores could be loaded lazily
+        boolean isVersion1 = !hasCheckpoint;
+        for (PendingEntity entity : entities.values()) {
+            nextStoreId = Math.max(nextStoreId, entity.id + 1);
+            if (!isVersion1 && entity.hasLocation) {
+                int x = ChunkManager.posToChunkIdx(entity.x);
+                int y = ChunkManager.posToChunkIdx(entity.y);
+                if (Math.abs(x - startX) > fillDistance || Math.abs(y - startY) > fillDistance) {
+                    pendingChunks.computeIfAbsent(ChunkManager.getChunkKey(x, y), key -> new ArrayList<>()).add(entity);
+                    pendingCount++;
+                    continue;
                 }
-                componentsToAdd.add(componentObject);
             }
-            entityManager.createEntity(componentsToAdd);
+            createEntity(entity);
+            createdCount++;
+        }
+        logger.info("Loaded {} entities in {} ms, {} left until their chunks are reached", createdCount,
+                (System.nanoTime() - startTime) / 1000000, pendingCount);
+    }
+
+    @Override
+    public void onChunkFilled(int x, int y) {
+        List<PendingEntity> entities = pendingChunks.remove(ChunkManager.getChunkKey(x, y));
+        if (entities == null) {
+            return;
+        }
+        try {
+            for (PendingEntity entity : entities) {
+                createEntity(entity);
+            }
+        } catch (IOException | ReflectiveOperationException e) {
+            logger.error("Could not load the stored entities of chunk {}, {}", x, y, e);
+        }
+        pendingCount -= entities.size();
+    }
+
+    private void createEntity(PendingEntity pendingEntity) throws IOException, ClassNotFoundException,
+            InstantiationException, IllegalAccessException, NoSuchFieldException {
+        EntityRecord record = pendingEntity.record;
+        if (record == null) {
+            record = EntityStoreCodec.readEntity(checkpointBuffer, pendingEntity.entry, checkpointTypes);
+        }
+        Collection<Component> componentsToAdd = Lists.newArrayList();
+        for (ComponentRecord component : record.components) {
+            componentsToAdd.add(toComponent(component));
+        }
+        EntityRef entity = entityManager.createEntity(componentsToAdd);
+        storeIds.put((long) entity.getId(), record.id);
+        // The entity is already stored as it is, so creating it does not need saving
+        entitySystemManager.getDirtyEntities().clear(entity.getId());
+    }
+
+    /**
+     * Reads the checkpoint into memory and lists its entities, then applies its deltas. Version 1 stores are read whole.
+     *
+     * @return the stored entities by their stored ids
+     */
+    private Map<Long, PendingEntity> indexStore() throws IOException {
+        Map<Long, PendingEntity> entities = new LinkedHashMap<>();
+        // Read onto the heap rather than mapped, as a mapped file cannot be replaced on some platforms until the
+        // mapping is garbage collected, which would make the checkpoint impossible to compact
+        checkpointBuffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        if (checkpointBuffer.hasRemaining() && checkpointBuffer.get(0) != EntityStoreCodec.VERSION_2_TAG) {
+            releaseCheckpointBuffer();
+            for (EntityRecord record : readStore().values()) {
+                entities.put(record.id, new PendingEntity(record));
+            }
+            return entities;
+        }
+
+        StoreIndex index = EntityStoreCodec.index(checkpointBuffer);
+        generation = index.generation;
+        checkpointTypes = index.types;
+        for (IndexEntry entry : index.entries) {
+            entities.put(entry.id, new PendingEntity(entry));
+        }
+        for (StoreData delta : readDeltas()) {
+            for (Long removedId : delta.removedEntities) {
+                entities.remove(removedId);
+            }
+            for (EntityRecord record : delta.entities) {
+                entities.put(record.id, new PendingEntity(record));
+            }
+        }
+        hasCheckpoint = true;
+        return entities;
+    }
+
+    /**
+     * Decodes the entities not created yet, so that the checkpoint they were indexed in can be replaced.
+     */
+    private void releaseCheckpointBuffer() throws IOException {
+        if (checkpointBuffer == null) {
+            return;
+        }
+        for (List<PendingEntity> entities : pendingChunks.values()) {
+            for (PendingEntity entity : entities) {
+                if (entity.record == null) {
+                    entity.record = EntityStoreCodec.readEntity(checkpointBuffer, entity.entry, checkpointTypes);
+                }
+            }
+        }
+        checkpointBuffer = null;
+        checkpointTypes = null;
+    }
+
+    /**
+     * Reads the checkpoint and applies its deltas in order.
+     *
+     * @return the stored entities by their stored ids
+     */
+    private Map<Long, EntityRecord> readStore() throws IOException {
+        Map<Long, EntityRecord> records = new LinkedHashMap<>();
+        try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+            input.mark(1);
+            int firstByte = input.read();
+            input.reset();
+            if (firstByte != -1 && firstByte != EntityStoreCodec.VERSION_2_TAG) {
+                for (EntityRecord record : EntityStoreCodec.readVersion1(input)) {
+                    records.put(record.id, record);
+                }
+                hasCheckpoint = false;
+                deltaCount = 0;
+                return records;
+            }
+            StoreData checkpoint = EntityStoreCodec.read(input);
+            generation = checkpoint.generation;
+            EntityStoreCodec.apply(checkpoint, records);
+        }
+        for (StoreData delta : readDeltas()) {
+            EntityStoreCodec.apply(delta, records);
+        }
+        hasCheckpoint = true;
+        return records;
+    }
+
+    /**
+     * Reads the deltas of the current checkpoint, in order.
+     */
+    private List<StoreData> readDeltas() throws IOException {
+        List<StoreData> deltas = new ArrayList<>();
+        deltaCount = 0;
+        File deltaFile;
+        while ((deltaFile = getDeltaFile(deltaCount + 1)).exists()) {
+            StoreData delta;
+            try (InputStream input = new BufferedInputStream(new FileInputStream(deltaFile))) {
+                delta = EntityStoreCodec.read(input);
+            } catch (InvalidProtocolBufferException e) {
+                logger.warn("Ignoring damaged entity store delta '{}'", deltaFile, e);
+                break;
+            }
+            if (delta.generation != generation) {
+                // Left over from an earlier checkpoint
+                break;
+            }
+            deltas.add(delta);
+            deltaCount++;
+        }
+        return deltas;
+    }
+
+    private EntityStoreCodec.Writer createWriter(File target, long storeGeneration) throws IOException {
+        return new EntityStoreCodec.Writer(new BufferedOutputStream(new FileOutputStream(target)), storeGeneration);
+    }
+
+    /**
+     * Moves a newly written checkpoint over the current one and deletes the deltas of the current one.
+     */
+    private void replaceCheckpoint(File newFile, long newGeneration) throws IOException {
+        releaseCheckpointBuffer();
+        Files.move(newFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        generation = newGeneration;
+        hasCheckpoint = true;
+        File deltaFile;
+        for (int i = 1; (deltaFile = getDeltaFile(i)).exists(); i++) {
+            if (!deltaFile.delete()) {
+                logger.warn("Could not delete entity store delta '{}'", deltaFile);
+            }
+        }
+        deltaCount = 0;
+    }
+
+    private long nextGeneration() {
+        return Math.max(generation + 1, System.currentTimeMillis());
+    }
+
+    private File getDeltaFile(int index) {
+        return new File(file.getPath() + ".delta" + index);
+    }
+
+    private File getTemporaryFile() {
+        return new File(file.getPath() + ".tmp");
+    }
+
+    private EntityRecord toRecord(long storeId, EntityRef entity) throws IllegalAccessException {
+        EntityRecord record = new EntityRecord(storeId);
+        for (Component component : entity.getAllComponents().values()) {
+            if (component instanceof Position) {
+                Vector2 position = ((Position) component).position;
+                record.hasLocation = true;
+                record.x = position.x;
+                record.y = position.y;
+            }
+            ComponentLayout layout = getLayout(component.getClass());
+            ComponentRecord componentRecord = new ComponentRecord(layout.type);
+            for (int i = 0; i < layout.fields.length; i++) {
+                componentRecord.values[i] = layout.fields[i].get(component);
+            }
+            record.components.add(componentRecord);
+        }
+        return record;
+    }
+
+    private ComponentLayout getLayout(Class<?> componentClass) {
+        ComponentLayout layout = layouts.get(componentClass);
+        if (layout == null) {
+            layout = new ComponentLayout(componentClass);
+            layouts.put(componentClass, layout);
+        }
+        return layout;
+    }
+
+    private Component<?> toComponent(ComponentRecord record) throws ClassNotFoundException, InstantiationException,
+            IllegalAccessException, NoSuchFieldException {
+        Class<?> componentClass = componentClasses.get(record.type.name);
+        if (componentClass == null) {
+            componentClass = Class.forName(record.type.name, true, classLoader);
+            componentClasses.put(record.type.name, componentClass);
+        }
+        Field[] fields = storedFields.get(record.type);
+        if (fields == null) {
+            fields = new Field[record.type.fieldNames.length];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = componentClass.getDeclaredField(record.type.fieldNames[i]);
+                fields[i].setAccessible(true);
+            }
+            storedFields.put(record.type, fields);
+        }
+
+        Component<?> component = (Component<?>) componentClass.newInstance();
+        for (int i = 0; i < fields.length; i++) {
+            if (record.values[i] != null) {
+                fields[i].set(component, record.values[i]);
+            }
+        }
+        return component;
+    }
+
+    /**
+     * A stored entity that has not been created yet. Entities from the checkpoint are decoded from the checkpoint buffer
+     * when they are created; entities from deltas are held decoded.
+     */
+    private static final class PendingEntity {
+        private final long id;
+        private final boolean hasLocation;
+        private final float x;
+        private final float y;
+        private final IndexEntry entry;
+        private EntityRecord record;
+
+        private PendingEntity(IndexEntry entry) {
+            id = entry.id;
+            hasLocation = entry.hasLocation;
+            x = entry.x;
+            y = entry.y;
+            this.entry = entry;
+        }
+
+        private PendingEntity(EntityRecord record) {
+            id = record.id;
+            hasLocation = record.hasLocation;
+            x = record.x;
+            y = record.y;
+            entry = null;
+            this.record = record;
+        }
+    }
+
+    /**
+     * The stored fields of a component class, resolved once per class.
+     */
+    private static final class ComponentLayout {
+        private final ComponentType type;
+        private final Field[] fields;
+
+        private ComponentLayout(Class<?> componentClass) {
+            List<Field> storedFields = new ArrayList<>();
+            for (Field field : componentClass.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                if (!EntityStoreCodec.isSupported(field.getType())) {
+                    logger.error("Trying to serialise unknown data-type: '{}'", field);
+                    continue;
+                }
+                field.setAccessible(true);
+                storedFields.add(field);
+            }
+            fields = storedFields.toArray(new Field[0]);
+            String[] fieldNames = new String[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                fieldNames[i] = fields[i].getName();
+            }
+            type = new ComponentType(componentClass.getName(), fieldNames);
         }
     }
 }
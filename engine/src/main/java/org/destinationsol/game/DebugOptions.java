@@ -52,6 +52,13 @@ public class DebugOptions {
     public static boolean OBJ_INFO = false;
     public static boolean SOUND_INFO = false;
     public static boolean TEX_INFO = false;
+    public static boolean PHYSICS_INFO = false;
+    public static boolean ASSET_INFO = false;
+    public static boolean AI_INFO = false;
+
+    // Entity system
+    public static boolean SINGLE_THREADED_ENTITY_STORES = false;
+    public static boolean SEQUENTIAL_ENTITY_JOBS = false;
 
     public static MissingResourceAction MISSING_SOUND_ACTION;
     public static MissingResourceAction MISSING_TEXTURE_ACTION;
@@ -82,6 +89,11 @@ public static void read(SolFileReader reader) {
         OBJ_INFO = r.getBoolean("objInfo", OBJ_INFO);
         SOUND_INFO = r.getBoolean("soundInfo", SOUND_INFO);
         TEX_INFO = r.getBoolean("texInfo", TEX_INFO);
+        PHYSICS_INFO = r.getBoolean("physicsInfo", PHYSICS_INFO);
+        ASSET_INFO = r.getBoolean("assetInfo", ASSET_INFO);
+        AI_INFO = r.getBoolean("aiInfo", AI_INFO);
+        SINGLE_THREADED_ENTITY_STORES = r.getBoolean("singleThreadedEntityStores", SINGLE_THREADED_ENTITY_STORES);
+        SEQUENTIAL_ENTITY_JOBS = r.getBoolean("sequentialEntityJobs", SEQUENTIAL_ENTITY_JOBS);
         MISSING_SOUND_ACTION = MissingResourceAction.forName(r.getString("missingSoundAction", MissingResourceAction.IGNORE.name));
         MISSING_TEXTURE_ACTION = MissingResourceAction.forName(r.getString("missingTextureAction", MissingResourceAction.IGNORE.name));
         MISSING_PHYSICS_ACTION = MissingResourceAction.forName(r.getString("missingPhysicsAction", MissingResourceAction.IGNORE.name));
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+/**
+ * Receives notifications when a faction's disposition towards the player crosses the hostility threshold.
+ *
+ * @see FactionInfo#addDispositionSubscriber(DispositionSubscriber)
+ */
+public interface DispositionSubscriber {
+    /**
+     * Called once each time the disposition of a faction moves across {@link FactionInfo#HOSTILE_DISPOSITION}.
+     *
+     * @param factionID the id of the faction whose disposition changed
+     * @param hostile   whether the faction is now hostile to the player
+     */
+    void onDispositionThresholdCrossed(int factionID, boolean hostile);
+}
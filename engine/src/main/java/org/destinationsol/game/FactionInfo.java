@@ -24,15 +24,22 @@
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
  * Loads ands stores faction data
  */
 public class FactionInfo {
+    /**
+     * Factions with a disposition below this value are hostile to the player.
+     */
+    public static final int HOSTILE_DISPOSITION = -5;
+
     private static ArrayList<String> factionName = new ArrayList<String>();
     private static ArrayList<String> factionColor = new ArrayList<String>();
     private static ArrayList<Integer> factionDisposition = new ArrayList<Integer>();
+    private static List<DispositionSubscriber> dispositionSubscribers = new ArrayList<DispositionSubscriber>();
 
     public static void init() {
         createFactionList();
@@ -64,6 +71,7 @@ public static void clearValues() {
         factionName.clear();
         factionColor.clear();
         factionDisposition.clear();
+        dispositionSubscribers.clear();
     }
 
     public static ArrayList getFactionNames() {
@@ -96,9 +104,28 @@ public static ArrayList<Integer> getDisposition() {
         return factionDisposition;
     }
 
+    public static boolean isHostile(int n) {
+        return factionDisposition.get(n) < HOSTILE_DISPOSITION;
+    }
+
     public static void setDisposition(int n, int num) {
         if (factionDisposition.get(n) <= 100) {
+            boolean wasHostile = isHostile(n);
             factionDisposition.set(n, factionDisposition.get(n) + num);
+            boolean hostile = isHostile(n);
+            if (wasHostile != hostile) {
+                for (DispositionSubscriber subscriber : dispositionSubscribers) {
+                    subscriber.onDispositionThresholdCrossed(n, hostile);
+                }
+            }
         }
     }
+
+    public static void addDispositionSubscriber(DispositionSubscriber subscriber) {
+        dispositionSubscribers.add(subscriber);
+    }
+
+    public static void removeDispositionSubscriber(DispositionSubscriber subscriber) {
+        dispositionSubscribers.remove(subscriber);
+    }
 }
@@ -50,6 +50,27 @@ public SolShip getNearestEnemy(SolGame game, SolShip ship) {
         return getNearestEnemy(game, detectionDist, f, ship.getPosition());
     }
 
+    /**
+     * Tells whether a ship would still pick the given ship as an enemy: it is hostile, and within the ship's detection
+     * distance as measured by {@link #getNearestEnemy(SolGame, SolShip)}.
+     *
+     * @param ship  the ship looking for enemies
+     * @param enemy the ship it has targeted
+     * @return true if the target is still a detectable enemy
+     */
+    public boolean isDetectableEnemy(SolShip ship, SolShip enemy) {
+        if (!areEnemies(ship, enemy)) {
+            return false;
+        }
+        float detectionDist = ship.getPilot().getDetectionDist();
+        if (detectionDist <= 0) {
+            return false;
+        }
+        detectionDist += ship.getHull().config.getApproxRadius();
+        float distance = enemy.getPosition().dst(ship.getPosition()) - enemy.getHull().config.getApproxRadius();
+        return distance <= detectionDist;
+    }
+
     /**
      * Finds the nearest Enemy for target seeking projectiles
      *
@@ -96,7 +117,7 @@ private boolean hasObstacles(SolGame game, SolShip shipFrom, SolShip shipTo) {
         myRayBack.shipFrom = shipFrom;
         myRayBack.shipTo = shipTo;
         myRayBack.hasObstacle = false;
-        game.getObjectManager().getWorld().rayCast(myRayBack, shipFrom.getPosition(), shipTo.getPosition());
+        game.getObjectManager().getRaycastService().rayCast(myRayBack, shipFrom.getPosition(), shipTo.getPosition());
         return myRayBack.hasObstacle;
     }
 
@@ -117,7 +138,7 @@ private static class MyRayBack implements RayCastCallback {
 
         @Override
         public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
-            SolObject o = (SolObject) fixture.getBody().getUserData();
+            SolObject o = (SolObject) ObjectManager.getOwner(fixture);
             if (o == shipFrom || o == shipTo) {
                 return -1;
             }
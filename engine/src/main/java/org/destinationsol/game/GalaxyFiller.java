@@ -32,8 +32,8 @@
 import org.destinationsol.game.item.TradeConfig;
 import org.destinationsol.game.maze.Maze;
 import org.destinationsol.game.planet.ConsumedAngles;
+import org.destinationsol.game.planet.GalaxyNavigation;
 import org.destinationsol.game.planet.Planet;
-import org.destinationsol.game.planet.PlanetManager;
 import org.destinationsol.game.planet.SolSystem;
 import org.destinationsol.game.planet.SysConfig;
 import org.destinationsol.game.ship.FarShip;
@@ -170,47 +170,12 @@ public void fill(SolGame game, HullConfigManager hullConfigManager, ItemManager
     }
 
     private void createStarPorts(SolGame game) {
-        PlanetManager planetManager = game.getPlanetManager();
-        ArrayList<Planet> biggest = new ArrayList<>();
-
-        for (SolSystem system : planetManager.getSystems()) {
-            float minHeight = 0;
-            Planet biggestPlanet = null;
-            int biggestPlanetIndex = -1;
-            ArrayList<Planet> planets = system.getPlanets();
-
-            for (int i = 0; i < planets.size(); i++) {
-                Planet planet = planets.get(i);
-                float groundHeight = planet.getGroundHeight();
-                if (minHeight < groundHeight) {
-                    minHeight = groundHeight;
-                    biggestPlanet = planet;
-                    biggestPlanetIndex = i;
-                }
-            }
-
-            for (int i = 0; i < planets.size(); i++) {
-                if (biggestPlanetIndex == i || biggestPlanetIndex == i - 1 || biggestPlanetIndex == i + 1) {
-                    continue;
-                }
-
-                Planet planet = planets.get(i);
-                link(game, planet, biggestPlanet);
-            }
-
-            for (Planet planet : biggest) {
-                link(game, planet, biggestPlanet);
-            }
-
-            biggest.add(biggestPlanet);
+        for (GalaxyNavigation.Lane lane : game.getPlanetManager().getNavigation().getLanes()) {
+            link(game, lane.getFirst(), lane.getSecond());
         }
-
     }
 
     private void link(SolGame game, Planet firstPlanet, Planet secondPlanet) {
-        if (firstPlanet == secondPlanet) {
-            throw new AssertionError("Linking planet to itself");
-        }
         Vector2 firstPlanetPosition = StarPort.getDesiredPosition(firstPlanet, secondPlanet, false);
         StarPort.FarStarPort starPort = new StarPort.FarStarPort(firstPlanet, secondPlanet, firstPlanetPosition, false);
         SolMath.free(firstPlanetPosition);
@@ -46,7 +46,7 @@ public void end() {
         myDrawer.end();
     }
 
-    public void drawString(String s, float x, float y, float size, boolean centered, Color col) {
+    public void drawString(CharSequence s, float x, float y, float size, boolean centered, Color col) {
         maybeChangeAdditive(false);
         myDrawer.drawString(s, x, y, size, centered, col);
     }
@@ -30,13 +30,11 @@
 import org.destinationsol.common.SolMath;
 import org.destinationsol.game.maze.Maze;
 import org.destinationsol.game.maze.MazeBuilder;
-import org.destinationsol.game.planet.FarTileObject;
 import org.destinationsol.game.planet.Planet;
 import org.destinationsol.game.planet.SolSystem;
 import org.destinationsol.game.planet.SurfaceDirection;
 import org.destinationsol.game.planet.SystemBelt;
 import org.destinationsol.game.planet.Tile;
-import org.destinationsol.game.planet.TileObject;
 import org.destinationsol.game.ship.FarShip;
 import org.destinationsol.game.ship.SolShip;
 import org.destinationsol.ui.DisplayDimensions;
@@ -58,6 +56,7 @@ public class MapDrawer implements UpdateAwareSystem{
     private static final float MIN_ICON_RAD_PX = 16f;
     private static final float MAX_SKULL_TIME = .75f;
     private static final float MAX_AREA_SKULL_TIME = 3;
+    private static final float MIN_TILE_VIEW_PERC = .002f;
     private final TextureAtlas.AtlasRegion atmosphereTexture;
     private final TextureAtlas.AtlasRegion planetTexture;
     private final TextureAtlas.AtlasRegion planetCoreTexture;
@@ -76,6 +75,7 @@ public class MapDrawer implements UpdateAwareSystem{
     private final TextureAtlas.AtlasRegion lineTexture;
     private final TextureAtlas.AtlasRegion waypointTexture;
 
+    private final MapLayerCache layerCache;
     private final Color areaWarningColor;
     private final Color areaWarningBackgroundColor;
     private final float iconRadius;
@@ -93,6 +93,7 @@ public class MapDrawer implements UpdateAwareSystem{
         float minIconRad = MIN_ICON_RAD_PX / displayDimensions.getHeight();
         iconRadius = ICON_RAD < minIconRad ? minIconRad : ICON_RAD;
 
+        layerCache = new MapLayerCache();
         areaWarningColor = new Color(SolColor.WHITE);
         areaWarningBackgroundColor = new Color(SolColor.UI_WARN);
 
@@ -192,8 +193,28 @@ private void drawPlanets(GameDrawer drawer, SolGame game, float viewDist, Planet
         SolCam cam = game.getCam();
         float circleWidth = cam.getRealLineWidth() * 6;
         float vh = cam.getViewHeight(zoom);
-        for (SolSystem sys : systems) {
-            drawer.drawCircle(lineTexture, sys.getPosition(), sys.getRadius(), SolColor.UI_MED, circleWidth, vh);
+        float[][] rings = layerCache.getRings(systems, vh);
+        for (int i = 0; i < rings.length; i++) {
+            float[] ring = rings[i];
+            float segmentLength = layerCache.getRingSegmentLength(i);
+            for (int j = 0; j < ring.length; j += MapLayerCache.RING_STRIDE) {
+                float x = ring[j];
+                float y = ring[j + 1];
+                if (viewDist < camPos.dst(x, y) - segmentLength) {
+                    continue;
+                }
+                drawer.draw(lineTexture, circleWidth, segmentLength, 0, 0, x, y, ring[j + 2], SolColor.UI_MED);
+            }
+        }
+        float[] belts = layerCache.getBelts(systems);
+        for (int i = 0; i < belts.length; i += MapLayerCache.BELT_STRIDE) {
+            float x = belts[i];
+            float y = belts[i + 1];
+            float halfWidth = belts[i + 3];
+            if (viewDist < camPos.dst(x, y) - halfWidth) {
+                continue;
+            }
+            drawer.draw(beltTexture, 2 * halfWidth, 2 * halfWidth, halfWidth, halfWidth, x, y, belts[i + 2], SolColor.WHITE);
         }
         for (SolSystem sys : systems) {
             float dangerRad = HardnessCalc.isDangerous(heroDmgCap, sys.getDps()) ? sys.getRadius() : 0;
@@ -203,24 +224,12 @@ private void drawPlanets(GameDrawer drawer, SolGame game, float viewDist, Planet
                 drawer.draw(starTexture, 2 * rad, 2 * rad, rad, rad, sysPos.x, sysPos.y, 0, SolColor.WHITE);
             }
 
-            Vector2 beltIconPos = SolMath.getVec();
-            ArrayList<SystemBelt> belts = sys.getBelts();
-            for (SystemBelt belt : belts) {
-                float beltRad = belt.getRadius();
-                float halfWidth = belt.getHalfWidth();
-                int beltIconCount = (int) (.12f * beltRad);
-                for (int i = 0; i < beltIconCount; i++) {
-                    float angle = 360f * i / beltIconCount;
-                    SolMath.fromAl(beltIconPos, angle, beltRad);
-                    beltIconPos.add(sysPos);
-                    drawer.draw(beltTexture, 2 * halfWidth, 2 * halfWidth, halfWidth, halfWidth, beltIconPos.x, beltIconPos.y, angle * 3, SolColor.WHITE);
-                }
-                float outerRad = beltRad + halfWidth;
+            for (SystemBelt belt : sys.getBelts()) {
+                float outerRad = belt.getRadius() + belt.getHalfWidth();
                 if (dangerRad < outerRad && HardnessCalc.isDangerous(heroDmgCap, belt.getDps())) {
                     dangerRad = outerRad;
                 }
             }
-            SolMath.free(beltIconPos);
             if (dangerRad < sys.getInnerRadius() && HardnessCalc.isDangerous(heroDmgCap, sys.getInnerDps())) {
                 dangerRad = sys.getInnerRadius();
             }
@@ -242,7 +251,7 @@ private void drawPlanets(GameDrawer drawer, SolGame game, float viewDist, Planet
             if (dstToPlanetAtm < 0) {
                 groundHeight = planet.getMinGroundHeight() + .5f;
                 drawer.draw(planetCoreTexture, 2 * groundHeight, 2 * groundHeight, groundHeight, groundHeight, planetPos.x, planetPos.y, planet.getAngle(), SolColor.WHITE);
-                drawNpGround(drawer, game, viewDist, np, camPos);
+                drawNpGround(drawer, viewDist, np, camPos, vh);
             } else {
                 groundHeight = planet.getGroundHeight();
                 drawer.draw(planetTexture, 2 * groundHeight, 2 * groundHeight, groundHeight, groundHeight, planetPos.x, planetPos.y, camAngle, SolColor.WHITE);
@@ -281,7 +290,7 @@ private void drawWaypoints(GameDrawer drawer, SolGame game, float iconSize, floa
 
     private void drawIcons(GameDrawer drawer, SolGame game, float iconSz, float viewDist, FactionManager factionManager,
                            Hero hero, Vector2 camPos, float heroDmgCap) {
-        List<SolObject> objs = game.getObjectManager().getObjects();
+        List<SolObject> objs = game.getObjectManager().getMapIconObjects();
         for (SolObject o : objs) {
             Vector2 oPos = o.getPosition();
             if (viewDist < camPos.dst(oPos)) {
@@ -351,7 +360,7 @@ public void drawStarPortIcon(GameDrawer drawer, float iconSz, Planet from, Plane
     }
 
     private void drawStarNodes(GameDrawer drawer, SolGame game, float viewDist, Vector2 camPos, float starNodeW) {
-        List<SolObject> objs = game.getObjectManager().getObjects();
+        List<SolObject> objs = game.getObjectManager().getMapIconObjects();
         for (SolObject o : objs) {
             if (!(o instanceof StarPort)) {
                 continue;
@@ -384,42 +393,35 @@ private void drawStarNode(GameDrawer drawer, Planet from, Planet to, float starN
         SolMath.free(pos2);
     }
 
-    private void drawNpGround(GameDrawer drawer, SolGame game, float viewDist, Planet np, Vector2 camPos) {
-        ObjectManager objectManager = game.getObjectManager();
-        List<SolObject> objs = objectManager.getObjects();
-        for (SolObject o : objs) {
-            if (!(o instanceof TileObject)) {
-                continue;
-            }
-            TileObject to = (TileObject) o;
-            if (to.getPlanet() != np) {
-                continue;
-            }
-            Vector2 oPos = o.getPosition();
-            if (viewDist < camPos.dst(oPos)) {
-                continue;
-            }
-            float sz = to.getSz();
-            drawPlanetTile(to.getTile(), sz, drawer, oPos, to.getAngle());
+    private void drawNpGround(GameDrawer drawer, float viewDist, Planet np, Vector2 camPos, float viewHeight) {
+        float[] ground = layerCache.getGround(np);
+        if (ground == null) {
+            return;
         }
-
-        List<FarObjData> farObjs = objectManager.getFarObjs();
-        for (FarObjData fod : farObjs) {
-            FarObject o = fod.fo;
-            if (!(o instanceof FarTileObject)) {
-                continue;
-            }
-            FarTileObject to = (FarTileObject) o;
-            if (to.getPlanet() != np) {
+        Vector2 planetPos = np.getPosition();
+        float planetAngle = np.getAngle();
+        float planetCos = MathUtils.cosDeg(planetAngle);
+        float planetSin = MathUtils.sinDeg(planetAngle);
+        float minTileSize = viewHeight * MIN_TILE_VIEW_PERC;
+        Vector2 tilePos = SolMath.getVec();
+        for (int i = 0; i < ground.length; i += MapLayerCache.GROUND_STRIDE) {
+            float sz = ground[i + 4];
+            // Far enough out, the tiles are smaller than a pixel and the planet core texture stands in for them
+            if (sz < minTileSize) {
                 continue;
             }
-            Vector2 oPos = o.getPosition();
-            if (viewDist < camPos.dst(oPos)) {
+            float relativeCos = ground[i];
+            float relativeSin = ground[i + 1];
+            float distance = ground[i + 3];
+            tilePos.x = planetPos.x + distance * (relativeCos * planetCos - relativeSin * planetSin);
+            tilePos.y = planetPos.y + distance * (relativeSin * planetCos + relativeCos * planetSin);
+            if (viewDist < camPos.dst(tilePos)) {
                 continue;
             }
-            float sz = to.getSz();
-            drawPlanetTile(to.getTile(), sz, drawer, oPos, to.getAngle());
+            float angle = planetAngle + ground[i + 2] + 90;
+            drawPlanetTile(layerCache.getGroundTile(i / MapLayerCache.GROUND_STRIDE), sz, drawer, tilePos, angle);
         }
+        SolMath.free(tilePos);
     }
 
     public void drawObjIcon(float iconSz, Vector2 position, float objAngle,
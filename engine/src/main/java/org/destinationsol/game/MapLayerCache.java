@@ -0,0 +1,188 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+import org.destinationsol.game.planet.GroundLayout;
+import org.destinationsol.game.planet.Planet;
+import org.destinationsol.game.planet.SolSystem;
+import org.destinationsol.game.planet.SystemBelt;
+import org.destinationsol.game.planet.Tile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the static geometry drawn by the {@link MapDrawer}, so that it does not have to be worked out again every frame
+ * the map is open.
+ * <p>
+ * System rings depend on how far the map is zoomed out and are rebuilt when the view height changes. Belts never change.
+ * The ground of the nearest planet is kept relative to the planet, and only turned with it when drawn.
+ */
+class MapLayerCache {
+    /**
+     * Number of floats kept for each segment of a system ring: x, y and angle.
+     */
+    static final int RING_STRIDE = 3;
+    /**
+     * Number of floats kept for each belt icon: x, y, angle and half width.
+     */
+    static final int BELT_STRIDE = 4;
+    /**
+     * Number of floats kept for each ground tile: cosine and sine of its angle to the planet, relative angle,
+     * distance and size.
+     */
+    static final int GROUND_STRIDE = 5;
+
+    private final List<SolSystem> ringSystems;
+    private float[][] rings;
+    private float[] ringSegmentLengths;
+    private float ringViewHeight;
+
+    private float[] belts;
+
+    private Planet groundPlanet;
+    private Tile[] groundTiles;
+    private float[] ground;
+
+    MapLayerCache() {
+        ringSystems = new ArrayList<>();
+        ringViewHeight = -1;
+    }
+
+    /**
+     * Returns the segments of the rings around all systems, as drawn at the given view height.
+     */
+    float[][] getRings(List<SolSystem> systems, float viewHeight) {
+        if (viewHeight == ringViewHeight && systems.size() == ringSystems.size()) {
+            return rings;
+        }
+        ringViewHeight = viewHeight;
+        ringSystems.clear();
+        ringSystems.addAll(systems);
+        rings = new float[systems.size()][];
+        ringSegmentLengths = new float[systems.size()];
+        for (int i = 0; i < systems.size(); i++) {
+            SolSystem system = systems.get(i);
+            Vector2 center = system.getPosition();
+            float radius = system.getRadius();
+            // Same segment count as CommonDrawer#drawCircle
+            int pointCount = Math.max(8, (int) (160 * radius / viewHeight));
+            float angleStep = 360f / pointCount;
+            float[] ring = new float[pointCount * RING_STRIDE];
+            for (int j = 0; j < pointCount; j++) {
+                float angle = angleStep * j;
+                ring[j * RING_STRIDE] = center.x + MathUtils.cosDeg(angle) * radius;
+                ring[j * RING_STRIDE + 1] = center.y + MathUtils.sinDeg(angle) * radius;
+                ring[j * RING_STRIDE + 2] = angle + angleStep / 2;
+            }
+            rings[i] = ring;
+            ringSegmentLengths[i] = radius * MathUtils.PI * 2 / pointCount;
+        }
+        return rings;
+    }
+
+    /**
+     * Returns the length of each segment of the ring of a system, as of the last call to {@link #getRings(List, float)}.
+     */
+    float getRingSegmentLength(int system) {
+        return ringSegmentLengths[system];
+    }
+
+    /**
+     * Returns the icons marking the asteroid belts of all systems.
+     */
+    float[] getBelts(List<SolSystem> systems) {
+        if (belts != null) {
+            return belts;
+        }
+        int iconCount = 0;
+        for (SolSystem system : systems) {
+            for (SystemBelt belt : system.getBelts()) {
+                iconCount += getBeltIconCount(belt);
+            }
+        }
+        belts = new float[iconCount * BELT_STRIDE];
+        int index = 0;
+        for (SolSystem system : systems) {
+            Vector2 systemPosition = system.getPosition();
+            for (SystemBelt belt : system.getBelts()) {
+                float beltRadius = belt.getRadius();
+                int beltIconCount = getBeltIconCount(belt);
+                for (int i = 0; i < beltIconCount; i++) {
+                    float angle = 360f * i / beltIconCount;
+                    belts[index++] = systemPosition.x + MathUtils.cosDeg(angle) * beltRadius;
+                    belts[index++] = systemPosition.y + MathUtils.sinDeg(angle) * beltRadius;
+                    belts[index++] = angle * 3;
+                    belts[index++] = belt.getHalfWidth();
+                }
+            }
+        }
+        return belts;
+    }
+
+    private static int getBeltIconCount(SystemBelt belt) {
+        return (int) (.12f * belt.getRadius());
+    }
+
+    /**
+     * Returns the ground tiles of a planet, relative to the planet.
+     *
+     * @param planet the planet
+     * @return the tiles, or null if the ground of the planet has not been created yet
+     */
+    float[] getGround(Planet planet) {
+        if (planet == groundPlanet && ground != null) {
+            return ground;
+        }
+        groundPlanet = planet;
+        GroundLayout layout = planet.getGroundLayout();
+        if (layout == null) {
+            ground = null;
+            groundTiles = null;
+            return null;
+        }
+        List<Tile> tiles = new ArrayList<>();
+        FloatArray data = new FloatArray();
+        for (int row = 0; row < layout.getRows(); row++) {
+            for (int column = 0; column < layout.getColumns(); column++) {
+                Tile tile = layout.getTile(column, row);
+                if (tile == null) {
+                    continue;
+                }
+                float relativeAngle = layout.getRelativeAngle(column);
+                tiles.add(tile);
+                data.add(MathUtils.cosDeg(relativeAngle));
+                data.add(MathUtils.sinDeg(relativeAngle));
+                data.add(relativeAngle);
+                data.add(layout.getRadius(row));
+                data.add(layout.getTileSize(row));
+            }
+        }
+        groundTiles = tiles.toArray(new Tile[0]);
+        ground = data.toArray();
+        return ground;
+    }
+
+    /**
+     * Returns the tile at the given index of the ground returned by {@link #getGround(Planet)}.
+     */
+    Tile getGroundTile(int index) {
+        return groundTiles[index];
+    }
+}
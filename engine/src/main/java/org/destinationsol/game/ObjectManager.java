@@ -17,50 +17,84 @@
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
+import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.World;
 import org.destinationsol.Const;
 import org.destinationsol.common.DebugCol;
 import org.destinationsol.common.SolColor;
 import org.destinationsol.common.SolMath;
+import org.destinationsol.game.drawables.BaseTransform;
 import org.destinationsol.game.drawables.Drawable;
 import org.destinationsol.game.drawables.DrawableManager;
 import org.destinationsol.game.drawables.FarDrawable;
+import org.destinationsol.game.planet.Planet;
 import org.destinationsol.game.ship.FarShip;
+import org.destinationsol.game.ship.FarShipStore;
+import org.destinationsol.game.ship.SolShip;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
-public class ObjectManager implements UpdateAwareSystem {
+public class ObjectManager implements UpdateAwareSystem, DispositionSubscriber {
     private static final float MAX_RADIUS_RECALC_AWAIT = 1f;
     private final List<SolObject> myObjs;
     private final List<SolObject> myToRemove;
     private final List<SolObject> myToAdd;
     private final List<FarObjData> myFarObjs;
     private final List<FarShip> myFarShips;
+    private final FarShipStore myFarShipStore;
     private final List<StarPort.FarStarPort> myFarPorts;
+    private final Map<Planet, List<StarPort>> myPlanetPorts;
+    private final List<SolObject> myMapIconObjs;
+    private final ShipGrid myShipGrid;
     private final World myWorld;
+    private final PhysicsStepper myPhysicsStepper;
+    private final RaycastService myRaycastService;
     private final Box2DDebugRenderer myDr;
     private final HashMap<SolObject, Float> myRadii;
+    private final HashMap<SolObject, BaseTransform> myBaseTransforms;
 
     private float myFarEndDist;
     private float myFarBeginDist;
     private float myRadiusRecalcAwait;
 
-    public ObjectManager(SolContactListener contactListener, FactionManager factionManager) {
+    public ObjectManager(SolContactListener contactListener, FactionManager factionManager, PhysicsStepper physicsStepper) {
         myObjs = new ArrayList<>();
         myToRemove = new ArrayList<>();
         myToAdd = new ArrayList<>();
         myFarObjs = new ArrayList<>();
         myFarShips = new ArrayList<>();
+        myFarShipStore = new FarShipStore();
         myFarPorts = new ArrayList<>();
+        myPlanetPorts = new HashMap<>();
+        myMapIconObjs = new ArrayList<>();
+        myShipGrid = new ShipGrid();
         myWorld = new World(new Vector2(0, 0), true);
+        myPhysicsStepper = physicsStepper;
+        myRaycastService = new RaycastService(myWorld);
         myWorld.setContactListener(contactListener);
         myWorld.setContactFilter(new SolContactFilter(factionManager));
         myDr = new Box2DDebugRenderer();
         myRadii = new HashMap<>();
+        myBaseTransforms = new HashMap<>();
+        FactionInfo.addDispositionSubscriber(this);
+    }
+
+    /**
+     * Returns the owner of a fixture. This is the user data of the fixture itself when set, as on bodies shared by
+     * several objects like the ground of a planet, and the user data of its body otherwise.
+     *
+     * @param fixture the fixture to find the owner of
+     * @return the {@link SolObject} or entity that owns the fixture
+     */
+    public static Object getOwner(Fixture fixture) {
+        Object userData = fixture.getUserData();
+        return userData != null ? userData : fixture.getBody().getUserData();
     }
 
     public boolean containsFarObj(FarObject fo) {
@@ -76,7 +110,19 @@ public boolean containsFarObj(FarObject fo) {
     public void update(SolGame game, float timeStep) {
         addRemove(game);
 
-        myWorld.step(timeStep, 6, 2);
+        myPhysicsStepper.step(myWorld, timeStep);
+        myRaycastService.update();
+        if (DebugOptions.PHYSICS_INFO) {
+            myPhysicsStepper.debug(myWorld);
+            myRaycastService.debug();
+        }
+        myShipGrid.rebuild(myObjs);
+        if (DebugOptions.OBJ_INFO) {
+            game.getAsteroidBuilder().getPool().debug();
+            game.getTileObjBuilder().getPool().debug();
+            game.getProjectileManager().debug();
+        }
+        game.getProjectileManager().update(game);
 
         SolCam cam = game.getCam();
         Vector2 camPos = cam.getPosition();
@@ -122,6 +168,10 @@ public void update(SolGame game, float timeStep) {
             }
         }
 
+        myFarShipStore.step(timeStep);
+        if (DebugOptions.OBJ_INFO) {
+            myFarShipStore.debug();
+        }
         for (Iterator<FarObjData> it = myFarObjs.iterator(); it.hasNext(); ) {
             FarObjData fod = it.next();
             FarObject fo = fod.fo;
@@ -143,12 +193,17 @@ public void update(SolGame game, float timeStep) {
             }
         }
         addRemove(game);
+
+        for (SolObject o : myObjs) {
+            myBaseTransforms.get(o).set(o);
+        }
     }
 
     private void removeFo(Iterator<FarObjData> it, FarObject fo) {
         it.remove();
         if (fo instanceof FarShip) {
             myFarShips.remove(fo);
+            myFarShipStore.remove((FarShip) fo);
         }
         if (fo instanceof StarPort.FarStarPort) {
             myFarPorts.remove(fo);
@@ -188,6 +243,13 @@ private void addRemove(SolGame game) {
     private void removeObjNow(SolGame game, SolObject o) {
         myObjs.remove(o);
         myRadii.remove(o);
+        myBaseTransforms.remove(o);
+        if (o instanceof StarPort) {
+            removeStarPort((StarPort) o);
+        }
+        if (hasMapIcon(o)) {
+            myMapIconObjs.remove(o);
+        }
         o.onRemove(game);
         game.getDrawableManager().removeObject(o);
     }
@@ -198,9 +260,42 @@ public void addObjNow(SolGame game, SolObject o) {
         }
         myObjs.add(o);
         recalcRadius(o);
+        BaseTransform baseTransform = new BaseTransform();
+        baseTransform.set(o);
+        myBaseTransforms.put(o, baseTransform);
+        if (o instanceof StarPort) {
+            addStarPort((StarPort) o);
+        }
+        if (hasMapIcon(o)) {
+            myMapIconObjs.add(o);
+        }
         game.getDrawableManager().addObject(o);
     }
 
+    /**
+     * Returns the position and angle of an object as of the end of the last update, for its drawables to share.
+     *
+     * @param o the object
+     * @return the base transform of {@code o}
+     */
+    public BaseTransform getBaseTransform(SolObject o) {
+        return myBaseTransforms.get(o);
+    }
+
+    private static boolean hasMapIcon(SolObject o) {
+        return o instanceof SolShip || o instanceof StarPort || o instanceof StarPort.Transcendent;
+    }
+
+    private void addStarPort(StarPort port) {
+        myPlanetPorts.computeIfAbsent(port.getFromPlanet(), planet -> new ArrayList<>()).add(port);
+        myPlanetPorts.computeIfAbsent(port.getToPlanet(), planet -> new ArrayList<>()).add(port);
+    }
+
+    private void removeStarPort(StarPort port) {
+        myPlanetPorts.get(port.getFromPlanet()).remove(port);
+        myPlanetPorts.get(port.getToPlanet()).remove(port);
+    }
+
     private boolean isNear(FarObjData fod, Vector2 camPos, float ts) {
         if (fod.delay > 0) {
             fod.delay -= ts;
@@ -316,6 +411,10 @@ public World getWorld() {
         return myWorld;
     }
 
+    public RaycastService getRaycastService() {
+        return myRaycastService;
+    }
+
     public void resetDelays() {
         for (FarObjData data : myFarObjs) {
             data.delay = 0;
@@ -339,21 +438,76 @@ public void addFarObjNow(FarObject fo) {
         myFarObjs.add(fod);
         if (fo instanceof FarShip) {
             myFarShips.add((FarShip) fo);
+            myFarShipStore.add((FarShip) fo);
         }
         if (fo instanceof StarPort.FarStarPort) {
             myFarPorts.add((StarPort.FarStarPort) fo);
         }
     }
 
+    /**
+     * Adds a group of far objects at once, such as the ships of a spawn batch.
+     *
+     * @param farObjects the far objects to add
+     */
+    public void addFarObjsNow(List<? extends FarObject> farObjects) {
+        for (FarObject fo : farObjects) {
+            addFarObjNow(fo);
+        }
+    }
+
     public List<FarShip> getFarShips() {
         return myFarShips;
     }
 
+    public FarShipStore getFarShipStore() {
+        return myFarShipStore;
+    }
+
     public List<StarPort.FarStarPort> getFarPorts() {
         return myFarPorts;
     }
 
+    /**
+     * Returns the live (non-far) {@link StarPort}s that either start or end at the given planet.
+     *
+     * @param planet the planet to find the star ports of
+     * @return the star ports connected to {@code planet}
+     */
+    public List<StarPort> getStarPorts(Planet planet) {
+        List<StarPort> ports = myPlanetPorts.get(planet);
+        return ports == null ? Collections.emptyList() : ports;
+    }
+
+    /**
+     * Returns the near objects that are shown on the map with an icon: ships, star ports and ships in transcendence.
+     *
+     * @return the near objects with map icons
+     */
+    public List<SolObject> getMapIconObjects() {
+        return myMapIconObjs;
+    }
+
+    /**
+     * Returns the grid of near ships, as it was at the start of the current tick.
+     *
+     * @return the ship grid
+     */
+    public ShipGrid getShipGrid() {
+        return myShipGrid;
+    }
+
+    @Override
+    public void onDispositionThresholdCrossed(int factionID, boolean hostile) {
+        for (SolObject object : myObjs) {
+            if (object instanceof SolShip && ((SolShip) object).getFactionID() == factionID) {
+                ((SolShip) object).updateFaction();
+            }
+        }
+    }
+
     public void dispose() {
+        FactionInfo.removeDispositionSubscriber(this);
         myWorld.dispose();
     }
 }
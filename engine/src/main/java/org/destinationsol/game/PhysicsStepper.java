@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.TimeUtils;
+import org.destinationsol.Const;
+import org.destinationsol.GameOptions;
+import org.destinationsol.ui.DebugCollector;
+
+/**
+ * Steps the Box2D {@link World} of the {@link ObjectManager}.
+ * <p>
+ * When adaptive iterations are enabled, the solver iteration counts are picked from the number of active contacts, so
+ * that quiet space costs less than a crowded maze. Time steps longer than {@link Const#REAL_TIME_STEP}, for example
+ * when the game speed is raised, are split into sub-steps no longer than that, up to the configured maximum.
+ */
+public class PhysicsStepper {
+    public static final int DEFAULT_VELOCITY_ITERATIONS = 6;
+    public static final int DEFAULT_POSITION_ITERATIONS = 2;
+    private static final int MIN_VELOCITY_ITERATIONS = 4;
+    private static final int MAX_VELOCITY_ITERATIONS = 8;
+    private static final int MIN_POSITION_ITERATIONS = 2;
+    private static final int MAX_POSITION_ITERATIONS = 3;
+    /**
+     * Number of contacts at which the maximum iteration counts are used.
+     */
+    private static final int DENSE_CONTACT_COUNT = 128;
+
+    private final boolean adaptiveIterations;
+    private final int maxSubSteps;
+
+    private int velocityIterations;
+    private int positionIterations;
+    private int subSteps;
+    private long stepTime;
+
+    public PhysicsStepper(GameOptions options) {
+        this(options.isPhysicsAdaptiveIterations(), options.getPhysicsMaxSubSteps());
+    }
+
+    public PhysicsStepper(boolean adaptiveIterations, int maxSubSteps) {
+        this.adaptiveIterations = adaptiveIterations;
+        this.maxSubSteps = Math.max(1, maxSubSteps);
+        velocityIterations = DEFAULT_VELOCITY_ITERATIONS;
+        positionIterations = DEFAULT_POSITION_ITERATIONS;
+    }
+
+    /**
+     * Advances the world by {@code timeStep} seconds.
+     *
+     * @param world    the world to step
+     * @param timeStep the time to advance the world by
+     */
+    public void step(World world, float timeStep) {
+        long startTime = TimeUtils.nanoTime();
+        if (adaptiveIterations) {
+            float density = Math.min(1f, (float) world.getContactCount() / DENSE_CONTACT_COUNT);
+            velocityIterations = MathUtils.round(MathUtils.lerp(MIN_VELOCITY_ITERATIONS, MAX_VELOCITY_ITERATIONS, density));
+            positionIterations = MathUtils.round(MathUtils.lerp(MIN_POSITION_ITERATIONS, MAX_POSITION_ITERATIONS, density));
+        }
+        subSteps = MathUtils.clamp(MathUtils.ceil(timeStep / Const.REAL_TIME_STEP - MathUtils.FLOAT_ROUNDING_ERROR), 1, maxSubSteps);
+        float subStep = timeStep / subSteps;
+        for (int i = 0; i < subSteps; i++) {
+            world.step(subStep, velocityIterations, positionIterations);
+        }
+        stepTime = TimeUtils.timeSinceNanos(startTime);
+    }
+
+    /**
+     * Reports the world statistics and the settings of the last step through the {@link DebugCollector}.
+     *
+     * @param world the world that was stepped
+     */
+    public void debug(World world) {
+        DebugCollector.debug("Bodies", world.getBodyCount());
+        DebugCollector.debug("Contacts", world.getContactCount());
+        DebugCollector.debug("Proxies", world.getProxyCount());
+        DebugCollector.debug("Velocity iterations", velocityIterations);
+        DebugCollector.debug("Position iterations", positionIterations);
+        DebugCollector.debug("Sub-steps", subSteps);
+        DebugCollector.debug("Step time (us)", (int) (stepTime / 1000));
+    }
+
+    public int getVelocityIterations() {
+        return velocityIterations;
+    }
+
+    public int getPositionIterations() {
+        return positionIterations;
+    }
+
+    public int getSubSteps() {
+        return subSteps;
+    }
+
+    /**
+     * @return the time the last call to {@link #step(World, float)} took, in nanoseconds
+     */
+    public long getStepTime() {
+        return stepTime;
+    }
+}
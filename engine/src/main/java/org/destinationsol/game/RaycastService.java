@@ -0,0 +1,230 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.RayCastCallback;
+import com.badlogic.gdx.physics.box2d.World;
+import org.destinationsol.ui.DebugCollector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the ray casts of the game against the Box2D {@link World}, counting them and reusing their results where it can.
+ * <p>
+ * Callers that ask the same question every tick, such as whether anything is in the way of a ship, hold a {@link Ray}
+ * for it. If the ray was cast within the last {@link #MAX_CACHED_TICKS} ticks and neither of its ends has moved by more
+ * than its tolerance since, the earlier result is returned without calling into Box2D. Rays whose result may lag by a
+ * tick can also be requested instead of cast; requests are collected during the tick and all run together in
+ * {@link #update()}, right after the physics step.
+ */
+public class RaycastService {
+    public static final float DEFAULT_TOLERANCE = .05f;
+    /**
+     * The number of ticks a ray cast result is reused for at most, however little the ray moved.
+     */
+    public static final int MAX_CACHED_TICKS = 3;
+    private final World world;
+    private final HitCallback hitCallback;
+    private final List<Ray> requests;
+    private int tick;
+    private int queries;
+    private int cacheHits;
+    private int jniCalls;
+    private int lastQueries;
+    private int lastCacheHits;
+    private int lastJniCalls;
+
+    public RaycastService(World world) {
+        this.world = world;
+        hitCallback = new HitCallback();
+        requests = new ArrayList<>();
+    }
+
+    public Ray createRay(Filter filter) {
+        return createRay(filter, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * @param filter decides which fixtures block the ray
+     * @param tolerance how far each end of the ray may move before the last result is no longer reused
+     * @return a new ray, to be kept by the caller and passed to {@link #cast} or {@link #request} every time
+     */
+    public Ray createRay(Filter filter, float tolerance) {
+        return new Ray(filter, tolerance);
+    }
+
+    /**
+     * Tells whether anything blocks the ray between the given points, reusing the last result of the ray if it is close
+     * enough.
+     *
+     * @return true if a fixture accepted by the ray's filter lies between {@code from} and {@code to}
+     */
+    public boolean cast(Ray ray, Vector2 from, Vector2 to) {
+        queries++;
+        if (isCached(ray, from, to)) {
+            cacheHits++;
+            return ray.hit;
+        }
+        run(ray, from, to);
+        return ray.hit;
+    }
+
+    /**
+     * Asks for the ray to be cast between the given points during the next {@link #update()}, and returns the latest
+     * result available without waiting for it.
+     *
+     * @return the result of the ray as of at most {@link #MAX_CACHED_TICKS} ticks ago, or false if there is none
+     */
+    public boolean request(Ray ray, Vector2 from, Vector2 to) {
+        queries++;
+        if (isCached(ray, from, to)) {
+            cacheHits++;
+            return ray.hit;
+        }
+        ray.requestedFrom.set(from);
+        ray.requestedTo.set(to);
+        if (!ray.requested) {
+            ray.requested = true;
+            requests.add(ray);
+        }
+        return ray.cast && tick - ray.tick <= MAX_CACHED_TICKS && ray.hit;
+    }
+
+    /**
+     * Casts a ray straight away with a callback of the caller's own, for rays too different from one tick to the next
+     * to be cached, like those of projectiles.
+     */
+    public void rayCast(RayCastCallback callback, Vector2 from, Vector2 to) {
+        queries++;
+        jniCalls++;
+        world.rayCast(callback, from, to);
+    }
+
+    /**
+     * Runs the requested ray casts. Called once per tick, after the physics step.
+     */
+    public void update() {
+        tick++;
+        for (int i = 0, size = requests.size(); i < size; i++) {
+            Ray ray = requests.get(i);
+            ray.requested = false;
+            run(ray, ray.requestedFrom, ray.requestedTo);
+        }
+        requests.clear();
+        lastQueries = queries;
+        lastCacheHits = cacheHits;
+        lastJniCalls = jniCalls;
+        queries = 0;
+        cacheHits = 0;
+        jniCalls = 0;
+    }
+
+    private boolean isCached(Ray ray, Vector2 from, Vector2 to) {
+        if (!ray.cast || tick - ray.tick > MAX_CACHED_TICKS) {
+            return false;
+        }
+        float toleranceSquared = ray.tolerance * ray.tolerance;
+        return ray.from.dst2(from) <= toleranceSquared && ray.to.dst2(to) <= toleranceSquared;
+    }
+
+    private void run(Ray ray, Vector2 from, Vector2 to) {
+        ray.hit = false;
+        if (!from.equals(to)) {
+            hitCallback.filter = ray.filter;
+            hitCallback.hit = false;
+            jniCalls++;
+            world.rayCast(hitCallback, from, to);
+            hitCallback.filter = null;
+            ray.hit = hitCallback.hit;
+        }
+        ray.from.set(from);
+        ray.to.set(to);
+        ray.tick = tick;
+        ray.cast = true;
+    }
+
+    public int getQueries() {
+        return lastQueries;
+    }
+
+    public int getCacheHits() {
+        return lastCacheHits;
+    }
+
+    public int getJniCalls() {
+        return lastJniCalls;
+    }
+
+    public void debug() {
+        DebugCollector.debug("Ray cast queries", lastQueries);
+        DebugCollector.debug("Ray cast cache hits", lastCacheHits);
+        DebugCollector.debug("Ray cast JNI calls", lastJniCalls);
+    }
+
+    /**
+     * Decides which fixtures a ray is blocked by.
+     */
+    public interface Filter {
+        /**
+         * @param owner the {@link SolObject} or entity owning the fixture, see {@link ObjectManager#getOwner(Fixture)}
+         * @param fixture the fixture the ray went through
+         * @return true if the fixture blocks the ray
+         */
+        boolean blocks(Object owner, Fixture fixture);
+    }
+
+    /**
+     * A ray cast repeatedly by the same caller, holding its last result.
+     */
+    public static final class Ray {
+        private final Filter filter;
+        private final float tolerance;
+        private final Vector2 from;
+        private final Vector2 to;
+        private final Vector2 requestedFrom;
+        private final Vector2 requestedTo;
+        private boolean cast;
+        private boolean requested;
+        private boolean hit;
+        private int tick;
+
+        private Ray(Filter filter, float tolerance) {
+            this.filter = filter;
+            this.tolerance = tolerance;
+            from = new Vector2();
+            to = new Vector2();
+            requestedFrom = new Vector2();
+            requestedTo = new Vector2();
+        }
+    }
+
+    private static class HitCallback implements RayCastCallback {
+        private Filter filter;
+        private boolean hit;
+
+        @Override
+        public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+            if (!filter.blocks(ObjectManager.getOwner(fixture), fixture)) {
+                return -1;
+            }
+            hit = true;
+            return 0;
+        }
+    }
+}
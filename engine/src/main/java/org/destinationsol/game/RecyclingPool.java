@@ -0,0 +1,170 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import org.destinationsol.ui.DebugCollector;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A bounded pool of dormant objects, grouped by the configuration they were built from.
+ * <p>
+ * Objects that leave the near zone are parked here instead of being torn down, so that the next object built from the
+ * same configuration can be re-initialised rather than created from scratch. Once the pool is full, the object that
+ * has been dormant the longest is handed to the disposer to make room, so that objects of configurations no longer
+ * asked for, such as those of a planet the player has left, do not hold the pool forever.
+ *
+ * @param <K> the configuration key of the pooled objects
+ * @param <T> the type of the pooled objects
+ */
+public class RecyclingPool<K, T> {
+    private final String dormantLabel;
+    private final String hitsLabel;
+    private final String missesLabel;
+    private final String evictionsLabel;
+    private final int maxSize;
+    private final Consumer<T> disposer;
+    private final Map<K, ArrayDeque<Dormant<K, T>>> dormant;
+    /**
+     * All dormant objects, the one freed the longest ago first.
+     */
+    private final LinkedHashSet<Dormant<K, T>> order;
+    private int size;
+    private int hits;
+    private int misses;
+    private int evictions;
+
+    /**
+     * @param name the name the statistics of this pool are reported under
+     * @param maxSize the maximum number of dormant objects held at once
+     * @param disposer releases the resources of objects that do not fit in the pool
+     */
+    public RecyclingPool(String name, int maxSize, Consumer<T> disposer) {
+        dormantLabel = name + " dormant";
+        hitsLabel = name + " hits";
+        missesLabel = name + " misses";
+        evictionsLabel = name + " evictions";
+        this.maxSize = maxSize;
+        this.disposer = disposer;
+        dormant = new HashMap<>();
+        order = new LinkedHashSet<>();
+    }
+
+    /**
+     * Takes a dormant object built from the given configuration out of the pool.
+     *
+     * @param key the configuration of the wanted object
+     * @return the dormant object, or null if there is none and a new object has to be built
+     */
+    public T obtain(K key) {
+        ArrayDeque<Dormant<K, T>> objects = dormant.get(key);
+        if (objects == null || objects.isEmpty()) {
+            misses++;
+            return null;
+        }
+        hits++;
+        size--;
+        Dormant<K, T> entry = objects.pollLast();
+        order.remove(entry);
+        return entry.object;
+    }
+
+    /**
+     * Parks an object in the pool. If the pool is already full, the object dormant the longest is disposed of first.
+     *
+     * @param key the configuration the object was built from
+     * @param object the object, which should already be deactivated
+     */
+    public void free(K key, T object) {
+        if (maxSize <= 0) {
+            evictions++;
+            disposer.accept(object);
+            return;
+        }
+        if (size >= maxSize) {
+            evictOldest();
+        }
+        Dormant<K, T> entry = new Dormant<>(key, object);
+        dormant.computeIfAbsent(key, k -> new ArrayDeque<>()).addLast(entry);
+        order.add(entry);
+        size++;
+    }
+
+    private void evictOldest() {
+        Iterator<Dormant<K, T>> iterator = order.iterator();
+        Dormant<K, T> oldest = iterator.next();
+        iterator.remove();
+        // Objects of one configuration are freed in the same order as all objects, so the oldest comes first
+        ArrayDeque<Dormant<K, T>> objects = dormant.get(oldest.key);
+        objects.pollFirst();
+        if (objects.isEmpty()) {
+            dormant.remove(oldest.key);
+        }
+        size--;
+        evictions++;
+        disposer.accept(oldest.object);
+    }
+
+    /**
+     * Disposes of all dormant objects, for when the game they belong to ends.
+     */
+    public void clear() {
+        for (Dormant<K, T> entry : order) {
+            disposer.accept(entry.object);
+        }
+        order.clear();
+        dormant.clear();
+        size = 0;
+    }
+
+    public void debug() {
+        DebugCollector.debug(dormantLabel, size);
+        DebugCollector.debug(hitsLabel, hits);
+        DebugCollector.debug(missesLabel, misses);
+        DebugCollector.debug(evictionsLabel, evictions);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    public int getEvictions() {
+        return evictions;
+    }
+
+    private static final class Dormant<K, T> {
+        private final K key;
+        private final T object;
+
+        private Dormant(K key, T object) {
+            this.key = key;
+            this.object = object;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.LongMap;
+import org.destinationsol.game.ship.SolShip;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A uniform grid over the positions of all near {@link SolShip}s, rebuilt once per tick by the {@link ObjectManager}.
+ * <p>
+ * Lets callers find the ships around a point without scanning every object in the game. Cell lists are kept between
+ * rebuilds so that the grid does not allocate once it has warmed up.
+ */
+public class ShipGrid {
+    public static final float CELL_SIZE = 4f;
+    private static final int MAX_CELLS = 4096;
+
+    private final LongMap<List<SolShip>> cells;
+    private final List<List<SolShip>> usedCells;
+    private final List<SolShip> queryResult;
+
+    public ShipGrid() {
+        cells = new LongMap<>();
+        usedCells = new ArrayList<>();
+        queryResult = new ArrayList<>();
+    }
+
+    private static int toCell(float coordinate) {
+        return MathUtils.floor(coordinate / CELL_SIZE);
+    }
+
+    private static long toKey(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Replaces the contents of the grid with the ships found in {@code objects}.
+     *
+     * @param objects all near objects of the game
+     */
+    public void rebuild(List<SolObject> objects) {
+        for (List<SolShip> cell : usedCells) {
+            cell.clear();
+        }
+        usedCells.clear();
+        // Forget the cells of places the ships have long left
+        if (cells.size > MAX_CELLS) {
+            cells.clear();
+        }
+        for (SolObject object : objects) {
+            if (object instanceof SolShip) {
+                Vector2 position = object.getPosition();
+                long key = toKey(toCell(position.x), toCell(position.y));
+                List<SolShip> cell = cells.get(key);
+                if (cell == null) {
+                    cell = new ArrayList<>();
+                    cells.put(key, cell);
+                }
+                if (cell.isEmpty()) {
+                    usedCells.add(cell);
+                }
+                cell.add((SolShip) object);
+            }
+        }
+    }
+
+    /**
+     * Collects the ships whose cells overlap the square around {@code position}. Callers still have to check the exact
+     * distance of each returned ship.
+     * <p>
+     * The returned list is reused by the next call, so it must not be kept or modified.
+     *
+     * @param position the centre of the lookup
+     * @param radius   the lookup radius
+     * @return the candidate ships
+     */
+    public List<SolShip> getShipsNear(Vector2 position, float radius) {
+        queryResult.clear();
+        int minX = toCell(position.x - radius);
+        int maxX = toCell(position.x + radius);
+        int minY = toCell(position.y - radius);
+        int maxY = toCell(position.y + radius);
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                List<SolShip> cell = cells.get(toKey(x, y));
+                if (cell != null) {
+                    queryResult.addAll(cell);
+                }
+            }
+        }
+        return queryResult;
+    }
+}
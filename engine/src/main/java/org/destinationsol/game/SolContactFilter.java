@@ -30,14 +30,16 @@ public SolContactFilter(FactionManager factionManager) {
     @Override
     public boolean shouldCollide(Fixture fixtureA, Fixture fixtureB) {
 
-        if (fixtureA.getBody().getUserData() instanceof EntityRef || fixtureB.getBody().getUserData() instanceof EntityRef) {
+        Object dataA = ObjectManager.getOwner(fixtureA);
+        Object dataB = ObjectManager.getOwner(fixtureB);
+        if (dataA instanceof EntityRef || dataB instanceof EntityRef) {
             return true;
         }
 
         //TODO Everything after this will need to be replaced when Projectile is refactored to work with ECS
 
-        SolObject oA = (SolObject) fixtureA.getBody().getUserData();
-        SolObject oB = (SolObject) fixtureB.getBody().getUserData();
+        SolObject oA = (SolObject) dataA;
+        SolObject oB = (SolObject) dataB;
 
         boolean aIsProj = oA instanceof Projectile;
         if (!aIsProj && !(oB instanceof Projectile)) {
@@ -42,8 +42,8 @@ public SolContactListener(SolGame game) {
 
     @Override
     public void beginContact(Contact contact) {
-        Object dataA = contact.getFixtureA().getBody().getUserData();
-        Object dataB = contact.getFixtureB().getBody().getUserData();
+        Object dataA = ObjectManager.getOwner(contact.getFixtureA());
+        Object dataB = ObjectManager.getOwner(contact.getFixtureB());
 
         if (dataA instanceof EntityRef && dataB instanceof EntityRef) {
             EntityRef entityA = (EntityRef) dataA;
@@ -85,8 +85,8 @@ public void preSolve(Contact contact, Manifold oldManifold) {
     @Override
     public void postSolve(Contact contact, ContactImpulse impulse) {
 
-        Object dataA = contact.getFixtureA().getBody().getUserData();
-        Object dataB = contact.getFixtureB().getBody().getUserData();
+        Object dataA = ObjectManager.getOwner(contact.getFixtureA());
+        Object dataB = ObjectManager.getOwner(contact.getFixtureB());
 
         Vector2 collPos = contact.getWorldManifold().getPoints()[0];
         float absImpulse = calcAbsImpulse(impulse);
@@ -39,6 +39,7 @@
 import org.destinationsol.game.drawables.DrawableDebugger;
 import org.destinationsol.game.drawables.DrawableManager;
 import org.destinationsol.game.farBg.FarBackgroundManagerOld;
+import org.destinationsol.game.input.AiThinkScheduler;
 import org.destinationsol.game.item.ItemManager;
 import org.destinationsol.game.item.LootBuilder;
 import org.destinationsol.game.item.MercItem;
@@ -50,6 +51,8 @@
 import org.destinationsol.game.planet.PlanetManager;
 import org.destinationsol.game.planet.SolSystem;
 import org.destinationsol.game.planet.SunSingleton;
+import org.destinationsol.game.planet.TileObjBuilder;
+import org.destinationsol.game.projectile.ProjectileManager;
 import org.destinationsol.game.screens.GameScreens;
 import org.destinationsol.game.ship.ShipAbility;
 import org.destinationsol.game.ship.ShipBuilder;
@@ -81,6 +84,9 @@ public class SolGame {
     private final ChunkManager chunkManager;
     private final PartMan partMan;
     private final AsteroidBuilder asteroidBuilder;
+    private final ProjectileManager projectileManager;
+    private final AiThinkScheduler aiThinkScheduler;
+    private final TileObjBuilder tileObjBuilder;
     private final LootBuilder lootBuilder;
     private final ShipBuilder shipBuilder;
     private final HullConfigManager hullConfigManager;
@@ -144,12 +150,15 @@ public SolGame(String shipName, boolean isTutorial, boolean isNewGame, CommonDra
         planetManager = new PlanetManager(hullConfigManager, gameColors, itemManager);
         contactListener = new SolContactListener(this);
         factionManager = new FactionManager();
-        objectManager = new ObjectManager(contactListener, factionManager);
+        objectManager = new ObjectManager(contactListener, factionManager, new PhysicsStepper(solApplication.getOptions()));
         context.put(World.class, objectManager.getWorld());
         gridDrawer = new GridDrawer();
-        chunkManager = new ChunkManager();
+        chunkManager = new ChunkManager(solApplication.getOptions());
         partMan = new PartMan();
         asteroidBuilder = new AsteroidBuilder();
+        projectileManager = new ProjectileManager();
+        aiThinkScheduler = new AiThinkScheduler(solApplication.getOptions());
+        tileObjBuilder = new TileObjBuilder();
         lootBuilder = new LootBuilder();
         mapDrawer = new MapDrawer();
         rubbleBuilder = new RubbleBuilder();
@@ -169,7 +178,7 @@ public void createUpdateSystems(Context context) {
         // the ordering of update aware systems is very important, switching them up can cause bugs!
         updateSystems = new TreeMap<Integer, List<UpdateAwareSystem>>();
         List<UpdateAwareSystem> defaultSystems = new ArrayList<UpdateAwareSystem>();
-        defaultSystems.addAll(Arrays.asList(planetManager, camera, chunkManager, mountDetectDrawer, objectManager, mapDrawer, soundManager, beaconHandler, drawableDebugger));
+        defaultSystems.addAll(Arrays.asList(planetManager, camera, chunkManager, mountDetectDrawer, aiThinkScheduler, objectManager, mapDrawer, soundManager, beaconHandler, drawableDebugger));
         if (tutorialManager != null) {
             defaultSystems.add(tutorialManager);
         }
@@ -293,6 +302,10 @@ public void onGameEnd(Context context) {
             context.remove(TutorialManager.class, tutorialManager);
         }
         FactionInfo.clearValues();
+        // The dormant objects still have bodies in the world that is about to be disposed
+        asteroidBuilder.getPool().clear();
+        tileObjBuilder.getPool().clear();
+        projectileManager.getPool().clear();
         objectManager.dispose();
     }
 
@@ -408,10 +421,26 @@ public AsteroidBuilder getAsteroidBuilder() {
         return asteroidBuilder;
     }
 
+    public ProjectileManager getProjectileManager() {
+        return projectileManager;
+    }
+
+    public AiThinkScheduler getAiThinkScheduler() {
+        return aiThinkScheduler;
+    }
+
+    public TileObjBuilder getTileObjBuilder() {
+        return tileObjBuilder;
+    }
+
     public LootBuilder getLootBuilder() {
         return lootBuilder;
     }
 
+    public ChunkManager getChunkManager() {
+        return chunkManager;
+    }
+
     public Hero getHero() {
         return hero;
     }
@@ -53,10 +53,13 @@ public class StarPort implements SolObject {
     private final Planet toPlanet;
     private final ArrayList<Drawable> drawables;
     private final boolean isSecondary;
+    private final Vector2 overlapOffset;
     private float angle;
 
-    StarPort(Planet from, Planet to, Body body, ArrayList<Drawable> drawables, boolean secondary, ArrayList<LightSource> lights) {
+    StarPort(Planet from, Planet to, Body body, ArrayList<Drawable> drawables, boolean secondary, ArrayList<LightSource> lights,
+             Vector2 overlapOffset) {
         this.fromPlanet = from;
+        this.overlapOffset = overlapOffset;
         this.toPlanet = to;
         this.drawables = drawables;
         this.body = body;
@@ -82,24 +85,39 @@ public static Vector2 getDesiredPosition(Planet from, Planet to, boolean precise
         return position;
     }
 
-    private static Vector2 adjustDesiredPos(SolGame game, StarPort port, Vector2 desired) {
-        Vector2 newPosition = desired;
-        List<SolObject> objects = game.getObjectManager().getObjects();
-        for (SolObject object : objects) {
-            if (object instanceof StarPort && object != port) {
-                StarPort starPort = (StarPort) object;
-                // Check if the positions overlap
-                Vector2 fromPosition = starPort.getPosition();
-                Vector2 distanceVector = SolMath.distVec(fromPosition, desired);
-                float distance = SolMath.hypotenuse(distanceVector.x, distanceVector.y);
-                if (distance <= (float) StarPort.SIZE) {
-                    distanceVector.scl((StarPort.SIZE + .5f) / distance);
-                    newPosition = fromPosition.cpy().add(distanceVector);
-                }
-                SolMath.free(distanceVector);
+    /**
+     * Works out how far a new star port has to be moved from its desired position so that it does not overlap the live
+     * star ports that share one of its planets. This is solved once, when the star port is built.
+     *
+     * @param game    the game object
+     * @param from    the planet the star port starts at
+     * @param to      the planet the star port leads to
+     * @param desired the desired position of the star port
+     * @param angle   the angle of the star lane from {@code from} to {@code to}
+     * @return the offset from the desired position, relative to the star lane
+     */
+    private static Vector2 getOverlapOffset(SolGame game, Planet from, Planet to, Vector2 desired, float angle) {
+        Vector2 newPosition = new Vector2(desired);
+        ObjectManager objectManager = game.getObjectManager();
+        adjustDesiredPos(objectManager.getStarPorts(from), desired, newPosition);
+        adjustDesiredPos(objectManager.getStarPorts(to), desired, newPosition);
+        newPosition.sub(desired);
+        SolMath.rotate(newPosition, -angle);
+        return newPosition;
+    }
+
+    private static void adjustDesiredPos(List<StarPort> starPorts, Vector2 desired, Vector2 newPosition) {
+        for (StarPort starPort : starPorts) {
+            // Check if the positions overlap
+            Vector2 fromPosition = starPort.getPosition();
+            Vector2 distanceVector = SolMath.distVec(fromPosition, desired);
+            float distance = SolMath.hypotenuse(distanceVector.x, distanceVector.y);
+            if (distance <= (float) StarPort.SIZE) {
+                distanceVector.scl((StarPort.SIZE + .5f) / distance);
+                newPosition.set(fromPosition).add(distanceVector);
             }
+            SolMath.free(distanceVector);
         }
-        return newPosition;
     }
 
     @Override
@@ -108,13 +126,16 @@ public void update(SolGame game) {
 
         float fps = 1 / game.getTimeStep();
 
+        float desiredAngle = SolMath.angle(fromPlanet.getPosition(), toPlanet.getPosition());
         Vector2 velocity = getDesiredPosition(fromPlanet, toPlanet, true);
-        // Adjust position so that StarPorts are not overlapping
-        velocity = adjustDesiredPos(game, this, velocity);
+        // Keep the offset that stops StarPorts from overlapping
+        Vector2 offset = SolMath.getVec(overlapOffset);
+        SolMath.rotate(offset, desiredAngle);
+        velocity.add(offset);
+        SolMath.free(offset);
         velocity.sub(position).scl(fps / 4);
         body.setLinearVelocity(velocity);
         SolMath.free(velocity);
-        float desiredAngle = SolMath.angle(fromPlanet.getPosition(), toPlanet.getPosition());
         body.setAngularVelocity((desiredAngle - angle) * MathUtils.degRad * fps / 4);
 
         SolShip ship = ForceBeacon.pullShips(game, this, position, null, null, .4f * SIZE);
@@ -236,13 +257,16 @@ public static class Builder {
 
         public StarPort build(SolGame game, Planet from, Planet to, boolean secondary) {
             float angle = SolMath.angle(from.getPosition(), to.getPosition());
-            Vector2 position = getDesiredPosition(from, to, false);
+            Vector2 desiredPosition = getDesiredPosition(from, to, false);
             // Adjust position so that StarPorts are not overlapping
-            position = adjustDesiredPos(game, null, position);
+            Vector2 overlapOffset = getOverlapOffset(game, from, to, desiredPosition, angle);
+            Vector2 position = new Vector2(overlapOffset);
+            SolMath.rotate(position, angle);
+            position.add(desiredPosition);
+            SolMath.free(desiredPosition);
             ArrayList<Drawable> drawables = new ArrayList<>();
             Body body = myLoader.getBodyAndSprite(game.getObjectManager().getWorld(), Assets.getAtlasRegion("engine:starPort"), SIZE,
                     BodyDef.BodyType.KinematicBody, new Vector2(position), angle, drawables, 10f, DrawableLevel.BIG_BODIES);
-            SolMath.free(position);
             ArrayList<LightSource> lights = new ArrayList<>();
             addFlow(game, position, drawables, 0, lights);
             addFlow(game, position, drawables, 90, lights);
@@ -251,7 +275,7 @@ public StarPort build(SolGame game, Planet from, Planet to, boolean secondary) {
             DSParticleEmitter force = game.getSpecialEffects().buildForceBeacon(FLOW_DIST * 1.5f, game, new Vector2(), position, Vector2.Zero);
             force.setWorking(true);
             drawables.addAll(force.getDrawables());
-            StarPort sp = new StarPort(from, to, body, drawables, secondary, lights);
+            StarPort sp = new StarPort(from, to, body, drawables, secondary, lights, overlapOffset);
             body.setUserData(sp);
             return sp;
         }
@@ -50,7 +50,7 @@ public class Asteroid implements SolObject {
     private final Vector2 velocity;
     private final ArrayList<Drawable> drawables;
     private final TextureAtlas.AtlasRegion texture;
-    private final RemoveController removeController;
+    private RemoveController removeController;
     private final DSParticleEmitter smokeSource;
     private final DSParticleEmitter fireSource;
     private final float mass;
@@ -58,6 +58,7 @@ public class Asteroid implements SolObject {
     private float angle;
     private float life;
     private float size;
+    private boolean goingFar;
 
     Asteroid(SolGame game, TextureAtlas.AtlasRegion tex, Body body, float size, RemoveController removeController, ArrayList<Drawable> drawables) {
         texture = tex;
@@ -85,7 +86,9 @@ public Vector2 getPosition() {
     @Override
     public FarObject toFarObject() {
         float rotationSpeed = body.getAngularVelocity();
-        return new FarAsteroid(texture, position, angle, removeController, size, velocity, rotationSpeed);
+        goingFar = true;
+        // This asteroid keeps updating its vectors in place once it is taken out of the pool again
+        return new FarAsteroid(texture, position.cpy(), angle, removeController, size, velocity.cpy(), rotationSpeed);
     }
 
     @Override
@@ -165,6 +168,12 @@ public boolean shouldBeRemoved(SolGame game) {
 
     @Override
     public void onRemove(SolGame game) {
+        // Asteroids that just drifted out of sight keep their body and effects for the next asteroid of the same kind
+        if (goingFar && life > 0 && isIdle(smokeSource) && isIdle(fireSource)) {
+            body.setActive(false);
+            game.getAsteroidBuilder().free(this);
+            return;
+        }
         game.getPartMan().finish(game, smokeSource, position);
         game.getPartMan().finish(game, fireSource, position);
         body.getWorld().destroyBody(body);
@@ -176,6 +185,28 @@ public void onRemove(SolGame game) {
         }
     }
 
+    private static boolean isIdle(DSParticleEmitter emitter) {
+        return !emitter.isWorking() && emitter.isComplete();
+    }
+
+    /**
+     * Brings a dormant asteroid taken from the recycling pool back into the world, as if it was newly built.
+     */
+    void reset(Vector2 position, float angle, float rotationSpeed, Vector2 velocity, RemoveController removeController) {
+        body.setTransform(position, angle * MathUtils.degRad);
+        body.setLinearVelocity(velocity);
+        body.setAngularVelocity(rotationSpeed);
+        body.setActive(true);
+        this.removeController = removeController;
+        life = SZ_TO_LIFE * size;
+        goingFar = false;
+        setParamsFromBody();
+    }
+
+    void destroyBody() {
+        body.getWorld().destroyBody(body);
+    }
+
     private void maybeSplit(SolGame game) {
         if (MIN_SPLIT_SZ > size) {
             return;
@@ -235,5 +266,13 @@ public void receiveForce(Vector2 force, SolGame game, boolean acc) {
     public float getLife() {
         return life;
     }
+
+    TextureAtlas.AtlasRegion getTexture() {
+        return texture;
+    }
+
+    float getSize() {
+        return size;
+    }
 }
 
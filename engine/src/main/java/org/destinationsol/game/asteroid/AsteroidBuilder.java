@@ -27,6 +27,7 @@
 import org.destinationsol.common.SolColor;
 import org.destinationsol.common.SolRandom;
 import org.destinationsol.game.CollisionMeshLoader;
+import org.destinationsol.game.RecyclingPool;
 import org.destinationsol.game.RemoveController;
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.drawables.Drawable;
@@ -36,17 +37,26 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class AsteroidBuilder {
     private static final float DENSITY = 10f;
     private static final float MAX_A_ROT_SPD = .5f;
     private static final float MAX_BALL_SZ = .2f;
+    private static final int MAX_DORMANT_ASTEROIDS = 64;
+    /**
+     * New asteroids are sized in steps of this, so that a dormant asteroid can stand in for a new one of the same
+     * texture without its body and sprites having to be rescaled.
+     */
+    private static final float SIZE_STEP = .05f;
     private final CollisionMeshLoader collisionMeshLoader;
     private final List<TextureAtlas.AtlasRegion> textures;
+    private final RecyclingPool<AsteroidKey, Asteroid> pool;
 
     public AsteroidBuilder() {
         collisionMeshLoader = new CollisionMeshLoader("engine:asteroids");
         textures = Assets.listTexturesMatching("engine:asteroid_.*");
+        pool = new RecyclingPool<>("Asteroid pool", MAX_DORMANT_ASTEROIDS, Asteroid::destroyBody);
     }
 
     public static Body buildBall(SolGame game, Vector2 position, float angle, float rad, float density, boolean sensor) {
@@ -71,17 +81,26 @@ public static Body buildBall(SolGame game, Vector2 position, float angle, float
     // doesn't consume position
     public Asteroid buildNew(SolGame game, Vector2 position, Vector2 velocity, float size, RemoveController removeController) {
         float rotationSpeed = SolRandom.randomFloat(MAX_A_ROT_SPD);
-        return build(game, position, SolRandom.randomElement(textures), size, SolRandom.randomFloat(180), rotationSpeed, velocity, removeController);
+        return build(game, position, SolRandom.randomElement(textures), roundSize(size), SolRandom.randomFloat(180), rotationSpeed, velocity, removeController);
     }
 
     // doesn't consume position
     public FarAsteroid buildNewFar(Vector2 position, Vector2 velocity, float size, RemoveController removeController) {
         float rotationSpeed = SolRandom.randomFloat(MAX_A_ROT_SPD);
-        return new FarAsteroid(SolRandom.randomElement(textures), new Vector2(position), SolRandom.randomFloat(180), removeController, size, new Vector2(velocity), rotationSpeed);
+        return new FarAsteroid(SolRandom.randomElement(textures), new Vector2(position), SolRandom.randomFloat(180), removeController, roundSize(size), new Vector2(velocity), rotationSpeed);
+    }
+
+    private static float roundSize(float size) {
+        return Math.max(1, Math.round(size / SIZE_STEP)) * SIZE_STEP;
     }
 
     // doesn't consume position
     public Asteroid build(SolGame game, Vector2 position, TextureAtlas.AtlasRegion texture, float size, float angle, float rotationSpeed, Vector2 velocity, RemoveController removeController) {
+        Asteroid dormant = pool.obtain(new AsteroidKey(texture, size));
+        if (dormant != null) {
+            dormant.reset(position, angle, rotationSpeed, velocity, removeController);
+            return dormant;
+        }
 
         ArrayList<Drawable> drawables = new ArrayList<>();
         Body body;
@@ -99,4 +118,43 @@ public Asteroid build(SolGame game, Vector2 position, TextureAtlas.AtlasRegion t
         body.setUserData(asteroid);
         return asteroid;
     }
+
+    /**
+     * Parks an asteroid that left the near zone, with its body already deactivated, until an asteroid of the same
+     * texture and size is needed again.
+     */
+    void free(Asteroid asteroid) {
+        pool.free(new AsteroidKey(asteroid.getTexture(), asteroid.getSize()), asteroid);
+    }
+
+    public RecyclingPool<?, Asteroid> getPool() {
+        return pool;
+    }
+
+    private static final class AsteroidKey {
+        private final TextureAtlas.AtlasRegion texture;
+        private final int sizeSteps;
+
+        AsteroidKey(TextureAtlas.AtlasRegion texture, float size) {
+            this.texture = texture;
+            sizeSteps = Math.round(size / SIZE_STEP);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof AsteroidKey)) {
+                return false;
+            }
+            AsteroidKey other = (AsteroidKey) o;
+            return texture == other.texture && sizeSteps == other.sizeSteps;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(texture), sizeSteps);
+        }
+    }
 }
@@ -44,10 +44,10 @@
 import org.destinationsol.game.planet.SolSystem;
 import org.destinationsol.game.planet.SysConfig;
 import org.destinationsol.game.planet.SystemBelt;
-import org.destinationsol.game.ship.FarShip;
-import org.destinationsol.game.ship.hulls.HullConfig;
+import org.destinationsol.game.ship.FarShipSpawn;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 public class ChunkFiller {
@@ -179,26 +179,22 @@ private void fillEnemies(SolGame game, RemoveController removeController, ShipCo
             return;
         }
 
+        List<FarShipSpawn> spawns = new ArrayList<>(enemyCount);
         for (int i = 0; i < enemyCount; i++) {
-            Optional<Vector2> enemyPosition = getFreeRndPos(game, chunkCenter);
-            enemyPosition.ifPresent(enemyPos -> {
-                FarShip ship = buildSpaceEnemy(game, enemyPos, removeController, enemyConfig);
-                game.getObjectManager().addFarObjNow(ship);
-            });
+            Optional<Vector2> enemyPosition = getFreeRndPos(game, chunkCenter, spawns, enemyConfig.hull.getApproxRadius());
+            enemyPosition.ifPresent(enemyPos -> spawns.add(buildSpaceEnemy(game, enemyPos, removeController, enemyConfig)));
         }
+        game.getShipBuilder().buildNewFar(game, spawns, enemyConfig.items, enemyConfig.hull, false, enemyConfig.money, null, true);
     }
 
-    private FarShip buildSpaceEnemy(SolGame game, Vector2 position, RemoveController remover, ShipConfig enemyConf) {
+    private FarShipSpawn buildSpaceEnemy(SolGame game, Vector2 position, RemoveController remover, ShipConfig enemyConf) {
         Vector2 velocity = new Vector2();
         SolMath.fromAl(velocity, SolRandom.randomFloat(180), SolRandom.randomFloat(0, ENEMY_MAX_SPD));
         float rotationSpeed = SolRandom.randomFloat(ENEMY_MAX_ROT_SPD);
         MoveDestProvider dp = new StillGuard(position, game, enemyConf);
         Pilot provider = new AiPilot(dp, false, Faction.EHAR, true, null, Const.AI_DET_DIST);
-        HullConfig config = enemyConf.hull;
-        int money = enemyConf.money;
         float angle = SolRandom.randomFloat(180);
-        return game.getShipBuilder().buildNewFar(game, position, velocity, angle, rotationSpeed, provider, enemyConf.items, config,
-                remover, false, money, null, true);
+        return new FarShipSpawn(new Vector2(position), velocity, angle, rotationSpeed, provider, remover);
     }
 
     private void fillAsteroids(SolGame game, RemoveController remover, boolean forBelt, Vector2 chunkCenter) {
@@ -367,6 +363,29 @@ private Optional<Vector2> getFreeRndPos(SolGame game, Vector2 chunkCenter) {
         return Optional.empty();
     }
 
+    /**
+     * Finds a free position for a ship of a spawn batch. The ships of a batch are only added to the game once all of
+     * them have been placed, so the positions taken by the batch so far are checked as well.
+     */
+    private Optional<Vector2> getFreeRndPos(SolGame game, Vector2 chunkCenter, List<FarShipSpawn> spawns, float spawnRadius) {
+        for (int i = 0; i < 100; i++) {
+            Vector2 position = getRndPos(chunkCenter);
+            if (game.isPlaceEmpty(position, true) && isClearOfSpawns(position, spawns, spawnRadius)) {
+                return Optional.of(position);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean isClearOfSpawns(Vector2 position, List<FarShipSpawn> spawns, float spawnRadius) {
+        for (FarShipSpawn spawn : spawns) {
+            if (position.dst(spawn.getPosition()) < spawnRadius) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns a random position in a chunk centered around chunkCenter, relative to the entire map.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020 The Terasology Foundation
+ * Copyright 2018 MovingBlocks
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -13,14 +13,15 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.destinationsol.rendering.events;
-
-import org.destinationsol.rendering.components.Renderable;
-import org.destinationsol.rendering.systems.RenderingSystem;
-import org.terasology.gestalt.entitysystem.event.Event;
+package org.destinationsol.game.chunk;
 
 /**
- * Event that tells the {@link RenderingSystem} to update the drawings of each entity with a {@link Renderable}.
+ * Gets told by the {@link ChunkManager} when a chunk comes near the camera and is filled.
  */
-public class RenderEvent implements Event {
+public interface ChunkListener {
+    /**
+     * @param x the chunk index along the x axis, see {@link ChunkManager#posToChunkIdx(float)}
+     * @param y the chunk index along the y axis
+     */
+    void onChunkFilled(int x, int y);
 }
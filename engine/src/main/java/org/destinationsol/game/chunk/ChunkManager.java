@@ -13,40 +13,62 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.destinationsol.game.chunk;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.LongArray;
 import org.destinationsol.Const;
-import org.destinationsol.common.SolMath;
+import org.destinationsol.GameOptions;
 import org.destinationsol.game.RemoveController;
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.UpdateAwareSystem;
 
-import java.util.HashSet;
-import java.util.Set;
-
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills the chunks around the camera with junk, dust and enemies, in two layers: the foreground, and the far
+ * background seen beyond it.
+ * <p>
+ * Chunks are identified by their indices packed into a long, see {@link #getChunkKey(int, int)}, and each layer keeps
+ * its chunks in a {@link ChunkWindow} that moves with the camera. The fill distances of both layers are set in the
+ * {@link GameOptions}. A chunk goes through the {@link ChunkState}s from pending to evicting, and its state can be
+ * asked for with {@link #getState(int, int)}.
+ */
 public class ChunkManager implements UpdateAwareSystem {
-    private static final int MAX_FILL_DIST = 1;
-    private static final int MIN_REMOVE_DIST = MAX_FILL_DIST + 2;
-    private static final int MAX_BG_FILL_DIST = 2;
-    private static final int MIN_BG_REMOVE_DIST = MAX_BG_FILL_DIST + 1;
+    private static final int REMOVE_DIST_MARGIN = 2;
+    private static final int BG_REMOVE_DIST_MARGIN = 1;
 
-    private final Set<Vector2> filledChunks;
-    private final Set<Vector2> backgroundFilledChunks;
+    private final ChunkWindow window;
+    private final ChunkWindow backgroundWindow;
     private final RemoveController removeController;
     private final RemoveController backgroundRemoveController;
     private final ChunkFiller filler;
+    private final List<ChunkListener> listeners;
+    private final LongArray pendingChunks;
+    private final LongArray pendingBackgroundChunks;
+    private final Vector2 chunkPosition;
 
+    private boolean isPlaced;
     private int x;
     private int y;
 
-    public ChunkManager() {
-        filledChunks = new HashSet<>();
-        backgroundFilledChunks = new HashSet<>();
-        removeController = new MyRemover(MIN_REMOVE_DIST);
-        backgroundRemoveController = new MyRemover(MIN_BG_REMOVE_DIST);
+    public ChunkManager(GameOptions options) {
+        int fillDist = Math.max(1, options.getChunkFillDistance());
+        int backgroundFillDist = Math.max(1, options.getBackgroundChunkFillDistance());
+        window = new ChunkWindow(fillDist, fillDist + REMOVE_DIST_MARGIN);
+        backgroundWindow = new ChunkWindow(backgroundFillDist, backgroundFillDist + BG_REMOVE_DIST_MARGIN);
+        removeController = new MyRemover(window.getRemoveDistance());
+        backgroundRemoveController = new MyRemover(backgroundWindow.getRemoveDistance());
         filler = new ChunkFiller();
+        listeners = new ArrayList<>();
+        pendingChunks = new LongArray();
+        pendingBackgroundChunks = new LongArray();
+        chunkPosition = new Vector2();
+    }
+
+    public void addListener(ChunkListener listener) {
+        listeners.add(listener);
     }
 
     @Override
@@ -54,11 +76,11 @@ public void update(SolGame game, float timeStep) {
         Vector2 camPos = game.getCam().getPosition();
         boolean refill = updateCurrChunk(camPos);
         if (refill) {
-            clearFarChunks(filledChunks, MIN_REMOVE_DIST);
-            addNewChunks(filledChunks, MAX_FILL_DIST, game);
-            clearFarChunks(backgroundFilledChunks, MIN_BG_REMOVE_DIST);
-            addNewChunks(backgroundFilledChunks, MAX_BG_FILL_DIST, game);
+            window.moveTo(x, y, pendingChunks);
+            backgroundWindow.moveTo(x, y, pendingBackgroundChunks);
         }
+        fillPendingChunks(window, pendingChunks, false, game);
+        fillPendingChunks(backgroundWindow, pendingBackgroundChunks, true, game);
     }
 
     private boolean updateCurrChunk(Vector2 position) {
@@ -66,10 +88,12 @@ private boolean updateCurrChunk(Vector2 position) {
         int oldY = y;
         x = posToChunkIdx(position.x);
         y = posToChunkIdx(position.y);
-        return oldX != x || oldY != y;
+        boolean wasPlaced = isPlaced;
+        isPlaced = true;
+        return !wasPlaced || oldX != x || oldY != y;
     }
 
-    private int posToChunkIdx(float v) {
+    public static int posToChunkIdx(float v) {
         int i = (int) (v / Const.CHUNK_SIZE);
         if (v < 0) {
             i -= 1;
@@ -77,41 +101,80 @@ private int posToChunkIdx(float v) {
         return i;
     }
 
-    private void clearFarChunks(Set<Vector2> chunks, int dist) {
-        chunks.removeIf(chunk -> isChunkFar((int) chunk.x, (int) chunk.y, dist));
+    /**
+     * Packs the indices of a chunk into one long, which identifies the chunk.
+     *
+     * @param x the chunk index along the x axis, see {@link #posToChunkIdx(float)}
+     * @param y the chunk index along the y axis
+     * @return the key of the chunk
+     */
+    public static long getChunkKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    public static int getChunkX(long key) {
+        return (int) (key >> 32);
     }
 
-    private boolean isChunkFar(int x, int y, int dist) {
-        return x <= this.x - dist || this.x + dist <= x || y <= this.y - dist || this.y + dist <= y;
+    public static int getChunkY(long key) {
+        return (int) key;
     }
 
-    private void addNewChunks(Set<Vector2> chunks, int dist, SolGame game) {
-        maybeAddChunk(chunks, 0, 0, game);
-        for (int i = -dist; i < dist + 1; i++) {
-            for (int j = -dist; j < dist + 1; j++) {
-                if (i == 0 && j == 0) {
-                    continue;
+    static boolean isChunkFar(int x, int y, int centreX, int centreY, int dist) {
+        return x <= centreX - dist || centreX + dist <= x || y <= centreY - dist || centreY + dist <= y;
+    }
+
+    private void fillPendingChunks(ChunkWindow window, LongArray pending, boolean background, SolGame game) {
+        for (int i = 0; i < pending.size; i++) {
+            long key = pending.get(i);
+            int chunkX = getChunkX(key);
+            int chunkY = getChunkY(key);
+            if (window.getState(chunkX, chunkY) != ChunkState.PENDING) {
+                // The camera has moved away again before the chunk was reached
+                continue;
+            }
+            window.setState(chunkX, chunkY, ChunkState.GENERATING);
+            chunkPosition.set(chunkX, chunkY);
+            filler.fill(game, chunkPosition, background ? backgroundRemoveController : removeController, background);
+            window.setState(chunkX, chunkY, ChunkState.LIVE);
+            if (!background) {
+                for (int j = 0, size = listeners.size(); j < size; j++) {
+                    listeners.get(j).onChunkFilled(chunkX, chunkY);
                 }
-                maybeAddChunk(chunks, i, j, game);
             }
         }
+        pending.clear();
     }
 
-    private void maybeAddChunk(Set<Vector2> chunks, int oX, int oY, SolGame game) {
-        Vector2 v = SolMath.getVec(x + oX, y + oY);
-        if (!chunks.contains(v)) {
-            Vector2 chunk = new Vector2(v);
-            chunks.add(chunk);
-            boolean background = chunks == backgroundFilledChunks;
-            filler.fill(game, chunk, background ? backgroundRemoveController : removeController, background);
-        }
-        SolMath.free(v);
+    /**
+     * @param x the chunk index along the x axis, see {@link #posToChunkIdx(float)}
+     * @param y the chunk index along the y axis
+     * @return the state of the foreground chunk
+     */
+    public ChunkState getState(int x, int y) {
+        return window.getState(x, y);
+    }
+
+    /**
+     * @param x the chunk index along the x axis, see {@link #posToChunkIdx(float)}
+     * @param y the chunk index along the y axis
+     * @return the state of the far background chunk
+     */
+    public ChunkState getBackgroundState(int x, int y) {
+        return backgroundWindow.getState(x, y);
+    }
+
+    /**
+     * @return how many chunks away from the camera's chunk the foreground is filled, in each direction
+     */
+    public int getFillDistance() {
+        return window.getFillDistance();
     }
 
     public boolean isInactive(Vector2 position, int dist) {
         int x = posToChunkIdx(position.x);
         int y = posToChunkIdx(position.y);
-        return isChunkFar(x, y, dist);
+        return isChunkFar(x, y, this.x, this.y, dist);
     }
 
     private class MyRemover implements RemoveController {
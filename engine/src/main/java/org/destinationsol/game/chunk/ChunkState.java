@@ -0,0 +1,32 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.chunk;
+
+/**
+ * Where a chunk is in its life, as kept by the {@link ChunkManager}.
+ */
+public enum ChunkState {
+    /** The chunk is not near the camera, and holds nothing. */
+    UNLOADED,
+    /** The chunk has come near the camera and waits to be filled. */
+    PENDING,
+    /** The chunk is being filled. */
+    GENERATING,
+    /** The chunk has been filled, and its objects are in the game. */
+    LIVE,
+    /** The chunk has gone far from the camera, and its objects are being removed as they notice it. */
+    EVICTING
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.chunk;
+
+import com.badlogic.gdx.utils.LongArray;
+
+import java.util.Arrays;
+
+/**
+ * The chunks kept around the camera for one layer of chunks, in a ring buffer that moves along with the camera.
+ * <p>
+ * A chunk is kept while it is less than the remove distance away from the centre in both directions, so at most
+ * {@code 2 * removeDistance - 1} chunks along each axis are kept at once. Each chunk has a fixed cell, given by its
+ * indices modulo that width, and no two kept chunks share a cell. Moving the window by a chunk or a few only touches
+ * the rows and columns of chunks that leave or enter it, and never allocates.
+ */
+class ChunkWindow {
+    private final int fillDistance;
+    private final int removeDistance;
+    private final int width;
+    private final long[] keys;
+    private final ChunkState[] states;
+    /**
+     * The cells marked as {@link ChunkState#EVICTING} by the last move, to be let go of by the next one.
+     */
+    private final int[] evictingCells;
+    private int evictingCount;
+    private boolean isPlaced;
+    private int centreX;
+    private int centreY;
+
+    ChunkWindow(int fillDistance, int removeDistance) {
+        if (fillDistance < 0 || removeDistance <= fillDistance) {
+            throw new IllegalArgumentException("The remove distance " + removeDistance
+                    + " must be greater than the fill distance " + fillDistance);
+        }
+        this.fillDistance = fillDistance;
+        this.removeDistance = removeDistance;
+        width = 2 * removeDistance - 1;
+        keys = new long[width * width];
+        states = new ChunkState[width * width];
+        Arrays.fill(states, ChunkState.UNLOADED);
+        evictingCells = new int[width * width];
+    }
+
+    int getFillDistance() {
+        return fillDistance;
+    }
+
+    int getRemoveDistance() {
+        return removeDistance;
+    }
+
+    ChunkState getState(int x, int y) {
+        int cell = getCell(x, y);
+        return keys[cell] == ChunkManager.getChunkKey(x, y) ? states[cell] : ChunkState.UNLOADED;
+    }
+
+    void setState(int x, int y, ChunkState state) {
+        int cell = getCell(x, y);
+        keys[cell] = ChunkManager.getChunkKey(x, y);
+        states[cell] = state;
+    }
+
+    /**
+     * Moves the window to a new centre. Chunks evicted by the last move are let go of, chunks that are now too far are
+     * marked as {@link ChunkState#EVICTING}, and the chunks within the fill distance that are not kept yet are added to
+     * the given queue as {@link ChunkState#PENDING}, the centre first.
+     *
+     * @param centreX the chunk index of the new centre along the x axis
+     * @param centreY the chunk index of the new centre along the y axis
+     * @param pending the queue of chunk keys to add the chunks to be filled to
+     */
+    void moveTo(int centreX, int centreY, LongArray pending) {
+        for (int i = 0; i < evictingCount; i++) {
+            int cell = evictingCells[i];
+            // The cell may have been taken over by a chunk filled since
+            if (states[cell] == ChunkState.EVICTING) {
+                states[cell] = ChunkState.UNLOADED;
+            }
+        }
+        evictingCount = 0;
+
+        if (isPlaced) {
+            evictLeavingChunks(centreX, centreY);
+        }
+        isPlaced = true;
+        this.centreX = centreX;
+        this.centreY = centreY;
+
+        maybeQueue(centreX, centreY, pending);
+        for (int i = -fillDistance; i <= fillDistance; i++) {
+            for (int j = -fillDistance; j <= fillDistance; j++) {
+                if (i == 0 && j == 0) {
+                    continue;
+                }
+                maybeQueue(centreX + i, centreY + j, pending);
+            }
+        }
+    }
+
+    /**
+     * Marks the chunks kept around the old centre that are too far from the new one as evicting. These are the columns
+     * and rows that the kept area slides off, or all of it if the window jumps further than its width.
+     */
+    private void evictLeavingChunks(int newX, int newY) {
+        int keep = removeDistance - 1;
+        int oldMinX = centreX - keep;
+        int oldMaxX = centreX + keep;
+        int oldMinY = centreY - keep;
+        int oldMaxY = centreY + keep;
+        int newMinX = newX - keep;
+        int newMaxX = newX + keep;
+        int newMinY = newY - keep;
+        int newMaxY = newY + keep;
+        for (int x = oldMinX; x <= oldMaxX; x++) {
+            if (x < newMinX || newMaxX < x) {
+                for (int y = oldMinY; y <= oldMaxY; y++) {
+                    evict(x, y);
+                }
+                continue;
+            }
+            for (int y = oldMinY, end = Math.min(oldMaxY, newMinY - 1); y <= end; y++) {
+                evict(x, y);
+            }
+            for (int y = Math.max(oldMinY, newMaxY + 1); y <= oldMaxY; y++) {
+                evict(x, y);
+            }
+        }
+    }
+
+    private void evict(int x, int y) {
+        int cell = getCell(x, y);
+        ChunkState state = states[cell];
+        if (state != ChunkState.UNLOADED && state != ChunkState.EVICTING && keys[cell] == ChunkManager.getChunkKey(x, y)) {
+            states[cell] = ChunkState.EVICTING;
+            evictingCells[evictingCount++] = cell;
+        }
+    }
+
+    private void maybeQueue(int x, int y, LongArray pending) {
+        ChunkState state = getState(x, y);
+        // An evicting chunk has lost some of its objects already, so it is filled anew
+        if (state == ChunkState.UNLOADED || state == ChunkState.EVICTING) {
+            setState(x, y, ChunkState.PENDING);
+            pending.add(ChunkManager.getChunkKey(x, y));
+        }
+    }
+
+    private int getCell(int x, int y) {
+        return Math.floorMod(x, width) * width + Math.floorMod(y, width);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.drawables;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.game.SolObject;
+
+/**
+ * The world position and angle of a {@link SolObject}, captured once per tick so that all the drawables of the object
+ * can share it.
+ * <p>
+ * The sine and cosine of the angle are only recomputed when the angle changes, and the version is only increased when
+ * the object has moved, which lets drawables skip their own recomputation for objects that stand still.
+ */
+public class BaseTransform {
+    private final Vector2 position;
+    private float angle;
+    private float cos;
+    private float sin;
+    private int version;
+
+    public BaseTransform() {
+        position = new Vector2();
+        cos = 1;
+    }
+
+    /**
+     * Captures the current position and angle of the given object.
+     *
+     * @param object the object to capture
+     */
+    public void set(SolObject object) {
+        Vector2 objectPosition = object.getPosition();
+        float objectAngle = object.getAngle();
+        if (version != 0 && position.x == objectPosition.x && position.y == objectPosition.y && angle == objectAngle) {
+            return;
+        }
+        if (version == 0 || angle != objectAngle) {
+            float angleRad = objectAngle * MathUtils.degreesToRadians;
+            cos = (float) Math.cos(angleRad);
+            sin = (float) Math.sin(angleRad);
+        }
+        position.set(objectPosition);
+        angle = objectAngle;
+        version++;
+    }
+
+    /**
+     * Sets {@code worldPosition} to the world position of a point relative to the object, like
+     * {@link org.destinationsol.common.SolMath#toWorld(Vector2, Vector2, float, Vector2)} does.
+     *
+     * @param worldPosition    the vector to set
+     * @param relativePosition the position relative to the object
+     */
+    public void toWorld(Vector2 worldPosition, Vector2 relativePosition) {
+        float x = relativePosition.x;
+        float y = relativePosition.y;
+        worldPosition.set(x * cos - y * sin + position.x, x * sin + y * cos + position.y);
+    }
+
+    public Vector2 getPosition() {
+        return position;
+    }
+
+    public float getAngle() {
+        return angle;
+    }
+
+    /**
+     * Returns a number that changes every time the captured position or angle changes.
+     *
+     * @return the version of this transform
+     */
+    public int getVersion() {
+        return version;
+    }
+}
@@ -61,8 +61,9 @@ public interface Drawable {
      * correctly draw itself.
      *
      * @param o Object against which this drawable is drawn.
+     * @param baseTransform Position and angle of {@code o}, shared by all its drawables for the current frame.
      */
-    void prepare(SolObject o);
+    void prepare(SolObject o, BaseTransform baseTransform);
 
     /**
      * Returns position of the origin of this drawable.
@@ -30,6 +30,7 @@
 import org.destinationsol.game.SolCam;
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.SolObject;
+import org.destinationsol.rendering.EntityRenderer;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -42,6 +43,7 @@ public class DrawableManager {
     private final ArrayList<OrderedMap<Texture, List<Drawable>>> drawables;
     private final Set<Drawable> visibleDrawables = new HashSet<>();
     private final GameDrawer drawer;
+    private final EntityRenderer entityRenderer = new EntityRenderer();
 
     public DrawableManager(GameDrawer drawer) {
         drawableLevels = DrawableLevel.values();
@@ -129,12 +131,13 @@ public void draw(SolGame game) {
                 drawableLevelViewDistance *= drawables.get(0).getLevel().depth;
             }
             boolean isObjectVisible = isVisible(objectPosition, radius, camPos, drawableLevelViewDistance);
+            BaseTransform baseTransform = objectManager.getBaseTransform(object);
             for (Drawable drawable : drawables) {
                 if (!isObjectVisible || !drawable.isEnabled()) {
                     visibleDrawables.remove(drawable);
                     continue;
                 }
-                drawable.prepare(object);
+                drawable.prepare(object, baseTransform);
                 Vector2 draPos = drawable.getPosition();
                 float rr = drawable.getRadius();
                 boolean draInCam = isVisible(draPos, rr, camPos, drawableLevelViewDistance);
@@ -146,6 +149,14 @@ public void draw(SolGame game) {
             }
         }
 
+        boolean drawEntities = game.getEntitySystemManager() != null && !DebugOptions.NO_DRAS;
+        if (drawEntities) {
+            entityRenderer.collect(game.getEntitySystemManager(), camPos, viewDistance);
+            if (DebugOptions.OBJ_INFO) {
+                entityRenderer.debug();
+            }
+        }
+
         for (int dlIdx = 0, dlCount = drawableLevels.length; dlIdx < dlCount; dlIdx++) {
             DrawableLevel drawableLevel = drawableLevels[dlIdx];
             if (drawableLevel == DrawableLevel.PART_FG_0) {
@@ -163,6 +174,12 @@ public void draw(SolGame game) {
                         }
                     }
                 }
+                if (drawEntities) {
+                    entityRenderer.drawTexture(drawer, dlIdx, tex);
+                }
+            }
+            if (drawEntities) {
+                entityRenderer.drawRemaining(drawer, dlIdx);
             }
             if (drawableLevel.depth <= 1) {
                 game.drawDebug(drawer);
@@ -43,6 +43,11 @@ public class RectSprite implements Drawable {
     private float radius;
     private float angle;
     private boolean isEnabled;
+    private BaseTransform preparedTransform;
+    private int preparedVersion;
+    private float preparedRelativeX;
+    private float preparedRelativeY;
+    private float preparedRelativeAngle;
 
     /**
      * consumes relPos, doesn't consume Color
@@ -109,11 +114,20 @@ public void update(SolGame game, SolObject o) {
     }
 
     @Override
-    public void prepare(SolObject object) {
-        float baseAngle = object.getAngle();
-        Vector2 basePosition = object.getPosition();
-        SolMath.toWorld(position, relativePosition, baseAngle, basePosition);
-        angle = relativeAngle + baseAngle;
+    public void prepare(SolObject object, BaseTransform baseTransform) {
+        // Nothing to do if neither the object nor this sprite moved since the last call
+        if (baseTransform == preparedTransform && baseTransform.getVersion() == preparedVersion
+                && relativePosition.x == preparedRelativeX && relativePosition.y == preparedRelativeY
+                && relativeAngle == preparedRelativeAngle) {
+            return;
+        }
+        baseTransform.toWorld(position, relativePosition);
+        angle = relativeAngle + baseTransform.getAngle();
+        preparedTransform = baseTransform;
+        preparedVersion = baseTransform.getVersion();
+        preparedRelativeX = relativePosition.x;
+        preparedRelativeY = relativePosition.y;
+        preparedRelativeAngle = relativeAngle;
     }
 
     @Override
@@ -97,7 +97,7 @@ private void shoot(Vector2 gunVelocity, SolGame game, float gunAngle, Vector2 mu
             if (myCurrAngleVar > 0) {
                 bulletAngle += SolRandom.randomFloat(myCurrAngleVar);
             }
-            Projectile proj = new Projectile(game, bulletAngle, muzzlePos, baseVelocity, faction, cc.projConfig, multiple, ship);
+            Projectile proj = game.getProjectileManager().build(game, bulletAngle, muzzlePos, baseVelocity, faction, cc.projConfig, multiple, ship);
             game.getObjectManager().addObjDelayed(proj);
         }
         myCoolDown += myItem.config.timeBetweenShots;
@@ -18,6 +18,7 @@
 
 import com.badlogic.gdx.math.Vector2;
 import org.destinationsol.common.SolMath;
+import org.destinationsol.common.SolRandom;
 import org.destinationsol.game.Faction;
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.item.Engine;
@@ -28,9 +29,6 @@
 import org.destinationsol.game.ship.SolShip;
 import org.destinationsol.game.ship.hulls.HullConfig;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public class AiPilot implements Pilot {
 
     public static final float MIN_IDLE_DIST = .8f;
@@ -39,6 +37,10 @@ public class AiPilot implements Pilot {
     public static final float MAX_BATTLE_SPD = 2f;
     public static final float MAX_BIND_AWAIT = .25f;
     public static final float MAX_RE_EQUIP_AWAIT = 3f;
+    /**
+     * The longest time a far ship is steered for at once, such as after it has been near for a while.
+     */
+    public static final float MAX_FAR_THINK_TIME = 1f;
 
     private final MoveDestProvider myDestProvider;
     private final boolean myCollectsItems;
@@ -54,6 +56,12 @@ public class AiPilot implements Pilot {
     private float myBindAwait;
     private PlanetBind myPlanetBind;
     private float myReEquipAwait;
+    private float myThinkAwait;
+    private boolean myHasThought;
+    private boolean myThinking;
+    private SolShip myNearestEnemy;
+    private Boolean myBattle;
+    private float myLastFarThinkTime = -1;
 
     public AiPilot(MoveDestProvider destProvider, boolean collectsItems, Faction faction,
                    boolean shootAtObstacles, String mapHint, float detectionDist) {
@@ -69,6 +77,40 @@ public AiPilot(MoveDestProvider destProvider, boolean collectsItems, Faction fac
         myAbilityUpdater = new AbilityUpdater();
     }
 
+    @Override
+    public SolShip findNearestEnemy(SolGame game, SolShip ship) {
+        myThinking = shouldThink(game, ship.getPosition());
+        // An enemy that is gone, out of range or no longer hostile cannot wait for the next think tick
+        if (!myThinking && myNearestEnemy != null && (myNearestEnemy.shouldBeRemoved(game)
+                || !game.getFactionMan().isDetectableEnemy(ship, myNearestEnemy))) {
+            myThinking = true;
+        }
+        if (myThinking) {
+            myNearestEnemy = game.getFactionMan().getNearestEnemy(game, ship);
+        }
+        return myNearestEnemy;
+    }
+
+    /**
+     * Counts down to the next think tick, at the interval the {@link AiThinkScheduler} gives for the ship's position.
+     */
+    private boolean shouldThink(SolGame game, Vector2 shipPos) {
+        AiThinkScheduler scheduler = game.getAiThinkScheduler();
+        float thinkInterval = scheduler.getThinkInterval(game, shipPos, isPlayer());
+        myThinkAwait -= game.getTimeStep();
+        if (myThinkAwait > 0) {
+            return false;
+        }
+        if (!myHasThought) {
+            myHasThought = true;
+            myThinkAwait = thinkInterval > 0 ? SolRandom.randomFloat(0, thinkInterval) : 0;
+        } else {
+            myThinkAwait = Math.max(0, myThinkAwait + thinkInterval);
+        }
+        scheduler.countThink();
+        return true;
+    }
+
     @Override
     public void update(SolGame game, SolShip ship, SolShip nearestEnemy) {
         myAbilityUpdater.update(ship, nearestEnemy);
@@ -76,7 +118,11 @@ public void update(SolGame game, SolShip ship, SolShip nearestEnemy) {
         Vector2 shipPos = ship.getPosition();
         HullConfig hullConfig = ship.getHull().config;
         float maxIdleDist = getMaxIdleDist(hullConfig);
-        myDestProvider.update(game, shipPos, maxIdleDist, hullConfig, nearestEnemy);
+        if (myThinking) {
+            myDestProvider.update(game, shipPos, maxIdleDist, hullConfig, nearestEnemy);
+        } else {
+            myDestProvider.follow(game, shipPos, hullConfig);
+        }
 
         Boolean canShoot = canShoot0(ship);
         boolean canShootUnfixed = canShoot == null;
@@ -93,10 +139,10 @@ public void update(SolGame game, SolShip ship, SolShip nearestEnemy) {
         float desiredSpeed = myDestProvider.getDesiredSpeed();
         boolean hasEngine = ship.getHull().getEngine() != null;
         if (hasEngine) {
-            Boolean battle = null;
-            if (nearestEnemy != null) {
-                battle = myDestProvider.shouldManeuver(canShoot, nearestEnemy, nearGround);
+            if (myThinking) {
+                myBattle = nearestEnemy == null ? null : myDestProvider.shouldManeuver(canShoot, nearestEnemy, nearGround);
             }
+            Boolean battle = nearestEnemy == null ? null : myBattle;
             if (battle != null) {
                 dest = myBattleDestProvider.getDest(ship, nearestEnemy, np, battle, game.getTimeStep(), canShootUnfixed, nearGround);
                 shouldStopNearDest = myBattleDestProvider.shouldStopNearDest();
@@ -117,6 +163,9 @@ public void update(SolGame game, SolShip ship, SolShip nearestEnemy) {
             }
         }
 
+        if (myThinking) {
+            myMover.invalidateAvoidance();
+        }
         myMover.update(game, ship, dest, np, maxIdleDist, hasEngine, avoidBigObjs, desiredSpeed, shouldStopNearDest, destVelocity);
         boolean moverActive = myMover.isActive();
 
@@ -200,15 +249,8 @@ public Faction getFaction() {
     }
 
     @Override
-    public void stringToFaction(String faction) {
-        Map<String, Faction> factionMap = new HashMap<>();
-        if (faction.equals("laani")) {
-            factionMap.put(faction, Faction.LAANI);
-        }
-        if (faction.equals("ehar")) {
-            factionMap.put(faction, Faction.EHAR);
-        }
-        myFaction = factionMap.get(faction);
+    public void setFaction(Faction faction) {
+        myFaction = faction;
     }
 
     @Override
@@ -229,6 +271,17 @@ public String getMapHint() {
     @Override
     public void updateFar(SolGame game, FarShip farShip) {
         Vector2 shipPos = farShip.getPosition();
+        float ts = game.getTimeStep();
+        if (!shouldThink(game, shipPos)) {
+            // Between thinks the FarShipStore keeps moving the ship as it was last steered
+            if (myPlanetBind != null) {
+                followPlanetBind(farShip, shipPos, ts);
+            }
+            return;
+        }
+        float elapsed = myLastFarThinkTime < 0 ? ts : Math.min(game.getTime() - myLastFarThinkTime, MAX_FAR_THINK_TIME);
+        myLastFarThinkTime = game.getTime();
+
         HullConfig hullConfig = farShip.getHullConfig();
         float maxIdleDist = getMaxIdleDist(hullConfig);
         myDestProvider.update(game, shipPos, maxIdleDist, hullConfig, null);
@@ -237,52 +290,57 @@ public void updateFar(SolGame game, FarShip farShip) {
         Vector2 velocity = farShip.getVelocity();
         float angle = farShip.getAngle();
         Engine engine = farShip.getEngine();
-        float ts = game.getTimeStep();
         if (dest == null || engine == null) {
             if (myPlanetBind == null) {
                 if (myBindAwait > 0) {
-                    myBindAwait -= ts;
+                    myBindAwait -= elapsed;
                 } else {
                     myPlanetBind = PlanetBind.tryBind(game, shipPos, angle);
                     myBindAwait = MAX_BIND_AWAIT;
                 }
             }
             if (myPlanetBind != null) {
-                myPlanetBind.setDiff(velocity, shipPos, false);
-                velocity.scl(1 / ts);
-                angle = myPlanetBind.getDesiredAngle();
+                followPlanetBind(farShip, shipPos, ts);
             }
+            return;
+        }
+
+        myPlanetBind = null;
+        float toDestLen = shipPos.dst(dest);
+        float desiredAngle;
+        float maxIdleDistHack = .05f; // to avoid StillGuards from getting stuck inside ground
+        if (myDestProvider.shouldStopNearDestination() && toDestLen < maxIdleDistHack) {
+            velocity.set(myDestProvider.getDestinationVelocity());
+            desiredAngle = angle; // can be improved
         } else {
-            float toDestLen = shipPos.dst(dest);
-            float desiredAngle;
-            float maxIdleDistHack = .05f; // to avoid StillGuards from getting stuck inside ground
-            if (myDestProvider.shouldStopNearDestination() && toDestLen < maxIdleDistHack) {
-                velocity.set(myDestProvider.getDestinationVelocity());
-                desiredAngle = angle; // can be improved
-            } else {
-                desiredAngle = SolMath.angle(shipPos, dest);
-                if (myDestProvider.shouldAvoidBigObjects()) {
-                    desiredAngle = myMover.getBigObjAvoider().avoid(game, shipPos, dest, desiredAngle);
-                }
-                float desiredSpeed = myDestProvider.getDesiredSpeed();
-                float speedDiff = engine.getAcceleration() * ts;
-                float speed = SolMath.approach(velocity.len(), desiredSpeed, speedDiff);
-                if (toDestLen < speed) {
-                    speed = toDestLen;
-                }
-                SolMath.fromAl(velocity, desiredAngle, speed);
+            desiredAngle = SolMath.angle(shipPos, dest);
+            if (myDestProvider.shouldAvoidBigObjects()) {
+                desiredAngle = myMover.getBigObjAvoider().avoid(game, shipPos, dest, desiredAngle);
             }
-            angle = SolMath.approachAngle(angle, desiredAngle, engine.getMaxRotationSpeed() * ts);
+            float desiredSpeed = myDestProvider.getDesiredSpeed();
+            float speedDiff = engine.getAcceleration() * elapsed;
+            float speed = SolMath.approach(velocity.len(), desiredSpeed, speedDiff);
+            if (toDestLen < speed) {
+                speed = toDestLen;
+            }
+            SolMath.fromAl(velocity, desiredAngle, speed);
         }
+        angle = SolMath.approachAngle(angle, desiredAngle, engine.getMaxRotationSpeed() * elapsed);
 
         farShip.setVelocity(velocity);
         farShip.setAngle(angle);
+    }
 
-        Vector2 newPos = SolMath.getVec(velocity);
-        newPos.scl(ts);
-        newPos.add(shipPos);
-        farShip.setPos(newPos);
-        SolMath.free(newPos);
+    /**
+     * Sets the velocity of a far ship so that the next step of the FarShipStore puts it where its planet has carried the
+     * spot it is bound to.
+     */
+    private void followPlanetBind(FarShip farShip, Vector2 shipPos, float ts) {
+        Vector2 velocity = farShip.getVelocity();
+        myPlanetBind.setDiff(velocity, shipPos, false);
+        velocity.scl(1 / ts);
+        farShip.setVelocity(velocity);
+        farShip.setAngle(myPlanetBind.getDesiredAngle());
     }
 
     @Override
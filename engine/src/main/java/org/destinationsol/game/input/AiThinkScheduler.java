@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.input;
+
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.GameOptions;
+import org.destinationsol.game.DebugOptions;
+import org.destinationsol.game.SolCam;
+import org.destinationsol.game.SolGame;
+import org.destinationsol.game.UpdateAwareSystem;
+import org.destinationsol.ui.DebugCollector;
+
+/**
+ * Decides how often each {@link AiPilot} reconsiders its strategy.
+ * <p>
+ * Pilots pick their destination, choose whether to fight and look for their nearest enemy only on their think ticks,
+ * and steer and shoot against those decisions on every other tick. Pilots within view of the camera think
+ * {@link GameOptions#getAiThinkRate()} times per second; the rate halves with each doubling of the distance beyond
+ * that, down to {@link #MAX_SLOWDOWN} times slower. Pilots offset their first think by a random fraction of their
+ * interval, so their thinking is spread across ticks instead of all happening on the same one.
+ * <p>
+ * The number of pilots scheduled at each rate is counted per tick, for tuning.
+ */
+public class AiThinkScheduler implements UpdateAwareSystem {
+    /**
+     * How many times slower than the configured rate the farthest pilots think. Must be a power of two.
+     */
+    public static final int MAX_SLOWDOWN = 8;
+    private static final int LEVEL_COUNT = Integer.numberOfTrailingZeros(MAX_SLOWDOWN) + 2;
+    private final GameOptions options;
+    private final int[] pilotCounts;
+    private final int[] lastPilotCounts;
+    private int thinkCount;
+    private int lastThinkCount;
+    private String[] debugLabels;
+    private int debugLabelRate;
+
+    public AiThinkScheduler(GameOptions options) {
+        this.options = options;
+        pilotCounts = new int[LEVEL_COUNT];
+        lastPilotCounts = new int[LEVEL_COUNT];
+    }
+
+    @Override
+    public void update(SolGame game, float timeStep) {
+        System.arraycopy(pilotCounts, 0, lastPilotCounts, 0, LEVEL_COUNT);
+        lastThinkCount = thinkCount;
+        for (int i = 0; i < LEVEL_COUNT; i++) {
+            pilotCounts[i] = 0;
+        }
+        thinkCount = 0;
+        if (DebugOptions.AI_INFO) {
+            debug();
+        }
+    }
+
+    /**
+     * Returns the time a pilot at the given position should wait between two think ticks, and counts it in the
+     * histogram of the current tick.
+     *
+     * @param game the game in progress
+     * @param position the position of the pilot's ship
+     * @param everyTick whether the pilot has to think on every tick regardless of its position, as the player does
+     * @return the think interval, in seconds; 0 to think on every tick
+     */
+    public float getThinkInterval(SolGame game, Vector2 position, boolean everyTick) {
+        int rate = options.getAiThinkRate();
+        if (everyTick || rate <= 0) {
+            pilotCounts[0]++;
+            return 0;
+        }
+        SolCam cam = game.getCam();
+        float viewDistance = cam.getViewDistance();
+        float distance = cam.getPosition().dst(position);
+        int slowdown = 1;
+        int level = 1;
+        while (slowdown < MAX_SLOWDOWN && distance > slowdown * viewDistance) {
+            slowdown *= 2;
+            level++;
+        }
+        pilotCounts[level]++;
+        return (float) slowdown / rate;
+    }
+
+    void countThink() {
+        thinkCount++;
+    }
+
+    /**
+     * Returns the number of pilots scheduled at each rate during the last tick. The first entry counts the pilots that
+     * thought on every tick, and each following entry the pilots thinking half as often as the previous one, starting at
+     * the configured rate.
+     *
+     * @return the think rate histogram of the last tick
+     */
+    public int[] getPilotCounts() {
+        return lastPilotCounts;
+    }
+
+    /**
+     * @return the number of pilots that thought during the last tick
+     */
+    public int getThinkCount() {
+        return lastThinkCount;
+    }
+
+    public void debug() {
+        int rate = options.getAiThinkRate();
+        if (debugLabels == null || debugLabelRate != rate) {
+            // The labels name the rates, so they are only built again when the configured rate changes
+            debugLabels = new String[LEVEL_COUNT];
+            debugLabels[0] = "AI pilots thinking every tick";
+            for (int level = 1; level < LEVEL_COUNT; level++) {
+                debugLabels[level] = "AI pilots thinking " + (float) rate / (1 << (level - 1)) + "/s";
+            }
+            debugLabelRate = rate;
+        }
+        for (int level = 0; level < LEVEL_COUNT; level++) {
+            DebugCollector.debug(debugLabels[level], lastPilotCounts[level]);
+        }
+        DebugCollector.debug("AI thinks", lastThinkCount);
+    }
+}
@@ -42,6 +42,7 @@ public class ExplorerDestProvider implements MoveDestProvider {
     private Vector2 relativeDestination;
     private Planet planet;
     private float awaitOnPlanet;
+    private float lastUpdateTime;
     private boolean landInDestination;
     private Vector2 destinationVelocity;
 
@@ -60,6 +61,7 @@ public ExplorerDestProvider(Vector2 position, boolean aggressive, HullConfig con
         }
         calculateRelativeDestination(config);
         awaitOnPlanet = MAX_AWAIT_ON_PLANET;
+        lastUpdateTime = -1;
         isAggressive = aggressive;
         desiredSpeed = config.getType() == HullConfig.Type.BIG ? Const.BIG_AI_SPD : Const.DEFAULT_AI_SPD;
         destinationVelocity = new Vector2();
@@ -100,9 +102,12 @@ public boolean shouldStopNearDestination() {
 
     @Override
     public void update(SolGame game, Vector2 shipPos, float maxIdleDist, HullConfig hullConfig, SolShip nearestEnemy) {
+        // Not updated on every tick, see AiThinkScheduler
+        float elapsed = lastUpdateTime < 0 ? game.getTimeStep() : game.getTime() - lastUpdateTime;
+        lastUpdateTime = game.getTime();
         if (destination.dst(shipPos) < maxIdleDist) {
             if (awaitOnPlanet > 0) {
-                awaitOnPlanet -= game.getTimeStep();
+                awaitOnPlanet -= elapsed;
             } else {
                 ArrayList<Planet> planets = system.getPlanets();
                 int planetIndex = SolRandom.randomInt(allowedSize());
@@ -116,6 +121,11 @@ public void update(SolGame game, Vector2 shipPos, float maxIdleDist, HullConfig
             calculateRelativeDestination(hullConfig);
         }
 
+        follow(game, shipPos, hullConfig);
+    }
+
+    @Override
+    public void follow(SolGame game, Vector2 shipPos, HullConfig hullConfig) {
         SolMath.toWorld(destination, relativeDestination, planet.getAngle(), planet.getPosition());
         planet.calculateVelocityAtPosition(destinationVelocity, destination);
     }
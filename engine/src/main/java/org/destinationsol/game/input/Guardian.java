@@ -73,6 +73,16 @@ public boolean shouldStopNearDestination() {
     public void update(SolGame game, Vector2 shipPos, float maxIdleDist, HullConfig hullConfig, SolShip nearestEnemy) {
         updateTarget(game);
         myDest.set(shipPos);
+        followTarget(game, hullConfig);
+    }
+
+    @Override
+    public void follow(SolGame game, Vector2 shipPos, HullConfig hullConfig) {
+        // The target is only looked up again on the next update
+        followTarget(game, hullConfig);
+    }
+
+    private void followTarget(SolGame game, HullConfig hullConfig) {
         Vector2 targetPos;
         float targetApproxRad;
         if (myTarget == null) {
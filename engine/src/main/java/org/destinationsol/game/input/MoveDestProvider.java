@@ -35,6 +35,14 @@ public interface MoveDestProvider {
 
     void update(SolGame game, Vector2 shipPos, float maxIdleDist, HullConfig hullConfig, SolShip nearestEnemy);
 
+    /**
+     * Moves the destination along with whatever it is relative to, such as a planet or a ship, on the ticks between
+     * {@link #update(SolGame, Vector2, float, HullConfig, SolShip) updates}, which only happen when the pilot thinks.
+     * Must not make any new decisions, and should be cheap.
+     */
+    default void follow(SolGame game, Vector2 shipPos, HullConfig hullConfig) {
+    }
+
     /**
      * if true is returned, the ship will move in battle pattern around the enemy and try to face enemy with guns
      * if false is returned, the ship will try to avoid projectiles or fly away from enemy (not implemented yet!)
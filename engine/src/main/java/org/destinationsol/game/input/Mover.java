@@ -35,6 +35,8 @@ public class Mover {
     private boolean myLeft;
     private boolean myRight;
     private Vector2 myDesiredVelocity;
+    private boolean myAvoidanceValid;
+    private float myAvoidanceOffset;
 
     Mover() {
         myBigObjAvoider = new BigObjAvoider();
@@ -157,14 +159,30 @@ public void rotateOnIdle(SolShip ship, Planet np, Vector2 dest, boolean stopNear
         }
     }
 
+    /**
+     * Returns the angle to fly at towards the destination. The detour around obstacles is only looked for again after
+     * {@link #invalidateAvoidance()}, and kept relative to the direct angle in between.
+     */
     private float getToDestAngle(SolGame game, SolShip ship, Vector2 dest, boolean avoidBigObjs, Planet np) {
         Vector2 shipPos = ship.getPosition();
         float toDestAngle = SolMath.angle(shipPos, dest);
-        if (avoidBigObjs) {
-            toDestAngle = myBigObjAvoider.avoid(game, shipPos, dest, toDestAngle);
+        if (!myAvoidanceValid) {
+            float avoidingAngle = toDestAngle;
+            if (avoidBigObjs) {
+                avoidingAngle = myBigObjAvoider.avoid(game, shipPos, dest, avoidingAngle);
+            }
+            avoidingAngle = mySmallObjAvoider.avoid(game, ship, avoidingAngle, np);
+            myAvoidanceOffset = SolMath.norm(avoidingAngle - toDestAngle);
+            myAvoidanceValid = true;
         }
-        toDestAngle = mySmallObjAvoider.avoid(game, ship, toDestAngle, np);
-        return toDestAngle;
+        return toDestAngle + myAvoidanceOffset;
+    }
+
+    /**
+     * Makes the next update look for obstacles on the way to the destination again.
+     */
+    public void invalidateAvoidance() {
+        myAvoidanceValid = false;
     }
 
     public boolean isUp() {
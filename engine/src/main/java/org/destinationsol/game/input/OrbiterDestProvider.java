@@ -63,6 +63,11 @@ public boolean shouldStopNearDestination() {
 
     @Override
     public void update(SolGame game, Vector2 shipPos, float maxIdleDist, HullConfig hullConfig, SolShip nearestEnemy) {
+        follow(game, shipPos, hullConfig);
+    }
+
+    @Override
+    public void follow(SolGame game, Vector2 shipPos, HullConfig hullConfig) {
         Vector2 pPos = myPlanet.getPosition();
         float destAngle = SolMath.angle(pPos, shipPos) + 5 * SolMath.toInt(myCw);
         SolMath.fromAl(myDest, destAngle, myHeight);
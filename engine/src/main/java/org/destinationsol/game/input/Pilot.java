@@ -22,6 +22,15 @@
 import org.destinationsol.game.ship.SolShip;
 
 public interface Pilot {
+    /**
+     * Returns the enemy the ship should react to during this tick. Called once per tick, before {@link #update}.
+     *
+     * @param game the game in progress
+     * @param ship the ship flown by this pilot
+     * @return the nearest enemy ship, or null if there is none in range
+     */
+    SolShip findNearestEnemy(SolGame game, SolShip ship);
+
     void update(SolGame game, SolShip ship, SolShip nearestEnemy);
 
     boolean isUp();
@@ -40,7 +49,7 @@ public interface Pilot {
 
     Faction getFaction();
 
-    void stringToFaction(String faction);
+    void setFaction(Faction faction);
 
     boolean shootsAtObstacles();
 
@@ -17,32 +17,39 @@
 package org.destinationsol.game.input;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.RayCastCallback;
-import com.badlogic.gdx.physics.box2d.World;
 import org.destinationsol.common.SolMath;
+import org.destinationsol.game.RaycastService;
 import org.destinationsol.game.SolGame;
-import org.destinationsol.game.SolObject;
-import org.destinationsol.game.SolObjectEntityWrapper;
 import org.destinationsol.game.planet.Planet;
 import org.destinationsol.game.ship.SolShip;
-import org.terasology.gestalt.entitysystem.entity.EntityRef;
 
 public class SmallObjAvoider {
     public static final float MANEUVER_TIME = 2f;
     public static final float MIN_RAYCAST_LEN = .5f;
-    private final RayCastCallback myRayBack;
+    /**
+     * How far the ends of the look-ahead rays may move before they are cast again.
+     */
+    public static final float RAY_TOLERANCE = .1f;
+    private final RaycastService.Filter myFilter;
     private final Vector2 myDest;
+    private RaycastService.Ray myAheadRay;
+    private RaycastService.Ray myLeftRay;
+    private RaycastService.Ray myRightRay;
     private SolShip myShip;
-    private boolean myCollided;
 
     public SmallObjAvoider() {
-        myRayBack = new MyRayBack();
+        myFilter = (owner, fixture) -> owner != myShip;
         myDest = new Vector2();
     }
 
     public float avoid(SolGame game, SolShip ship, float toDestAngle, Planet np) {
         myShip = ship;
+        RaycastService raycastService = game.getObjectManager().getRaycastService();
+        if (myAheadRay == null) {
+            myAheadRay = raycastService.createRay(myFilter, RAY_TOLERANCE);
+            myLeftRay = raycastService.createRay(myFilter, RAY_TOLERANCE);
+            myRightRay = raycastService.createRay(myFilter, RAY_TOLERANCE);
+        }
         Vector2 shipPos = ship.getPosition();
         float shipSpeed = ship.getVelocity().len();
         float ttt = ship.calcTimeToTurn(toDestAngle + 45);
@@ -53,28 +60,21 @@ public float avoid(SolGame game, SolShip ship, float toDestAngle, Planet np) {
 
         SolMath.fromAl(myDest, toDestAngle, raycastLen);
         myDest.add(shipPos);
-        myCollided = false;
-        World w = game.getObjectManager().getWorld();
-        w.rayCast(myRayBack, shipPos, myDest);
-        if (!myCollided) {
+        if (!raycastService.cast(myAheadRay, shipPos, myDest)) {
             return toDestAngle;
         }
 
         toDestAngle += 45;
         SolMath.fromAl(myDest, toDestAngle, raycastLen);
         myDest.add(shipPos);
-        myCollided = false;
-        w.rayCast(myRayBack, shipPos, myDest);
-        if (!myCollided) {
+        if (!raycastService.cast(myLeftRay, shipPos, myDest)) {
             return toDestAngle;
         }
 
         toDestAngle -= 90;
         SolMath.fromAl(myDest, toDestAngle, raycastLen);
         myDest.add(shipPos);
-        myCollided = false;
-        w.rayCast(myRayBack, shipPos, myDest);
-        if (!myCollided) {
+        if (!raycastService.cast(myRightRay, shipPos, myDest)) {
             return toDestAngle;
         }
 
@@ -83,20 +83,4 @@ public float avoid(SolGame game, SolShip ship, float toDestAngle, Planet np) {
         }
         return SolMath.angle(np.getPosition(), shipPos);
     }
-
-    private class MyRayBack implements RayCastCallback {
-        @Override
-        public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
-            Object data = fixture.getBody().getUserData();
-            if (data instanceof EntityRef) {
-                data = new SolObjectEntityWrapper((EntityRef) data);
-            }
-            SolObject solObject = (SolObject) data;
-            if (myShip == solObject) {
-                return -1;
-            }
-            myCollided = true;
-            return 0;
-        }
-    }
 }
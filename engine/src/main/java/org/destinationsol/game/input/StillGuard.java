@@ -60,6 +60,11 @@ public boolean shouldStopNearDestination() {
 
     @Override
     public void update(SolGame game, Vector2 shipPos, float maxIdleDist, HullConfig hullConfig, SolShip nearestEnemy) {
+        follow(game, shipPos, hullConfig);
+    }
+
+    @Override
+    public void follow(SolGame game, Vector2 shipPos, HullConfig hullConfig) {
         if (myPlanetBind != null) {
             Vector2 diff = SolMath.getVec();
             myPlanetBind.setDiff(diff, myDest, false);
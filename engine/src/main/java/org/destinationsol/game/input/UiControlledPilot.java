@@ -31,6 +31,11 @@ public UiControlledPilot(MainGameScreen screen) {
         myScreen = screen;
     }
 
+    @Override
+    public SolShip findNearestEnemy(SolGame game, SolShip ship) {
+        return game.getFactionMan().getNearestEnemy(game, ship);
+    }
+
     @Override
     public void update(SolGame game, SolShip ship, SolShip nearestEnemy) {
     }
@@ -76,7 +81,7 @@ public Faction getFaction() {
     }
 
     @Override
-    public void stringToFaction(String faction) {
+    public void setFaction(Faction faction) {
     // TODO Create values outside of laani and ehar, making this necessary
     }
 
@@ -38,6 +38,7 @@ public class ItemManager {
     private final HashMap<String, SolItem> myM = new HashMap<>();
     private final ArrayList<SolItem> myL = new ArrayList<>();
     private final HashMap<String, Engine.Config> engineConfigs = new HashMap<>();
+    private final HashMap<String, List<ItemConfig>> loadouts = new HashMap<>();
     private final SolItemTypes myTypes;
     private final RepairItem myRepairExample;
     private final OggSoundManager soundManager;
@@ -65,8 +66,17 @@ public ItemManager(OggSoundManager soundManager, EffectTypes effectTypes, GameCo
     }
 
     public void fillContainer(ItemContainer itemContainer, String items) {
-        List<ItemConfig> list = parseItems(items);
-        for (ItemConfig itemConfig : list) {
+        fillContainer(itemContainer, getLoadout(items));
+    }
+
+    /**
+     * Fills a container with a random roll of an already parsed loadout.
+     *
+     * @param itemContainer the container to fill
+     * @param loadout the loadout, as returned by {@link #getLoadout(String)}
+     */
+    public void fillContainer(ItemContainer itemContainer, List<ItemConfig> loadout) {
+        for (ItemConfig itemConfig : loadout) {
             for (int i = 0; i < itemConfig.amount; i++) {
                 if (SolRandom.test(itemConfig.chance)) {
                     SolItem item = SolRandom.randomElement(itemConfig.examples).copy();
@@ -76,6 +86,22 @@ public void fillContainer(ItemContainer itemContainer, String items) {
         }
     }
 
+    /**
+     * Returns the parsed form of an item list, parsing it only the first time it is asked for. The returned item
+     * configs are shared, so their examples must only ever be copied.
+     *
+     * @param items the item list, in the format read by {@link #parseItems(String)}
+     * @return the parsed item list
+     */
+    public List<ItemConfig> getLoadout(String items) {
+        List<ItemConfig> loadout = loadouts.get(items);
+        if (loadout == null) {
+            loadout = parseItems(items);
+            loadouts.put(items, loadout);
+        }
+        return loadout;
+    }
+
     public List<ItemConfig> parseItems(String items) {
         ArrayList<ItemConfig> result = new ArrayList<>();
 
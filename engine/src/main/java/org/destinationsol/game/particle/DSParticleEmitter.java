@@ -16,12 +16,10 @@
 package org.destinationsol.game.particle;
 
 import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.math.collision.BoundingBox;
-import com.badlogic.gdx.utils.Array;
 import com.google.common.base.Preconditions;
 import org.destinationsol.assets.sound.OggSoundSet;
 import org.destinationsol.common.NotNull;
@@ -31,6 +29,7 @@
 import org.destinationsol.game.GameDrawer;
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.SolObject;
+import org.destinationsol.game.drawables.BaseTransform;
 import org.destinationsol.game.drawables.Drawable;
 import org.destinationsol.game.drawables.DrawableLevel;
 import org.destinationsol.game.planet.Planet;
@@ -70,6 +69,8 @@ public class DSParticleEmitter {
     private boolean working;
     private boolean floatedUp;
     private BoundingBox boundingBox;
+    private final Vector3 boundingBoxCenter = new Vector3();
+    private final Vector3 boundingBoxDimensions = new Vector3();
     private LightSource light;
     private SolGame game;
 
@@ -159,7 +160,7 @@ private void initialiseEmitter(EffectConfig config, float size, DrawableLevel dr
             areaSize = size;
         }
 
-        particleEmitter.setSprites(new Array<Sprite>(new Sprite[]{new Sprite(config.tex)}));
+        particleEmitter.setSprites(config.getSprites());
         float[] tint = particleEmitter.getTint().getColors();
         tint[0] = config.tint.r;
         tint[1] = config.tint.g;
@@ -336,7 +337,6 @@ public List<Drawable> getDrawables() {
     public class ParticleEmitterDrawable implements Drawable {
 
         public void update(SolGame game, SolObject object) {
-
             maybeSwitchRelativePosition(game);
             Vector2 basePos = object.getPosition();
             float baseAngle = object.getAngle();
@@ -347,6 +347,11 @@ public void update(SolGame game, SolObject object) {
             position.x -= particleEmitter.getWind().getLowMin() * timeStep;
             position.y -= particleEmitter.getGravity().getLowMin() * timeStep;
 
+            // Stopped emitters that have completed have nothing to simulate until they start working again
+            if (isContinuous() && !working && isComplete()) {
+                return;
+            }
+
             particleEmitter.setPosition(position.x, position.y);
             transferAngle(originalVelocityAngle, particleEmitter.getAngle(), baseAngle + relativeAngle);
             transferAngle(originalRotation, particleEmitter.getRotation(), baseAngle + relativeAngle);
@@ -377,7 +382,7 @@ private void maybeSwitchRelativePosition(SolGame game) {
         }
 
         @Override
-        public void prepare(SolObject object) {
+        public void prepare(SolObject object, BaseTransform baseTransform) {
         }
 
         @Override
@@ -392,10 +397,9 @@ public Vector2 getRelativePosition() {
 
         @Override
         public float getRadius() {
-            Vector3 center = new Vector3();
-            center = boundingBox.getCenter(center);
+            Vector3 center = boundingBox.getCenter(boundingBoxCenter);
             float toCenter = position.dst(center.x, center.y);
-            float radius = boundingBox.getDimensions(center).len() / 2;
+            float radius = boundingBox.getDimensions(boundingBoxDimensions).len() / 2;
             return radius > 0 ? toCenter + radius : 0;
         }
 
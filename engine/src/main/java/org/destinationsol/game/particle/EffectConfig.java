@@ -16,7 +16,9 @@
 package org.destinationsol.game.particle;
 
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
 import org.destinationsol.assets.Assets;
 import org.destinationsol.game.GameColors;
 import org.json.JSONObject;
@@ -30,6 +32,7 @@ public class EffectConfig {
     public final TextureAtlas.AtlasRegion tex;
     public final boolean floatsUp;
     public final Color tint;
+    private Array<Sprite> sprites;
 
     public EffectConfig(EffectType emitter, float size, TextureAtlas.AtlasRegion texture, boolean floatsUp, Color tint) {
         this.emitter = emitter;
@@ -39,6 +42,19 @@ public EffectConfig(EffectType emitter, float size, TextureAtlas.AtlasRegion tex
         this.tint = tint;
     }
 
+    /**
+     * Returns the sprite templates for the particles of this effect. The same array is shared by every emitter of this
+     * config, as particle emitters only copy from it.
+     *
+     * @return the particle sprite templates
+     */
+    public Array<Sprite> getSprites() {
+        if (sprites == null) {
+            sprites = new Array<>(new Sprite[]{new Sprite(tex)});
+        }
+        return sprites;
+    }
+
     public static EffectConfig load(JSONObject node, EffectTypes types, GameColors colours) {
         if (node == null) {
             return null;
@@ -47,7 +47,7 @@ public boolean shouldBeRemoved(SolGame game) {
 
     @Override
     public SolObject toObject(SolGame game) {
-        return new TileObjBuilder().build(game, mySize, myToPlanetAngle, myDist, myTile, myPlanet);
+        return game.getTileObjBuilder().build(game, mySize, myToPlanetAngle, myDist, myTile, myPlanet);
     }
 
     @Override
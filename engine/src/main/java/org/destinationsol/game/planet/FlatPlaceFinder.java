@@ -20,6 +20,7 @@
 import com.badlogic.gdx.physics.box2d.RayCastCallback;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.common.SolRandom;
+import org.destinationsol.game.ObjectManager;
 import org.destinationsol.game.SolGame;
 
 public class FlatPlaceFinder {
@@ -29,7 +30,7 @@ public class FlatPlaceFinder {
     private final RayCastCallback myRayBack = new RayCastCallback() {
         @Override
         public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
-            if (!(fixture.getBody().getUserData() instanceof TileObject)) {
+            if (!(ObjectManager.getOwner(fixture) instanceof TileObject)) {
                 return -1;
             }
             vector.set(point);
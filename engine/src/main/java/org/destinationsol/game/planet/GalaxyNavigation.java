@@ -0,0 +1,235 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.planet;
+
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.game.maze.Maze;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * The layout of the galaxy as a navigation graph, built once after the systems have been generated.
+ * <p>
+ * Systems and mazes never move, so the nearest of them is found through a {@link KdTree}. Planets orbit their systems,
+ * but never further than their orbit radius, which bounds the systems that have to be looked at when searching for the
+ * nearest planet. Planets are joined by star lanes, the connections served by star ports, and routes along the lanes
+ * are worked out once and then cached.
+ */
+public class GalaxyNavigation {
+    private final Map<Planet, Integer> planetIndices;
+    private final KdTree<SolSystem> systemTree;
+    private final KdTree<Maze> mazeTree;
+    private final Map<SolSystem, Float> orbitRadii;
+    private final float maxOrbitRadius;
+    private final List<Lane> lanes;
+    private final Map<Planet, List<Planet>> neighbours;
+    private final Map<Long, List<Planet>> routes;
+    private final List<SolSystem> candidateSystems;
+
+    GalaxyNavigation(List<SolSystem> systems, List<Planet> planets, List<Maze> mazes) {
+        planetIndices = new HashMap<>();
+        for (int i = 0; i < planets.size(); i++) {
+            planetIndices.put(planets.get(i), i);
+        }
+        systemTree = new KdTree<>(systems, SolSystem::getPosition);
+        mazeTree = new KdTree<>(mazes, Maze::getPos);
+        orbitRadii = new HashMap<>();
+        float maxOrbitRadius = 0;
+        for (SolSystem system : systems) {
+            float orbitRadius = 0;
+            for (Planet planet : system.getPlanets()) {
+                orbitRadius = Math.max(orbitRadius, planet.getDistance());
+            }
+            orbitRadii.put(system, orbitRadius);
+            maxOrbitRadius = Math.max(maxOrbitRadius, orbitRadius);
+        }
+        this.maxOrbitRadius = maxOrbitRadius;
+        lanes = new ArrayList<>();
+        neighbours = new HashMap<>();
+        routes = new HashMap<>();
+        candidateSystems = new ArrayList<>();
+        buildLanes(systems);
+    }
+
+    /**
+     * Joins the biggest planet of each system with the other planets of the system that are not its direct neighbours,
+     * and with the biggest planets of all systems before it.
+     */
+    private void buildLanes(List<SolSystem> systems) {
+        List<Planet> biggest = new ArrayList<>();
+        for (SolSystem system : systems) {
+            float minHeight = 0;
+            Planet biggestPlanet = null;
+            int biggestPlanetIndex = -1;
+            List<Planet> systemPlanets = system.getPlanets();
+
+            for (int i = 0; i < systemPlanets.size(); i++) {
+                Planet planet = systemPlanets.get(i);
+                float groundHeight = planet.getGroundHeight();
+                if (minHeight < groundHeight) {
+                    minHeight = groundHeight;
+                    biggestPlanet = planet;
+                    biggestPlanetIndex = i;
+                }
+            }
+
+            for (int i = 0; i < systemPlanets.size(); i++) {
+                if (biggestPlanetIndex == i || biggestPlanetIndex == i - 1 || biggestPlanetIndex == i + 1) {
+                    continue;
+                }
+                addLane(systemPlanets.get(i), biggestPlanet);
+            }
+
+            for (Planet planet : biggest) {
+                addLane(planet, biggestPlanet);
+            }
+
+            biggest.add(biggestPlanet);
+        }
+    }
+
+    private void addLane(Planet first, Planet second) {
+        if (first == second) {
+            throw new AssertionError("Linking planet to itself");
+        }
+        lanes.add(new Lane(first, second));
+        neighbours.computeIfAbsent(first, planet -> new ArrayList<>()).add(second);
+        neighbours.computeIfAbsent(second, planet -> new ArrayList<>()).add(first);
+    }
+
+    public SolSystem getNearestSystem(Vector2 position) {
+        return systemTree.getNearest(position);
+    }
+
+    public Maze getNearestMaze(Vector2 position) {
+        return mazeTree.getNearest(position);
+    }
+
+    public Planet getNearestPlanet(Vector2 position) {
+        SolSystem nearestSystem = systemTree.getNearest(position);
+        if (nearestSystem == null) {
+            return null;
+        }
+        Planet result = null;
+        float minDst = Float.MAX_VALUE;
+        for (Planet planet : nearestSystem.getPlanets()) {
+            float dst = position.dst(planet.getPosition());
+            if (dst < minDst) {
+                minDst = dst;
+                result = planet;
+            }
+        }
+        // A planet of another system can only be closer if that system is within reach of its orbits
+        candidateSystems.clear();
+        systemTree.findWithin(position, minDst + maxOrbitRadius, candidateSystems);
+        for (SolSystem system : candidateSystems) {
+            if (system == nearestSystem || minDst <= position.dst(system.getPosition()) - orbitRadii.get(system)) {
+                continue;
+            }
+            for (Planet planet : system.getPlanets()) {
+                float dst = position.dst(planet.getPosition());
+                if (dst < minDst) {
+                    minDst = dst;
+                    result = planet;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all star lanes of the galaxy. Each lane is served by a pair of star ports, one at each end.
+     */
+    public List<Lane> getLanes() {
+        return lanes;
+    }
+
+    /**
+     * Returns the planets that are joined with a planet by a star lane.
+     */
+    public List<Planet> getNeighbours(Planet planet) {
+        List<Planet> result = neighbours.get(planet);
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    /**
+     * Returns the shortest route along star lanes between two planets, counted in jumps.
+     *
+     * @param from the planet to start at
+     * @param to the planet to arrive at
+     * @return the planets along the route, starting with {@code from} and ending with {@code to}, or an empty list if
+     * there is no route
+     */
+    public List<Planet> getRoute(Planet from, Planet to) {
+        long key = ((long) planetIndices.get(from) << 32) | (planetIndices.get(to) & 0xFFFFFFFFL);
+        List<Planet> route = routes.get(key);
+        if (route == null) {
+            route = findRoute(from, to);
+            routes.put(key, route);
+        }
+        return route;
+    }
+
+    private List<Planet> findRoute(Planet from, Planet to) {
+        Map<Planet, Planet> previous = new HashMap<>();
+        Queue<Planet> open = new ArrayDeque<>();
+        previous.put(from, from);
+        open.add(from);
+        while (!open.isEmpty()) {
+            Planet planet = open.remove();
+            if (planet == to) {
+                List<Planet> route = new ArrayList<>();
+                for (Planet step = to; step != from; step = previous.get(step)) {
+                    route.add(step);
+                }
+                route.add(from);
+                Collections.reverse(route);
+                return Collections.unmodifiableList(route);
+            }
+            for (Planet neighbour : getNeighbours(planet)) {
+                if (!previous.containsKey(neighbour)) {
+                    previous.put(neighbour, planet);
+                    open.add(neighbour);
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    public static class Lane {
+        private final Planet first;
+        private final Planet second;
+
+        Lane(Planet first, Planet second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public Planet getFirst() {
+            return first;
+        }
+
+        public Planet getSecond() {
+            return second;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.planet;
+
+/**
+ * The arrangement of the ground tiles of a planet, as laid out when the objects of the planet were created.
+ * <p>
+ * Tiles are placed in columns around the planet and rows going down from its surface. Unlike the tile objects
+ * themselves, which come and go as they get near or far, the layout stays the same for the whole game.
+ */
+public class GroundLayout {
+    private final Tile[][] tiles;
+    private final float[] radii;
+    private final float[] tileSizes;
+
+    GroundLayout(Tile[][] tiles, float[] radii, float[] tileSizes) {
+        this.tiles = tiles;
+        this.radii = radii;
+        this.tileSizes = tileSizes;
+    }
+
+    public int getColumns() {
+        return tiles.length;
+    }
+
+    public int getRows() {
+        return radii.length;
+    }
+
+    /**
+     * Returns the tile at the given place, or null if there is no ground there.
+     */
+    public Tile getTile(int column, int row) {
+        return tiles[column][row];
+    }
+
+    /**
+     * Returns the angle of a column relative to the angle of the planet.
+     */
+    public float getRelativeAngle(int column) {
+        return 360f * column / tiles.length;
+    }
+
+    /**
+     * Returns the distance of the tiles of a row from the centre of the planet.
+     */
+    public float getRadius(int row) {
+        return radii[row];
+    }
+
+    public float getTileSize(int row) {
+        return tileSizes[row];
+    }
+}
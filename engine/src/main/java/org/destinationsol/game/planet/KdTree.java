@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.planet;
+
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A two-dimensional k-d tree over objects that never move, built once and then queried for the objects nearest to a
+ * point.
+ * <p>
+ * The tree is stored implicitly: the items are sorted so that the middle of every range splits it along the axis of its
+ * depth, alternating between x and y.
+ *
+ * @param <T> the type of the items in the tree
+ */
+public class KdTree<T> {
+    private final Object[] items;
+    private final float[] xs;
+    private final float[] ys;
+    private T nearest;
+    private float nearestDistanceSquared;
+
+    /**
+     * @param items the items to put in the tree
+     * @param positionGetter returns the position of an item, which is read once while building the tree
+     */
+    public KdTree(List<T> items, Function<T, Vector2> positionGetter) {
+        int size = items.size();
+        this.items = new Object[size];
+        xs = new float[size];
+        ys = new float[size];
+        float[][] positions = new float[size][];
+        for (int i = 0; i < size; i++) {
+            Vector2 position = positionGetter.apply(items.get(i));
+            positions[i] = new float[] {position.x, position.y};
+        }
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        build(order, positions, 0, size, 0);
+        for (int i = 0; i < size; i++) {
+            this.items[i] = items.get(order[i]);
+            xs[i] = positions[order[i]][0];
+            ys[i] = positions[order[i]][1];
+        }
+    }
+
+    private static void build(Integer[] order, float[][] positions, int from, int to, int depth) {
+        if (to - from < 2) {
+            return;
+        }
+        int axis = depth % 2;
+        Arrays.sort(order, from, to, Comparator.comparingDouble(index -> positions[index][axis]));
+        int middle = (from + to) >>> 1;
+        build(order, positions, from, middle, depth + 1);
+        build(order, positions, middle + 1, to, depth + 1);
+    }
+
+    public boolean isEmpty() {
+        return items.length == 0;
+    }
+
+    /**
+     * Returns the item closest to the given position.
+     *
+     * @param position the position to search around
+     * @return the nearest item, or null if the tree is empty
+     */
+    public T getNearest(Vector2 position) {
+        nearest = null;
+        nearestDistanceSquared = Float.MAX_VALUE;
+        findNearest(position.x, position.y, 0, items.length, 0);
+        T result = nearest;
+        nearest = null;
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void findNearest(float x, float y, int from, int to, int depth) {
+        if (from >= to) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        float dx = x - xs[middle];
+        float dy = y - ys[middle];
+        float distanceSquared = dx * dx + dy * dy;
+        if (distanceSquared < nearestDistanceSquared) {
+            nearestDistanceSquared = distanceSquared;
+            nearest = (T) items[middle];
+        }
+        float toSplit = depth % 2 == 0 ? dx : dy;
+        if (toSplit < 0) {
+            findNearest(x, y, from, middle, depth + 1);
+            if (toSplit * toSplit < nearestDistanceSquared) {
+                findNearest(x, y, middle + 1, to, depth + 1);
+            }
+        } else {
+            findNearest(x, y, middle + 1, to, depth + 1);
+            if (toSplit * toSplit < nearestDistanceSquared) {
+                findNearest(x, y, from, middle, depth + 1);
+            }
+        }
+    }
+
+    /**
+     * Adds all items within the given distance of a position to a list.
+     *
+     * @param position the position to search around
+     * @param radius the maximum distance of the items
+     * @param result the list to add the items to
+     */
+    public void findWithin(Vector2 position, float radius, List<T> result) {
+        findWithin(position.x, position.y, radius, 0, items.length, 0, result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void findWithin(float x, float y, float radius, int from, int to, int depth, List<T> result) {
+        if (from >= to) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        float dx = x - xs[middle];
+        float dy = y - ys[middle];
+        if (dx * dx + dy * dy <= radius * radius) {
+            result.add((T) items[middle]);
+        }
+        float toSplit = depth % 2 == 0 ? dx : dy;
+        if (toSplit - radius <= 0) {
+            findWithin(x, y, radius, from, middle, depth + 1, result);
+        }
+        if (toSplit + radius >= 0) {
+            findWithin(x, y, radius, middle + 1, to, depth + 1, result);
+        }
+    }
+}
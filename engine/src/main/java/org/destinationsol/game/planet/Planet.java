@@ -45,6 +45,8 @@ public class Planet {
     private float angle;
     private float minGroundHeight;
     private Vector2 velocity;
+    private PlanetGroundBody groundBody;
+    private GroundLayout groundLayout;
 
     public Planet(SolSystem sys, float angleToSys, float dist, float angle, float toSysRotationSpeed, float rotationSpeed,
                   float groundHeight, boolean objsCreated, PlanetConfig config, String name) {
@@ -74,6 +76,9 @@ public void update(SolGame game, float timeStep) {
         angle += rotationSpeed * timeStep;
 
         setSecondaryParams();
+        if (groundBody != null) {
+            groundBody.update(timeStep);
+        }
         Vector2 camPos = game.getCam().getPosition();
         if (!areObjectsCreated && camPos.dst(position) < getGroundHeight() + Const.MAX_SKY_HEIGHT_FROM_GROUND) {
             minGroundHeight = new PlanetObjectsBuilder().createPlanetObjs(game, this);
@@ -97,6 +102,18 @@ private void fillLangingPlaces(SolGame game) {
         }
     }
 
+    /**
+     * Returns the body that carries the collision shapes of the near ground tiles of this planet.
+     *
+     * @return the ground body of this planet
+     */
+    PlanetGroundBody getGroundBody() {
+        if (groundBody == null) {
+            groundBody = new PlanetGroundBody(this);
+        }
+        return groundBody;
+    }
+
     public float getAngle() {
         return angle;
     }
@@ -160,6 +177,19 @@ public float getRotationSpeed() {
         return rotationSpeed;
     }
 
+    /**
+     * Returns the layout of the ground tiles of this planet.
+     *
+     * @return the ground layout, or null if the objects of this planet have not been created yet
+     */
+    public GroundLayout getGroundLayout() {
+        return groundLayout;
+    }
+
+    void setGroundLayout(GroundLayout groundLayout) {
+        this.groundLayout = groundLayout;
+    }
+
     public boolean areObjectsCreated() {
         return areObjectsCreated;
     }
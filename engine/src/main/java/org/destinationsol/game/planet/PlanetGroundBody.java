@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.planet;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.World;
+import org.destinationsol.Const;
+import org.destinationsol.common.SolMath;
+import org.destinationsol.game.SolGame;
+
+/**
+ * A single kinematic body that rotates with a {@link Planet} and carries the collision shapes of all its near ground
+ * tiles as fixtures.
+ * <p>
+ * Each fixture has its {@link TileObject} as user data, as the body itself is shared. Fixtures are added and removed as
+ * tiles come near and go far, and the body only exists while it has fixtures.
+ */
+public class PlanetGroundBody {
+    private final Planet planet;
+    private Body body;
+    private int fixtureCount;
+
+    PlanetGroundBody(Planet planet) {
+        this.planet = planet;
+    }
+
+    /**
+     * Adds the collision shape of a ground tile to the body.
+     *
+     * @param game                    the game object
+     * @param tileObject              the tile object that owns the shape
+     * @param toPlanetRelativeAngle   the angle of the tile relative to the planet
+     * @param distance                the distance of the tile from the planet centre
+     * @param tile                    the tile
+     * @param spriteSize              the size of the tile sprite, which the tile points are scaled by
+     * @return the created fixture
+     */
+    Fixture addTile(SolGame game, TileObject tileObject, float toPlanetRelativeAngle, float distance, Tile tile, float spriteSize) {
+        if (body == null) {
+            body = createBody(game.getObjectManager().getWorld());
+        }
+        Vector2 tilePosition = new Vector2();
+        SolMath.fromAl(tilePosition, toPlanetRelativeAngle, distance);
+        float tileAngle = toPlanetRelativeAngle + 90;
+        Vector2[] points = new Vector2[tile.points.size()];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new Vector2();
+            SolMath.toWorld(points[i], new Vector2(tile.points.get(i)).scl(spriteSize), tileAngle, tilePosition);
+        }
+        ChainShape shape = new ChainShape();
+        shape.createLoop(points);
+        Fixture fixture = body.createFixture(shape, 0);
+        fixture.setFriction(Const.FRICTION);
+        fixture.setUserData(tileObject);
+        shape.dispose();
+        fixtureCount++;
+        return fixture;
+    }
+
+    /**
+     * Removes a fixture created by {@link #addTile(SolGame, TileObject, float, float, Tile, float)}.
+     *
+     * @param fixture the fixture to remove
+     */
+    void removeTile(Fixture fixture) {
+        body.destroyFixture(fixture);
+        fixtureCount--;
+        if (fixtureCount == 0) {
+            body.getWorld().destroyBody(body);
+            body = null;
+        }
+    }
+
+    /**
+     * Sets the velocities of the body so that the next physics step brings it to the current position and angle of
+     * the planet.
+     *
+     * @param timeStep the time step of the game
+     */
+    void update(float timeStep) {
+        if (body == null) {
+            return;
+        }
+        Vector2 velocity = SolMath.getVec(planet.getPosition());
+        velocity.sub(body.getPosition());
+        velocity.scl(1f / timeStep);
+        body.setLinearVelocity(velocity);
+        SolMath.free(velocity);
+        float bodyAngle = body.getAngle() * MathUtils.radDeg;
+        float angularVelocity = SolMath.norm(planet.getAngle() - bodyAngle) * MathUtils.degRad / timeStep;
+        body.setAngularVelocity(angularVelocity);
+    }
+
+    private Body createBody(World world) {
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.KinematicBody;
+        bodyDef.position.set(planet.getPosition());
+        bodyDef.angle = planet.getAngle() * MathUtils.degRad;
+        bodyDef.angularDamping = 0;
+        return world.createBody(bodyDef);
+    }
+}
@@ -19,6 +19,7 @@
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import org.destinationsol.Const;
+import org.destinationsol.assets.sound.OggSoundManager;
 import org.destinationsol.common.SolColor;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.files.HullConfigManager;
@@ -27,10 +28,14 @@
 import org.destinationsol.game.GameDrawer;
 import org.destinationsol.game.SolCam;
 import org.destinationsol.game.SolGame;
+import org.destinationsol.game.ShipConfig;
 import org.destinationsol.game.SolNames;
 import org.destinationsol.game.SolObject;
 import org.destinationsol.game.UpdateAwareSystem;
+import org.destinationsol.game.item.Gun;
+import org.destinationsol.game.item.ItemConfig;
 import org.destinationsol.game.item.ItemManager;
+import org.destinationsol.game.item.SolItem;
 import org.destinationsol.game.maze.Maze;
 import org.destinationsol.game.maze.MazeConfigs;
 import org.destinationsol.game.ship.SolShip;
@@ -51,7 +56,9 @@ public class PlanetManager implements UpdateAwareSystem {
     private final SunSingleton sunSingleton;
     private final SysConfigs sysConfigs;
     private final PlanetCoreSingleton planetCoreSingleton;
+    private GalaxyNavigation navigation;
     private Planet nearestPlanet;
+    private SolSystem nearestSystem;
 
     public PlanetManager(HullConfigManager hullConfigs, GameColors cols,
                             ItemManager itemManager) {
@@ -70,6 +77,7 @@ public PlanetManager(HullConfigManager hullConfigs, GameColors cols,
 
     public void fill(SolNames names, int numberOfSystems) {
         new SystemsBuilder().build(systems, planets, belts, planetConfigs, mazeConfigs, mazes, sysConfigs, names, numberOfSystems);
+        navigation = new GalaxyNavigation(systems, planets, mazes);
     }
 
     @Override
@@ -85,20 +93,42 @@ public void update(SolGame game, float timeStep) {
         nearestPlanet = getNearestPlanet(camPos);
 
         SolSystem nearestSys = getNearestSystem(camPos);
+        if (nearestSys != nearestSystem) {
+            nearestSystem = nearestSys;
+            prefetchSystemSounds(game, nearestSys.getConfig());
+        }
         applyGrav(game, nearestSys);
     }
 
-    public Planet getNearestPlanet(Vector2 position) {
-        float minDst = Float.MAX_VALUE;
-        Planet res = null;
-        for (Planet planet : planets) {
-            float dst = position.dst(planet.getPosition());
-            if (dst < minDst) {
-                minDst = dst;
-                res = planet;
+    /**
+     * Decodes the weapon sounds of the ships that can be met in a system as soon as the system is entered, rather than
+     * when the first shot is fired.
+     */
+    private void prefetchSystemSounds(SolGame game, SysConfig config) {
+        prefetchShipSounds(game, config.tempEnemies);
+        prefetchShipSounds(game, config.innerTempEnemies);
+        prefetchShipSounds(game, config.constEnemies);
+        prefetchShipSounds(game, config.constAllies);
+    }
+
+    private void prefetchShipSounds(SolGame game, List<ShipConfig> shipConfigs) {
+        OggSoundManager soundManager = game.getSoundManager();
+        ItemManager itemManager = game.getItemMan();
+        for (ShipConfig shipConfig : shipConfigs) {
+            for (ItemConfig itemConfig : itemManager.getLoadout(shipConfig.items)) {
+                for (SolItem example : itemConfig.examples) {
+                    if (example instanceof Gun) {
+                        Gun.Config gunConfig = ((Gun) example).config;
+                        soundManager.prefetch(gunConfig.shootSound);
+                        soundManager.prefetch(gunConfig.reloadSound);
+                    }
+                }
             }
         }
-        return res;
+    }
+
+    public Planet getNearestPlanet(Vector2 position) {
+        return navigation.getNearestPlanet(position);
     }
 
     private void applyGrav(SolGame game, SolSystem nearestSys) {
@@ -230,29 +260,20 @@ public ArrayList<Maze> getMazes() {
     }
 
     public SolSystem getNearestSystem(Vector2 position) {
-        float minDst = Float.MAX_VALUE;
-        SolSystem res = null;
-        for (SolSystem system : systems) {
-            float dst = position.dst(system.getPosition());
-            if (dst < minDst) {
-                minDst = dst;
-                res = system;
-            }
-        }
-        return res;
+        return navigation.getNearestSystem(position);
     }
 
     public Maze getNearestMaze(Vector2 position) {
-        float minDst = Float.MAX_VALUE;
-        Maze res = null;
-        for (Maze maze : mazes) {
-            float dst = position.dst(maze.getPos());
-            if (dst < minDst) {
-                minDst = dst;
-                res = maze;
-            }
-        }
-        return res;
+        return navigation.getNearestMaze(position);
+    }
+
+    /**
+     * Returns the navigation graph of the galaxy, available once the galaxy has been filled.
+     *
+     * @return the navigation graph
+     */
+    public GalaxyNavigation getNavigation() {
+        return navigation;
     }
 
     public void drawSunHack(SolGame game, GameDrawer drawer) {
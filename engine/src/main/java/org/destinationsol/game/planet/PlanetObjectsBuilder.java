@@ -26,6 +26,7 @@
 import org.destinationsol.common.SolRandom;
 import org.destinationsol.game.DebugOptions;
 import org.destinationsol.game.Faction;
+import org.destinationsol.game.ObjectManager;
 import org.destinationsol.game.ShipConfig;
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.drawables.Drawable;
@@ -38,6 +39,7 @@
 import org.destinationsol.game.input.StillGuard;
 import org.destinationsol.game.item.TradeConfig;
 import org.destinationsol.game.ship.FarShip;
+import org.destinationsol.game.ship.FarShipSpawn;
 import org.destinationsol.game.ship.hulls.HullConfig;
 
 import java.util.ArrayList;
@@ -116,11 +118,12 @@ private void buildOrbitEnemies(SolGame game, Planet planet, float groundHeight,
 
         for (ShipConfig shipConfig : configs) {
             int count = counts.get(shipConfig);
+            List<FarShipSpawn> spawns = new ArrayList<>(count);
             for (int i = 0; i < count; i++) {
-                FarShip enemy = buildOrbitEnemy(game, planet, heightPercentage, shipConfig, detDist);
-                game.getObjectManager().addFarObjNow(enemy);
+                spawns.add(buildOrbitEnemy(game, planet, heightPercentage, detDist));
                 heightPercentage += stepPercentage;
             }
+            game.getShipBuilder().buildNewFar(game, spawns, shipConfig.items, shipConfig.hull, false, shipConfig.money, null, true);
         }
     }
 
@@ -146,6 +149,7 @@ private float createGround(SolGame game, Planet planet) {
         float minRadius = radii[rows - 1] - tileSizes[rows - 1] / 2;
 
         Tile[][] tileMap = new GroundBuilder(planet.getConfig(), columns, rows).build();
+        planet.setGroundLayout(new GroundLayout(tileMap, radii, tileSizes));
 
         // create ground
         for (int row = 0; row < rows; row++) {
@@ -161,7 +165,7 @@ private float createGround(SolGame game, Planet planet) {
                     FarTileObject farTileObject = new FarTileObject(planet, toPlanetRelAngle, tileDistance, tileSize, tile);
                     game.getObjectManager().addFarObjNow(farTileObject);
                 } else {
-                    TileObject tileObject = new TileObjBuilder().build(game, tileSize, toPlanetRelAngle, tileDistance, tile, planet);
+                    TileObject tileObject = game.getTileObjBuilder().build(game, tileSize, toPlanetRelAngle, tileDistance, tile, planet);
                     game.getObjectManager().addObjNow(game, tileObject);
                 }
             }
@@ -253,7 +257,7 @@ private void addDeco(SolGame game, float groundHeight, Vector2 planetPos,
 
         final Vector2 rayCasted = new Vector2();
         RayCastCallback rayCastCallback = (fixture, point, normal, fraction) -> {
-            if (!(fixture.getBody().getUserData() instanceof TileObject)) {
+            if (!(ObjectManager.getOwner(fixture) instanceof TileObject)) {
                     return -1;
                 }
                 rayCasted.set(point);
@@ -334,7 +338,7 @@ private FarShip buildGroundShip(SolGame game, Planet planet, ShipConfig shipConf
                 null, hasRepairer, money, tradeConfig, true);
     }
 
-    private FarShip buildOrbitEnemy(SolGame game, Planet planet, float heightPercentage, ShipConfig shipConfig, float detectionDistance) {
+    private FarShipSpawn buildOrbitEnemy(SolGame game, Planet planet, float heightPercentage, float detectionDistance) {
         float height = planet.getGroundHeight() + heightPercentage * Const.ATM_HEIGHT;
         Vector2 position = new Vector2();
         SolMath.fromAl(position, SolRandom.randomFloat(180), height);
@@ -353,10 +357,7 @@ private FarShip buildOrbitEnemy(SolGame game, Planet planet, float heightPercent
         OrbiterDestProvider destProvider = new OrbiterDestProvider(planet, height, clockwise);
         Pilot provider = new AiPilot(destProvider, false, Faction.EHAR, true, null, detectionDistance);
 
-        int money = shipConfig.money;
-
-        return game.getShipBuilder().buildNewFar(game, position, velocity, 0, 0, provider, shipConfig.items, shipConfig.hull,
-                null, false, money, null, true);
+        return new FarShipSpawn(position, velocity, 0, 0, provider, null);
     }
 
 }
@@ -24,6 +24,7 @@
 import org.destinationsol.Const;
 import org.destinationsol.common.SolColor;
 import org.destinationsol.common.SolMath;
+import org.destinationsol.game.RecyclingPool;
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.drawables.DrawableLevel;
 import org.destinationsol.game.drawables.RectSprite;
@@ -31,19 +32,41 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class TileObjBuilder {
+    private static final int MAX_DORMANT_TILES = 512;
+    private final RecyclingPool<TileKey, TileObject> pool;
+
+    public TileObjBuilder() {
+        pool = new RecyclingPool<>("Tile pool", MAX_DORMANT_TILES, TileObject::destroyBody);
+    }
+
     public TileObject build(SolGame game, float size, float toPlanetRelAngle, float distance, Tile tile, Planet planet) {
         float spriteSize = size * 2;
+        boolean hasShape = tile.points.size() > 0;
+        boolean usesGroundBody = hasShape && game.getSolApplication().getOptions().isPhysicsPlanetGroundBody();
+        TileObject dormant = pool.obtain(new TileKey(tile, size));
+        if (dormant != null) {
+            dormant.reset(planet, toPlanetRelAngle, distance);
+            if (usesGroundBody) {
+                dormant.setGroundFixture(planet.getGroundBody().addTile(game, dormant, toPlanetRelAngle, distance, tile, spriteSize));
+            }
+            return dormant;
+        }
+
         RectSprite sprite = new AnimatedRectSprite(tile.sprite.frames, spriteSize, 0, 0, new Vector2(), DrawableLevel.GROUND, 0, 0f, SolColor.WHITE, false);
         Body body = null;
-        if (tile.points.size() > 0) {
+        if (hasShape && !usesGroundBody) {
             body = buildBody(game, toPlanetRelAngle, distance, tile, planet, spriteSize);
         }
         TileObject res = new TileObject(planet, toPlanetRelAngle, distance, size, sprite, body, tile);
         if (body != null) {
             body.setUserData(res);
         }
+        if (usesGroundBody) {
+            res.setGroundFixture(planet.getGroundBody().addTile(game, res, toPlanetRelAngle, distance, tile, spriteSize));
+        }
         return res;
     }
 
@@ -67,4 +90,43 @@ private Body buildBody(SolGame game, float toPlanetRelAngle, float dist, Tile ti
         shape.dispose();
         return body;
     }
+
+    /**
+     * Parks a tile that left the near zone, with its body already deactivated, until a tile of the same kind and size
+     * is needed again.
+     */
+    void free(TileObject tileObject) {
+        pool.free(new TileKey(tileObject.getTile(), tileObject.getSz()), tileObject);
+    }
+
+    public RecyclingPool<?, TileObject> getPool() {
+        return pool;
+    }
+
+    private static final class TileKey {
+        private final Tile tile;
+        private final float size;
+
+        TileKey(Tile tile, float size) {
+            this.tile = tile;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TileKey)) {
+                return false;
+            }
+            TileKey other = (TileKey) o;
+            return tile == other.tile && Float.compare(size, other.size) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(tile), size);
+        }
+    }
 }
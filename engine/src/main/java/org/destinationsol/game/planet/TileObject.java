@@ -18,6 +18,7 @@
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Fixture;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.game.DmgType;
 import org.destinationsol.game.FarObject;
@@ -31,9 +32,6 @@
 
 public class TileObject implements SolObject {
 
-    private final Planet planet;
-    private final float relativeAngleToPlanet;
-    private final float distance;
     private final List<Drawable> drawables;
     private final Body body;
     private final Vector2 position;
@@ -43,7 +41,11 @@ public class TileObject implements SolObject {
     private final Tile tile;
     // }
 
+    private Planet planet;
+    private float relativeAngleToPlanet;
+    private float distance;
     private float angle;
+    private Fixture groundFixture;
 
     TileObject(Planet planet, float relativeAngleToPlanet, float distance, float size, RectSprite sprite, Body body, Tile tile) {
         this.tile = tile;
@@ -91,6 +93,34 @@ public boolean shouldBeRemoved(SolGame game) {
 
     @Override
     public void onRemove(SolGame game) {
+        // Tiles are only ever removed when they go far, so they can always wait for the next tile of the same kind
+        if (body != null) {
+            body.setActive(false);
+        }
+        if (groundFixture != null) {
+            planet.getGroundBody().removeTile(groundFixture);
+            groundFixture = null;
+        }
+        game.getTileObjBuilder().free(this);
+    }
+
+    /**
+     * Brings a dormant tile taken from the recycling pool back into the world at a new place.
+     */
+    void reset(Planet planet, float relativeAngleToPlanet, float distance) {
+        this.planet = planet;
+        this.relativeAngleToPlanet = relativeAngleToPlanet;
+        this.distance = distance;
+        setDependentParams();
+        if (body != null) {
+            body.setTransform(position, angle * MathUtils.degRad);
+            body.setLinearVelocity(Vector2.Zero);
+            body.setAngularVelocity(0);
+            body.setActive(true);
+        }
+    }
+
+    void destroyBody() {
         if (body != null) {
             body.getWorld().destroyBody(body);
         }
@@ -154,6 +184,15 @@ public boolean hasBody() {
         return true;
     }
 
+    /**
+     * Sets the fixture of this tile on the ground body of its planet, for tiles that do not have a body of their own.
+     *
+     * @param groundFixture the fixture of this tile
+     */
+    void setGroundFixture(Fixture groundFixture) {
+        this.groundFixture = groundFixture;
+    }
+
     public Planet getPlanet() {
         return planet;
     }
@@ -29,6 +29,7 @@ public class BallProjectileBody implements ProjectileBody {
     private final Vector2 velocity;
     private final float acceleration;
     private final float mass;
+    private final boolean zeroAbsSpeed;
 
     private float angle;
 
@@ -36,19 +37,24 @@ public class BallProjectileBody implements ProjectileBody {
                        Vector2 gunVelocity, float speed, ProjectileConfig config) {
         float density = config.density == -1 ? 1 : config.density;
         body = AsteroidBuilder.buildBall(game, position, angle, config.physSize / 2, density, config.massless);
-        if (config.zeroAbsSpeed) {
-            body.setAngularVelocity(15f * MathUtils.degRad);
-        }
-
-        velocity = new Vector2();
-        SolMath.fromAl(velocity, angle, speed);
-        velocity.add(gunVelocity);
-        body.setLinearVelocity(velocity);
         body.setUserData(projectile);
+        zeroAbsSpeed = config.zeroAbsSpeed;
 
+        velocity = new Vector2();
         this.position = new Vector2();
         acceleration = config.acc;
         mass = body.getMass();
+        reset(game, angle, position, gunVelocity, speed);
+    }
+
+    @Override
+    public void reset(SolGame game, float angle, Vector2 muzzlePos, Vector2 gunVelocity, float speed) {
+        body.setTransform(muzzlePos, angle * MathUtils.degRad);
+        body.setAngularVelocity(zeroAbsSpeed ? 15f * MathUtils.degRad : 0);
+        SolMath.fromAl(velocity, angle, speed);
+        velocity.add(gunVelocity);
+        body.setLinearVelocity(velocity);
+        body.setActive(true);
         setParamsFromBody();
     }
 
@@ -88,6 +94,11 @@ public void receiveForce(Vector2 force, SolGame game, boolean acc) {
 
     @Override
     public void onRemove(SolGame game) {
+        body.setActive(false);
+    }
+
+    @Override
+    public void destroy() {
         body.getWorld().destroyBody(body);
     }
 
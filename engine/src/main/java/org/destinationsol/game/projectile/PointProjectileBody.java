@@ -16,47 +16,43 @@
 package org.destinationsol.game.projectile;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.RayCastCallback;
-import org.destinationsol.Const;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.game.SolGame;
-import org.destinationsol.game.SolObject;
-import org.destinationsol.game.SolObjectEntityWrapper;
 import org.destinationsol.game.ship.SolShip;
-import org.terasology.gestalt.entitysystem.entity.EntityRef;
 
+/**
+ * The body of a projectile without physical size. Its motion lives in the {@link ProjectileManager}, which moves all
+ * point projectiles and checks their paths for obstacles in one pass per tick; the vectors here mirror that state.
+ */
 public class PointProjectileBody implements ProjectileBody {
     private final Vector2 position;
     private final Vector2 velocity;
-    private final ProjectileRayBack rayBack;
+    private final Projectile projectile;
+    private final ProjectileManager projectileManager;
     private final float acceleration;
+    private int slot;
 
     public PointProjectileBody(float angle, Vector2 muzzlePos, Vector2 gunVelocity, float speed,
                                Projectile projectile, SolGame game, float acceleration) {
-        position = new Vector2(muzzlePos);
+        position = new Vector2();
         velocity = new Vector2();
+        this.projectile = projectile;
+        projectileManager = game.getProjectileManager();
+        this.acceleration = acceleration;
+        reset(game, angle, muzzlePos, gunVelocity, speed);
+    }
+
+    @Override
+    public void reset(SolGame game, float angle, Vector2 muzzlePos, Vector2 gunVelocity, float speed) {
+        position.set(muzzlePos);
         SolMath.fromAl(velocity, angle, speed);
         velocity.add(gunVelocity);
-        rayBack = new ProjectileRayBack(projectile, game);
-        this.acceleration = acceleration;
+        slot = projectileManager.addPointBody(this, position, velocity, acceleration);
     }
 
     @Override
     public void update(SolGame game) {
-        if (acceleration > 0 && SolMath.canAccelerate(acceleration, velocity)) {
-            float speed = velocity.len();
-            if (speed < Const.MAX_MOVE_SPD) {
-                velocity.scl((speed + acceleration) / speed);
-            }
-        }
-        Vector2 prevPos = SolMath.getVec(position);
-        Vector2 diff = SolMath.getVec(velocity);
-        diff.scl(game.getTimeStep());
-        position.add(diff);
-        SolMath.free(diff);
-        game.getObjectManager().getWorld().rayCast(rayBack, prevPos, position);
-        SolMath.free(prevPos);
+        // Already moved by ProjectileManager.update, which runs before the objects are updated
     }
 
     @Override
@@ -71,6 +67,7 @@ public void receiveForce(Vector2 force, SolGame game, boolean acc) {
             force.scl(10f);
         }
         velocity.add(force);
+        projectileManager.setPointVelocity(slot, velocity);
     }
 
     @Override
@@ -80,6 +77,11 @@ public Vector2 getVelocity() {
 
     @Override
     public void onRemove(SolGame game) {
+        projectileManager.removePointBody(slot);
+    }
+
+    @Override
+    public void destroy() {
     }
 
     @Override
@@ -90,6 +92,7 @@ public float getAngle() {
     @Override
     public void changeAngle(float diff) {
         SolMath.rotate(velocity, diff);
+        projectileManager.setPointVelocity(slot, velocity);
     }
 
     @Override
@@ -97,37 +100,21 @@ public float getDesiredAngle(SolShip ne) {
         return SolMath.angle(position, ne.getPosition());
     }
 
-    private class ProjectileRayBack implements RayCastCallback {
+    Projectile getProjectile() {
+        return projectile;
+    }
 
-        private final Projectile projectile;
-        private final SolGame game;
+    void setSlot(int slot) {
+        this.slot = slot;
+    }
 
-        private ProjectileRayBack(Projectile projectile, SolGame game) {
-            this.projectile = projectile;
-            this.game = game;
-        }
+    void sync(float x, float y, float velocityX, float velocityY) {
+        position.set(x, y);
+        velocity.set(velocityX, velocityY);
+    }
 
-        @Override
-        public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
-
-            //TODO This is a patch to smooth over contact between an Entity and a Projectile. Once Projectile has been
-            // converted to be an Entity, this can be removed.
-            Object userData = fixture.getBody().getUserData();
-            if (userData instanceof EntityRef) {
-                userData = new SolObjectEntityWrapper((EntityRef) userData);
-            }
-
-            //At this point, the object will either be an entity wrapped in a SolObjectEntityWrapper, or it will have already been a SolObject
-            SolObject solObject = (SolObject) userData;
-            
-            boolean objectIsMassless = solObject instanceof Projectile && ((Projectile) solObject).isMassless();
-            if (!objectIsMassless && projectile.shouldCollide(solObject, fixture, game.getFactionMan())) {
-                position.set(point);
-                projectile.setObstacle(solObject, game);
-                return 0;
-            }
-
-            return -1;
-        }
+    void setPosition(Vector2 position) {
+        this.position.set(position);
+        projectileManager.setPointPosition(slot, position);
     }
 }
@@ -24,6 +24,7 @@
 import org.destinationsol.common.SolColor;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.common.SolRandom;
+import org.destinationsol.entitysystem.EntityQuery;
 import org.destinationsol.game.DmgType;
 import org.destinationsol.game.Faction;
 import org.destinationsol.game.FactionManager;
@@ -32,6 +33,7 @@
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.SolObject;
 import org.destinationsol.game.SolObjectEntityWrapper;
+import org.destinationsol.game.drawables.BaseTransform;
 import org.destinationsol.game.drawables.Drawable;
 import org.destinationsol.game.drawables.DrawableLevel;
 import org.destinationsol.game.drawables.SpriteManager;
@@ -42,7 +44,6 @@
 import org.destinationsol.game.ship.SolShip;
 import org.destinationsol.health.events.DamageEvent;
 import org.destinationsol.location.components.Position;
-import org.terasology.gestalt.entitysystem.entity.EntityIterator;
 import org.terasology.gestalt.entitysystem.entity.EntityRef;
 
 import java.util.ArrayList;
@@ -52,13 +53,14 @@ public class Projectile implements SolObject {
 
     private static final float MIN_ANGLE_TO_GUIDE = 2f;
     private final ArrayList<Drawable> drawables;
+    private final Drawable drawable;
     private final ProjectileBody body;
-    private final Faction faction;
-    private final DSParticleEmitter bodyEffect;
-    private final DSParticleEmitter trailEffect;
     private final LightSource lightSource;
     private final ProjectileConfig config;
 
+    private Faction faction;
+    private DSParticleEmitter bodyEffect;
+    private DSParticleEmitter trailEffect;
     private boolean shouldBeRemoved;
     private SolObject obstacle;
     private SolShip ship;
@@ -69,37 +71,63 @@ public Projectile(SolGame game, float angle, Vector2 muzzlePos, Vector2 gunVeloc
         drawables = new ArrayList<>();
         this.config = config;
 
-        this.ship = ship;
-
-        Drawable drawable;
         if (config.stretch) {
             drawable = new ProjectileDrawable(this, config.sprite.frames, config.texSz);
         } else {
             drawable = SpriteManager.createSprite(config.sprite.displayName, config.texSz, config.origin.x, config.origin.y, new Vector2(), DrawableLevel.PROJECTILES, 0, 0, SolColor.WHITE, false);
         }
-        drawables.add(drawable);
-        float speed = config.speed;
-        if (varySpeed) {
-            speed *= SolRandom.randomFloat(.9f, 1.1f);
-        }
+        float speed = getSpeed(varySpeed);
         if (config.physSize > 0) {
             body = new BallProjectileBody(game, muzzlePos, angle, this, gunVelocity, speed, config);
         } else {
             body = new PointProjectileBody(angle, muzzlePos, gunVelocity, speed, this, game, config.acc);
         }
-        this.faction = faction;
-        bodyEffect = buildEffect(game, config.bodyEffect, DrawableLevel.PART_BG_0, null, true);
-        trailEffect = buildEffect(game, config.trailEffect, DrawableLevel.PART_BG_0, null, false);
         if (config.lightSz > 0) {
             Color col = SolColor.WHITE;
-            if (bodyEffect != null) {
+            if (config.bodyEffect != null) {
                 col = config.bodyEffect.tint;
             }
             lightSource = new LightSource(config.lightSz, true, 1f, new Vector2(), col);
-            lightSource.collectDrawables(drawables);
         } else {
             lightSource = null;
         }
+        activate(game, faction, ship);
+    }
+
+    /**
+     * Fires a removed projectile again, as if it had just been built with the same config.
+     */
+    void reset(SolGame game, float angle, Vector2 muzzlePos, Vector2 gunVelocity, Faction faction, boolean varySpeed,
+               SolShip ship) {
+        body.reset(game, angle, muzzlePos, gunVelocity, getSpeed(varySpeed));
+        if (drawable instanceof ProjectileDrawable) {
+            ((ProjectileDrawable) drawable).reset();
+        }
+        game.getSoundManager().removeLooped(this);
+        activate(game, faction, ship);
+    }
+
+    private void activate(SolGame game, Faction faction, SolShip ship) {
+        this.faction = faction;
+        this.ship = ship;
+        shouldBeRemoved = false;
+        obstacle = null;
+        wasDamageDealt = false;
+        drawables.clear();
+        drawables.add(drawable);
+        bodyEffect = buildEffect(game, config.bodyEffect, DrawableLevel.PART_BG_0, null, true);
+        trailEffect = buildEffect(game, config.trailEffect, DrawableLevel.PART_BG_0, null, false);
+        if (lightSource != null) {
+            lightSource.collectDrawables(drawables);
+        }
+    }
+
+    private float getSpeed(boolean varySpeed) {
+        float speed = config.speed;
+        if (varySpeed) {
+            speed *= SolRandom.randomFloat(.9f, 1.1f);
+        }
+        return speed;
     }
 
     private DSParticleEmitter buildEffect(SolGame game, EffectConfig ec, DrawableLevel drawableLevel, Vector2 position, boolean inheritsVelocity) {
@@ -128,9 +156,9 @@ public void update(SolGame game) {
 
                 if (!wasDamageDealt) {
                     if (config.aoeRadius >= 0) { //This checks if the projectile does Area-Of-Effect damage. If it does not, the value is usually -1
-                        EntityIterator iterator = game.getEntitySystemManager().getEntityManager().iterate(new Position());
-                        while (iterator.next()) {
-                            Vector2 entityPosition = iterator.getEntity().getComponent(Position.class).get().position;
+                        EntityQuery query = game.getEntitySystemManager().getQuery(Position.class);
+                        for (int row = 0, size = query.refresh(); row < size; row++) {
+                            Vector2 entityPosition = query.get(row, Position.class).position;
                             if (getPosition().dst2(entityPosition) <= config.aoeRadius) {
                                 game.getEntitySystemManager().sendEvent(new DamageEvent(config.dmg), entity);
                             }
@@ -237,6 +265,11 @@ public void onRemove(SolGame game) {
             game.getPartMan().finish(game, trailEffect, position);
         }
         body.onRemove(game);
+        game.getProjectileManager().free(this);
+    }
+
+    void destroyBody() {
+        body.destroy();
     }
 
     @Override
@@ -354,6 +387,11 @@ private static class ProjectileDrawable implements Drawable {
             this.width = width;
         }
 
+        void reset() {
+            animationTime = 0;
+            texture = animation.getKeyFrame(animationTime, true);
+        }
+
         @Override
         public TextureAtlas.AtlasRegion getTexture() {
             return texture;
@@ -371,7 +409,7 @@ public void update(SolGame game, SolObject o) {
         }
 
         @Override
-        public void prepare(SolObject o) {
+        public void prepare(SolObject o, BaseTransform baseTransform) {
         }
 
         @Override
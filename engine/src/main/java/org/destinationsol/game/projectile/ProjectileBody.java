@@ -28,8 +28,21 @@ public interface ProjectileBody {
 
     void receiveForce(Vector2 force, SolGame game, boolean acc);
 
+    /**
+     * Takes the body out of the world when its projectile is removed, keeping it around to be reset.
+     */
     void onRemove(SolGame game);
 
+    /**
+     * Puts a removed body back into the world for a projectile of the same config that has just been fired.
+     */
+    void reset(SolGame game, float angle, Vector2 muzzlePos, Vector2 gunVelocity, float speed);
+
+    /**
+     * Releases the body of a removed projectile that is not going to be reused.
+     */
+    void destroy();
+
     float getAngle();
 
     void changeAngle(float diff);
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.projectile;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.RayCastCallback;
+import org.destinationsol.Const;
+import org.destinationsol.game.Faction;
+import org.destinationsol.game.ObjectManager;
+import org.destinationsol.game.RaycastService;
+import org.destinationsol.game.RecyclingPool;
+import org.destinationsol.game.SolGame;
+import org.destinationsol.game.SolObject;
+import org.destinationsol.game.SolObjectEntityWrapper;
+import org.destinationsol.game.ship.SolShip;
+import org.destinationsol.ui.DebugCollector;
+import org.terasology.gestalt.entitysystem.entity.EntityRef;
+
+import java.util.Arrays;
+
+/**
+ * Builds, recycles and moves projectiles.
+ * <p>
+ * Projectiles are taken from a pool keyed on their {@link ProjectileConfig}, so that a gun firing the same kind of
+ * projectile over and over reuses their drawables and, for ball projectiles, their physics bodies. Point projectiles
+ * keep their motion in flat arrays here and are all moved and ray cast against the world in a single pass, right after
+ * the physics step and before any object is updated.
+ */
+public class ProjectileManager {
+    private static final int MAX_DORMANT_PROJECTILES = 256;
+    private static final int INITIAL_CAPACITY = 64;
+    private final RecyclingPool<ProjectileConfig, Projectile> pool;
+    private final PointRayBack rayBack;
+    private PointProjectileBody[] bodies;
+    private float[] xs;
+    private float[] ys;
+    private float[] velocityXs;
+    private float[] velocityYs;
+    private float[] accelerations;
+    private int count;
+    private int rayCasts;
+
+    public ProjectileManager() {
+        pool = new RecyclingPool<>("Projectile pool", MAX_DORMANT_PROJECTILES, Projectile::destroyBody);
+        rayBack = new PointRayBack();
+        bodies = new PointProjectileBody[INITIAL_CAPACITY];
+        xs = new float[INITIAL_CAPACITY];
+        ys = new float[INITIAL_CAPACITY];
+        velocityXs = new float[INITIAL_CAPACITY];
+        velocityYs = new float[INITIAL_CAPACITY];
+        accelerations = new float[INITIAL_CAPACITY];
+    }
+
+    // doesn't consume muzzlePos or gunVelocity
+    public Projectile build(SolGame game, float angle, Vector2 muzzlePos, Vector2 gunVelocity, Faction faction,
+                            ProjectileConfig config, boolean varySpeed, SolShip ship) {
+        Projectile dormant = pool.obtain(config);
+        if (dormant != null) {
+            dormant.reset(game, angle, muzzlePos, gunVelocity, faction, varySpeed, ship);
+            return dormant;
+        }
+        return new Projectile(game, angle, muzzlePos, gunVelocity, faction, config, varySpeed, ship);
+    }
+
+    /**
+     * Parks a removed projectile, with its body already deactivated, until a projectile of the same config is fired.
+     */
+    void free(Projectile projectile) {
+        pool.free(projectile.getConfig(), projectile);
+    }
+
+    /**
+     * Moves all point projectiles by one time step and checks the path each of them covered for obstacles.
+     *
+     * @param game the game in progress
+     */
+    public void update(SolGame game) {
+        float timeStep = game.getTimeStep();
+        RaycastService raycastService = game.getObjectManager().getRaycastService();
+        rayBack.game = game;
+        rayCasts = 0;
+        for (int i = 0; i < count; i++) {
+            float velocityX = velocityXs[i];
+            float velocityY = velocityYs[i];
+            float acceleration = accelerations[i];
+            if (acceleration > 0) {
+                float speed = (float) Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+                if (speed < Const.MAX_MOVE_SPD) {
+                    velocityX *= (speed + acceleration) / speed;
+                    velocityY *= (speed + acceleration) / speed;
+                    velocityXs[i] = velocityX;
+                    velocityYs[i] = velocityY;
+                }
+            }
+            float prevX = xs[i];
+            float prevY = ys[i];
+            float x = prevX + velocityX * timeStep;
+            float y = prevY + velocityY * timeStep;
+            xs[i] = x;
+            ys[i] = y;
+            PointProjectileBody body = bodies[i];
+            body.sync(x, y, velocityX, velocityY);
+            if (prevX == x && prevY == y) {
+                continue;
+            }
+            rayBack.body = body;
+            rayBack.from.set(prevX, prevY);
+            rayBack.to.set(x, y);
+            raycastService.rayCast(rayBack, rayBack.from, rayBack.to);
+            rayCasts++;
+        }
+        rayBack.body = null;
+        rayBack.game = null;
+    }
+
+    int addPointBody(PointProjectileBody body, Vector2 position, Vector2 velocity, float acceleration) {
+        if (count == bodies.length) {
+            int capacity = count * 2;
+            bodies = Arrays.copyOf(bodies, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            velocityXs = Arrays.copyOf(velocityXs, capacity);
+            velocityYs = Arrays.copyOf(velocityYs, capacity);
+            accelerations = Arrays.copyOf(accelerations, capacity);
+        }
+        int slot = count++;
+        bodies[slot] = body;
+        xs[slot] = position.x;
+        ys[slot] = position.y;
+        velocityXs[slot] = velocity.x;
+        velocityYs[slot] = velocity.y;
+        accelerations[slot] = acceleration;
+        return slot;
+    }
+
+    /**
+     * Takes a point body out of the update arrays, and clears its slot. Does nothing if the body was already removed.
+     *
+     * @param slot the slot of the body, or -1 if it is not in the arrays
+     */
+    void removePointBody(int slot) {
+        if (slot == -1) {
+            return;
+        }
+        bodies[slot].setSlot(-1);
+        int last = --count;
+        if (slot != last) {
+            bodies[slot] = bodies[last];
+            xs[slot] = xs[last];
+            ys[slot] = ys[last];
+            velocityXs[slot] = velocityXs[last];
+            velocityYs[slot] = velocityYs[last];
+            accelerations[slot] = accelerations[last];
+            bodies[slot].setSlot(slot);
+        }
+        bodies[last] = null;
+    }
+
+    void setPointPosition(int slot, Vector2 position) {
+        if (slot == -1) {
+            return;
+        }
+        xs[slot] = position.x;
+        ys[slot] = position.y;
+    }
+
+    void setPointVelocity(int slot, Vector2 velocity) {
+        if (slot == -1) {
+            return;
+        }
+        velocityXs[slot] = velocity.x;
+        velocityYs[slot] = velocity.y;
+    }
+
+    public RecyclingPool<?, Projectile> getPool() {
+        return pool;
+    }
+
+    public int getPointProjectileCount() {
+        return count;
+    }
+
+    public void debug() {
+        pool.debug();
+        DebugCollector.debug("Point projectiles", count);
+        DebugCollector.debug("Point projectile ray casts", rayCasts);
+    }
+
+    /**
+     * Shared ray cast callback, pointed at the body whose path is being checked before each cast.
+     */
+    private static class PointRayBack implements RayCastCallback {
+        private final Vector2 from = new Vector2();
+        private final Vector2 to = new Vector2();
+        private PointProjectileBody body;
+        private SolGame game;
+
+        @Override
+        public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+
+            //TODO This is a patch to smooth over contact between an Entity and a Projectile. Once Projectile has been
+            // converted to be an Entity, this can be removed.
+            Object userData = ObjectManager.getOwner(fixture);
+            if (userData instanceof EntityRef) {
+                userData = new SolObjectEntityWrapper((EntityRef) userData);
+            }
+
+            //At this point, the object will either be an entity wrapped in a SolObjectEntityWrapper, or it will have already been a SolObject
+            SolObject solObject = (SolObject) userData;
+
+            Projectile projectile = body.getProjectile();
+            boolean objectIsMassless = solObject instanceof Projectile && ((Projectile) solObject).isMassless();
+            if (!objectIsMassless && projectile.shouldCollide(solObject, fixture, game.getFactionMan())) {
+                body.setPosition(point);
+                projectile.setObstacle(solObject, game);
+                return 0;
+            }
+
+            return -1;
+        }
+    }
+}
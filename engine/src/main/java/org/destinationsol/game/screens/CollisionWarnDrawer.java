@@ -16,16 +16,16 @@
 package org.destinationsol.game.screens;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.RayCastCallback;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.game.Hero;
+import org.destinationsol.game.RaycastService;
 import org.destinationsol.game.SolGame;
-import org.destinationsol.game.SolObject;
 
 public class CollisionWarnDrawer extends WarnDrawer {
-    private final CollisionRayCastCallback warnCallback = new CollisionRayCastCallback();
     private Hero hero;
+    //TODO code from era when hero was SolShip - does this still work? (what is it supposed to do?)
+    private final RaycastService.Filter warnFilter = (owner, fixture) -> owner != hero.getShip();
+    private RaycastService.Ray warnRay;
 
     CollisionWarnDrawer() {
         super("Object Near");
@@ -51,26 +51,13 @@ public boolean shouldWarn(SolGame game) {
         Vector2 finalPos = SolMath.getVec(0, 0);
         SolMath.fromAl(finalPos, velocityAngle, breakWay);
         finalPos.add(position);
-        warnCallback.show = false;
-        game.getObjectManager().getWorld().rayCast(warnCallback, position, finalPos);
-        SolMath.free(finalPos);
-        return warnCallback.show;
-    }
-
-    private class CollisionRayCastCallback implements RayCastCallback {
-        private boolean show;
-
-        //TODO code from era when hero was SolShip - does this still work? (what is it supposed to do?)
-        @Override
-        public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
-            if (fixture.getBody().getUserData() instanceof SolObject) {
-                SolObject o = (SolObject) fixture.getBody().getUserData();
-                if (hero == o) {
-                    return -1;
-                }
-                show = true;
-            }
-            return 0;
+        RaycastService raycastService = game.getObjectManager().getRaycastService();
+        if (warnRay == null) {
+            warnRay = raycastService.createRay(warnFilter);
         }
+        // The warning may lag a tick behind, so the ray is cast together with the other requested ones
+        boolean show = raycastService.request(warnRay, position, finalPos);
+        SolMath.free(finalPos);
+        return show;
     }
 }
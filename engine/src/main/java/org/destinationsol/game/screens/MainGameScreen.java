@@ -48,6 +48,7 @@
 import org.destinationsol.ui.SolUiBaseScreen;
 import org.destinationsol.ui.SolUiControl;
 import org.destinationsol.ui.SolUiScreen;
+import org.destinationsol.ui.TextFormatter;
 import org.destinationsol.ui.UiDrawer;
 
 import java.util.ArrayList;
@@ -387,7 +388,7 @@ private void drawBar(UiDrawer uiDrawer, float x, float y, float curr, float max,
         uiDrawer.draw(uiDrawer.whiteTexture, BAR_SZ, ICON_SZ, 0, 0, x, y, 0, SolColor.UI_DARK);
         uiDrawer.draw(uiDrawer.whiteTexture, BAR_SZ * perc, ICON_SZ, 0, 0, x, y, 0, SolColor.UI_LIGHT);
         if (tp != null && max > 1 && curr > 0) {
-            tp.text = (int) curr + "/" + (int) max;
+            TextFormatter.set(tp.text, (int) curr).append('/').append((int) max);
             tp.position.set(x + BAR_SZ / 2, y + ICON_SZ / 2);
         }
     }
@@ -401,26 +402,23 @@ private void drawIcons(UiDrawer uiDrawer, float x, float y, int count, TextureAt
             x += ICON_SZ + H_PAD;
         }
         if (excess > 0) {
-            updateTextPlace(x, y, "+" + excess, textPlace);
+            textPlace.text.setLength(0);
+            textPlace.text.append('+').append(excess);
+            textPlace.position.set(x + ICON_SZ / 2, y + ICON_SZ / 2);
         }
     }
 
-    private void updateTextPlace(float x, float y, String text, TextPlace textPlace) {
-        textPlace.text = text;
-        textPlace.position.set(x + ICON_SZ / 2, y + ICON_SZ / 2);
-    }
-
     @Override
     public void drawImages(UiDrawer uiDrawer, SolApplication solApplication) {
-        myLifeTp.text = null;
-        myRepairsExcessTp.text = null;
-        myShieldLifeTp.text = null;
-        myG1AmmoTp.text = null;
-        myG1AmmoExcessTp.text = null;
-        myG2AmmoTp.text = null;
-        myG2AmmoExcessTp.text = null;
-        myChargesExcessTp.text = null;
-        myMoneyExcessTp.text = null;
+        myLifeTp.clear();
+        myRepairsExcessTp.clear();
+        myShieldLifeTp.clear();
+        myG1AmmoTp.clear();
+        myG1AmmoExcessTp.clear();
+        myG2AmmoTp.clear();
+        myG2AmmoExcessTp.clear();
+        myChargesExcessTp.clear();
+        myMoneyExcessTp.clear();
 
         maybeDrawHeight(uiDrawer);
         borderDrawer.draw(uiDrawer, solApplication);
@@ -471,9 +469,8 @@ public void drawImages(UiDrawer uiDrawer, SolApplication solApplication) {
                 row += ICON_SZ + V_PAD;
             }
             uiDrawer.draw(game.getItemMan().moneyIcon, ICON_SZ, ICON_SZ, 0, 0, col0, row, 0, SolColor.WHITE);
-            myMoneyExcessTp.text = Integer.toString(Math.round(hero.getMoney()));
+            TextFormatter.set(myMoneyExcessTp.text, Math.round(hero.getMoney()));
             myMoneyExcessTp.position.set(col1, row + ICON_SZ / 2);
-            //updateTextPlace(col1, row, (int) hero.getMoney() + "", myMoneyExcessTp);
         }
 
         int drawPlace = 0;
@@ -598,19 +595,30 @@ public boolean hasWarnDrawer(WarnDrawer drawer) {
 
     public static class TextPlace {
         public final Color color;
-        public String text;
+        /**
+         * The text to draw, rebuilt in place every frame. Nothing is drawn while it is empty.
+         */
+        public final StringBuilder text = new StringBuilder();
         public Vector2 position = new Vector2();
 
         TextPlace(Color col) {
             color = new Color(col);
         }
 
+        public void clear() {
+            text.setLength(0);
+        }
+
         public void draw(UiDrawer uiDrawer) {
-            uiDrawer.drawString(text, position.x, position.y, FontSize.HUD, true, color);
+            if (text.length() > 0) {
+                uiDrawer.drawString(text, position.x, position.y, FontSize.HUD, true, color);
+            }
         }
 
         public void draw(UiDrawer uiDrawer, UiDrawer.TextAlignment align) {
-            uiDrawer.drawString(text, position.x, position.y, FontSize.HUD, align, true, color);
+            if (text.length() > 0) {
+                uiDrawer.drawString(text, position.x, position.y, FontSize.HUD, align, true, color);
+            }
         }
     }
 
@@ -18,27 +18,60 @@
 import com.badlogic.gdx.math.Rectangle;
 import org.destinationsol.SolApplication;
 import org.destinationsol.ui.DisplayDimensions;
+import org.destinationsol.ui.ResizeSubscriber;
 
-public class RightPaneLayout {
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lays out the column of buttons on the right side of the game screen.
+ * <p>
+ * The rectangle of each row is created once and shared by everyone who asks for it. When the window is resized, the
+ * rectangles are moved in place, so the controls using them follow without recomputing anything.
+ */
+public class RightPaneLayout implements ResizeSubscriber {
     private final float btnH;
     private final float btnW;
     private final float row0;
     private final float rowH;
-    private final float col0;
+    private final List<Rectangle> rowRects;
+    private float col0;
 
     public RightPaneLayout() {
-        DisplayDimensions displayDimensions = SolApplication.displayDimensions;
-
         btnH = .07f;
         rowH = 1.1f * btnH;
         row0 = .1f;
         btnW = 3 * btnH;
+        rowRects = new ArrayList<>();
+        computeColumn();
+
+        SolApplication.addResizeSubscriber(this);
+    }
+
+    private void computeColumn() {
+        DisplayDimensions displayDimensions = SolApplication.displayDimensions;
         col0 = displayDimensions.getRatio() - btnW;
     }
 
     public Rectangle buttonRect(int row) {
-        float x = col0;
-        float y = row0 + rowH * row;
-        return new Rectangle(x, y, btnW, btnH);
+        while (rowRects.size() <= row) {
+            rowRects.add(null);
+        }
+        Rectangle rect = rowRects.get(row);
+        if (rect == null) {
+            rect = new Rectangle(col0, row0 + rowH * row, btnW, btnH);
+            rowRects.set(row, rect);
+        }
+        return rect;
+    }
+
+    @Override
+    public void resize() {
+        computeColumn();
+        for (Rectangle rect : rowRects) {
+            if (rect != null) {
+                rect.x = col0;
+            }
+        }
     }
 }
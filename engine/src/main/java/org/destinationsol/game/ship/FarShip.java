@@ -46,6 +46,8 @@ public class FarShip implements FarObject {
     private final TradeContainer tradeContainer;
     private float angle;
     private float life;
+    private FarShipStore store;
+    private int slot;
     private ShipRepairer repairer;
     private float money;
     private MercItem mercItem;
@@ -91,12 +93,12 @@ public FarShip(Vector2 position, Vector2 velocity, float angle, float rotationSp
 
     @Override
     public boolean shouldBeRemoved(SolGame game) {
-        return removeController != null && removeController.shouldRemove(position);
+        return removeController != null && removeController.shouldRemove(getPosition());
     }
 
     @Override
     public SolShip toObject(SolGame game) {
-        SolShip ship = game.getShipBuilder().build(game, position, velocity, angle, rotationSpeed, pilot, container, hullConfig, life, gun1,
+        SolShip ship = game.getShipBuilder().build(game, getPosition(), getVelocity(), getAngle(), getRotationSpeed(), pilot, container, hullConfig, getLife(), gun1,
                 gun2, removeController, engine, repairer, money, tradeContainer, shield, armor);
         if (isMerc) {
             ship.setMerc(mercItem);
@@ -111,10 +113,42 @@ public void update(SolGame game) {
             tradeContainer.update(game);
         }
         if (repairer != null) {
-            life += repairer.tryRepair(game, container, life, hullConfig);
+            float life = getLife();
+            float repaired = repairer.tryRepair(game, container, life, hullConfig);
+            if (repaired != 0) {
+                setLife(life + repaired);
+            }
         }
     }
 
+    /**
+     * Hands the state of this ship over to a slot of the {@link FarShipStore}.
+     */
+    void attach(FarShipStore store, int slot) {
+        store.set(slot, position, velocity, angle, rotationSpeed, life);
+        this.store = store;
+        this.slot = slot;
+    }
+
+    /**
+     * Takes the state of this ship back from the {@link FarShipStore}.
+     */
+    void detach() {
+        store.getPosition(slot, position);
+        store.getVelocity(slot, velocity);
+        angle = store.getAngle(slot);
+        life = store.getLife(slot);
+        store = null;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    void setSlot(int slot) {
+        this.slot = slot;
+    }
+
     @Override
     public float getRadius() {
         return hullConfig.getApproxRadius();
@@ -122,11 +156,17 @@ public float getRadius() {
 
     @Override
     public Vector2 getPosition() {
+        if (store != null) {
+            store.getPosition(slot, position);
+        }
         return position;
     }
 
     public void setPos(Vector2 position) {
         this.position.set(position);
+        if (store != null) {
+            store.setPosition(slot, position);
+        }
     }
 
     @Override
@@ -148,19 +188,32 @@ public HullConfig getHullConfig() {
     }
 
     public float getAngle() {
-        return angle;
+        return store != null ? store.getAngle(slot) : angle;
     }
 
     public void setAngle(float angle) {
         this.angle = angle;
+        if (store != null) {
+            store.setAngle(slot, angle);
+        }
     }
 
     public Vector2 getVelocity() {
+        if (store != null) {
+            store.getVelocity(slot, velocity);
+        }
         return velocity;
     }
 
     public void setVelocity(Vector2 velocity) {
         this.velocity.set(velocity);
+        if (store != null) {
+            store.setVelocity(slot, velocity);
+        }
+    }
+
+    public float getRotationSpeed() {
+        return store != null ? store.getRotationSpeed(slot) : rotationSpeed;
     }
 
     public Engine getEngine() {
@@ -180,7 +233,14 @@ public Armor getArmor() {
     }
 
     public float getLife() {
-        return life;
+        return store != null ? store.getLife(slot) : life;
+    }
+
+    private void setLife(float life) {
+        this.life = life;
+        if (store != null) {
+            store.setLife(slot, life);
+        }
     }
 
     public boolean mountCanFix(boolean sec) {
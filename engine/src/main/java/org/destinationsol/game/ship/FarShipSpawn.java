@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.ship;
+
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.game.RemoveController;
+import org.destinationsol.game.input.Pilot;
+
+/**
+ * Where and how a single ship of a spawn batch starts, as passed to {@link ShipBuilder}.
+ */
+public class FarShipSpawn {
+    private final Vector2 position;
+    private final Vector2 velocity;
+    private final float angle;
+    private final float rotationSpeed;
+    private final Pilot pilot;
+    private final RemoveController removeController;
+
+    /**
+     * @param position the starting position, taken over by the ship
+     * @param velocity the starting velocity, taken over by the ship
+     */
+    public FarShipSpawn(Vector2 position, Vector2 velocity, float angle, float rotationSpeed, Pilot pilot, RemoveController removeController) {
+        this.position = position;
+        this.velocity = velocity;
+        this.angle = angle;
+        this.rotationSpeed = rotationSpeed;
+        this.pilot = pilot;
+        this.removeController = removeController;
+    }
+
+    public Vector2 getPosition() {
+        return position;
+    }
+
+    public Vector2 getVelocity() {
+        return velocity;
+    }
+
+    public float getAngle() {
+        return angle;
+    }
+
+    public float getRotationSpeed() {
+        return rotationSpeed;
+    }
+
+    public Pilot getPilot() {
+        return pilot;
+    }
+
+    public RemoveController getRemoveController() {
+        return removeController;
+    }
+}
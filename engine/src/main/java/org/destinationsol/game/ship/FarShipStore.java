@@ -0,0 +1,172 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.ship;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.TimeUtils;
+import org.destinationsol.ui.DebugCollector;
+
+import java.util.Arrays;
+
+/**
+ * Holds the motion of all far ships in flat arrays, and moves them all in one loop per tick.
+ * <p>
+ * While a {@link FarShip} is in the store, its position, velocity, angle, rotation speed and life live here, and the
+ * ship reads and writes them through its slot. Its pilot, items and other loadout stay on the ship itself. Pilots only
+ * change the velocity and angle of their far ships now and then, see
+ * {@link org.destinationsol.game.input.AiThinkScheduler}, so between their decisions a far ship costs no more than the
+ * few multiplications in {@link #step(float)}.
+ */
+public class FarShipStore {
+    private static final int INITIAL_CAPACITY = 256;
+    private FarShip[] ships;
+    private float[] xs;
+    private float[] ys;
+    private float[] velocityXs;
+    private float[] velocityYs;
+    private float[] angles;
+    private float[] rotationSpeeds;
+    private float[] lives;
+    private int count;
+    private long stepTime;
+
+    public FarShipStore() {
+        ships = new FarShip[INITIAL_CAPACITY];
+        xs = new float[INITIAL_CAPACITY];
+        ys = new float[INITIAL_CAPACITY];
+        velocityXs = new float[INITIAL_CAPACITY];
+        velocityYs = new float[INITIAL_CAPACITY];
+        angles = new float[INITIAL_CAPACITY];
+        rotationSpeeds = new float[INITIAL_CAPACITY];
+        lives = new float[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Moves the state of a far ship into the store.
+     */
+    public void add(FarShip ship) {
+        if (count == ships.length) {
+            int capacity = count * 2;
+            ships = Arrays.copyOf(ships, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            velocityXs = Arrays.copyOf(velocityXs, capacity);
+            velocityYs = Arrays.copyOf(velocityYs, capacity);
+            angles = Arrays.copyOf(angles, capacity);
+            rotationSpeeds = Arrays.copyOf(rotationSpeeds, capacity);
+            lives = Arrays.copyOf(lives, capacity);
+        }
+        int slot = count++;
+        ships[slot] = ship;
+        ship.attach(this, slot);
+    }
+
+    /**
+     * Moves the state of a far ship back into the ship, for example when it comes near.
+     */
+    public void remove(FarShip ship) {
+        int slot = ship.getSlot();
+        ship.detach();
+        int last = --count;
+        if (slot != last) {
+            ships[slot] = ships[last];
+            xs[slot] = xs[last];
+            ys[slot] = ys[last];
+            velocityXs[slot] = velocityXs[last];
+            velocityYs[slot] = velocityYs[last];
+            angles[slot] = angles[last];
+            rotationSpeeds[slot] = rotationSpeeds[last];
+            lives[slot] = lives[last];
+            ships[slot].setSlot(slot);
+        }
+        ships[last] = null;
+    }
+
+    /**
+     * Moves every far ship along its velocity.
+     *
+     * @param timeStep the time to move the ships by
+     */
+    public void step(float timeStep) {
+        long startTime = TimeUtils.nanoTime();
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] velocityXs = this.velocityXs;
+        float[] velocityYs = this.velocityYs;
+        for (int i = 0, n = count; i < n; i++) {
+            xs[i] += velocityXs[i] * timeStep;
+            ys[i] += velocityYs[i] * timeStep;
+        }
+        stepTime = TimeUtils.nanoTime() - startTime;
+    }
+
+    void set(int slot, Vector2 position, Vector2 velocity, float angle, float rotationSpeed, float life) {
+        xs[slot] = position.x;
+        ys[slot] = position.y;
+        velocityXs[slot] = velocity.x;
+        velocityYs[slot] = velocity.y;
+        angles[slot] = angle;
+        rotationSpeeds[slot] = rotationSpeed;
+        lives[slot] = life;
+    }
+
+    Vector2 getPosition(int slot, Vector2 position) {
+        return position.set(xs[slot], ys[slot]);
+    }
+
+    void setPosition(int slot, Vector2 position) {
+        xs[slot] = position.x;
+        ys[slot] = position.y;
+    }
+
+    Vector2 getVelocity(int slot, Vector2 velocity) {
+        return velocity.set(velocityXs[slot], velocityYs[slot]);
+    }
+
+    void setVelocity(int slot, Vector2 velocity) {
+        velocityXs[slot] = velocity.x;
+        velocityYs[slot] = velocity.y;
+    }
+
+    float getAngle(int slot) {
+        return angles[slot];
+    }
+
+    void setAngle(int slot, float angle) {
+        angles[slot] = angle;
+    }
+
+    float getRotationSpeed(int slot) {
+        return rotationSpeeds[slot];
+    }
+
+    float getLife(int slot) {
+        return lives[slot];
+    }
+
+    void setLife(int slot, float life) {
+        lives[slot] = life;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public void debug() {
+        DebugCollector.debug("Far ships", count);
+        DebugCollector.debug("Far ship time (us)", (int) (stepTime / 1000));
+    }
+}
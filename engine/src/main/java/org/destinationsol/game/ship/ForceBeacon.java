@@ -45,15 +45,11 @@ public static SolShip pullShips(SolGame game, SolObject owner, Vector2 ownPos, V
                                     float maxPullDist) {
         SolShip res = null;
         float minLen = Float.MAX_VALUE;
-        List<SolObject> objs = game.getObjectManager().getObjects();
-        for (SolObject o : objs) {
-            if (o == owner) {
+        List<SolShip> ships = game.getObjectManager().getShipGrid().getShipsNear(ownPos, maxPullDist);
+        for (SolShip ship : ships) {
+            if (ship == owner) {
                 continue;
             }
-            if (!(o instanceof SolShip)) {
-                continue;
-            }
-            SolShip ship = (SolShip) o;
             Pilot pilot = ship.getPilot();
             if (pilot.isUp() || pilot.isLeft() || pilot.isRight()) {
                 continue;
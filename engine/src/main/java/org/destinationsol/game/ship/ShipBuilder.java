@@ -46,6 +46,7 @@
 import org.destinationsol.game.item.Clip;
 import org.destinationsol.game.item.Engine;
 import org.destinationsol.game.item.Gun;
+import org.destinationsol.game.item.ItemConfig;
 import org.destinationsol.game.item.ItemContainer;
 import org.destinationsol.game.item.Shield;
 import org.destinationsol.game.item.SolItem;
@@ -74,12 +75,40 @@ public FarShip buildNewFar(SolGame game, Vector2 position, Vector2 velocity, flo
                                String items, HullConfig hullConfig,
                                RemoveController removeController,
                                boolean hasRepairer, float money, TradeConfig tradeConfig, boolean giveAmmo) {
+        Vector2 ownVelocity = velocity == null ? new Vector2() : new Vector2(velocity);
+        return buildNewFar(game, new Vector2(position), ownVelocity, angle, rotationSpeed, pilot, game.getItemMan().getLoadout(items),
+                hullConfig, removeController, hasRepairer, money, tradeConfig, giveAmmo);
+    }
 
-        if (velocity == null) {
-            velocity = new Vector2();
+    /**
+     * Builds a group of far ships that share a ship config, resolving their loadout only once, and adds them to the
+     * game.
+     * <p>
+     * Every ship still gets its own random roll of the loadout. The positions and velocities of the spawns are taken
+     * over by the ships, so they must not be reused.
+     *
+     * @param spawns where and with which pilot each ship starts
+     * @return the ships, in the order of {@code spawns}
+     */
+    public List<FarShip> buildNewFar(SolGame game, List<FarShipSpawn> spawns, String items, HullConfig hullConfig,
+                                     boolean hasRepairer, float money, TradeConfig tradeConfig, boolean giveAmmo) {
+        List<ItemConfig> loadout = game.getItemMan().getLoadout(items);
+        List<FarShip> ships = new ArrayList<>(spawns.size());
+        for (FarShipSpawn spawn : spawns) {
+            ships.add(buildNewFar(game, spawn.getPosition(), spawn.getVelocity(), spawn.getAngle(), spawn.getRotationSpeed(),
+                    spawn.getPilot(), loadout, hullConfig, spawn.getRemoveController(), hasRepairer, money, tradeConfig, giveAmmo));
         }
+        game.getObjectManager().addFarObjsNow(ships);
+        return ships;
+    }
+
+    // consumes position and velocity
+    private FarShip buildNewFar(SolGame game, Vector2 position, Vector2 velocity, float angle, float rotationSpeed, Pilot pilot,
+                                List<ItemConfig> loadout, HullConfig hullConfig,
+                                RemoveController removeController,
+                                boolean hasRepairer, float money, TradeConfig tradeConfig, boolean giveAmmo) {
         ItemContainer itemContainer = new ItemContainer();
-        game.getItemMan().fillContainer(itemContainer, items);
+        game.getItemMan().fillContainer(itemContainer, loadout);
         Engine.Config ec = hullConfig.getEngineConfig();
         Engine ei = ec == null ? null : ec.exampleEngine.copy();
         TradeContainer tc = tradeConfig == null ? null : new TradeContainer(tradeConfig);
@@ -155,7 +184,7 @@ public FarShip buildNewFar(SolGame game, Vector2 position, Vector2 velocity, flo
             addAmmo(itemContainer, g1, pilot);
             addAmmo(itemContainer, g2, pilot);
         }
-        return new FarShip(new Vector2(position), new Vector2(velocity), angle, rotationSpeed, pilot, itemContainer, hullConfig, hullConfig.getMaxLife(),
+        return new FarShip(position, velocity, angle, rotationSpeed, pilot, itemContainer, hullConfig, hullConfig.getMaxLife(),
                 g1, g2, removeController, ei, hasRepairer ? new ShipRepairer() : null, money, tc, shield, armor);
     }
 
@@ -26,6 +26,7 @@
 import org.destinationsol.common.SolRandom;
 import org.destinationsol.game.AbilityCommonConfig;
 import org.destinationsol.game.DmgType;
+import org.destinationsol.game.Faction;
 import org.destinationsol.game.FactionInfo;
 import org.destinationsol.game.Hero;
 import org.destinationsol.game.RemoveController;
@@ -114,6 +115,7 @@ public SolShip(SolGame game, Pilot pilot, Hull hull, RemoveController removeCont
         }
         factionID = FactionInfo.getFactionID(this);
         factionName = FactionInfo.getFactionNames().get(factionID).toString();
+        updateFaction();
     }
 
     @Override
@@ -232,7 +234,7 @@ public float getAcceleration() {
 
     @Override
     public void update(SolGame game) {
-        SolShip nearestEnemy = game.getFactionMan().getNearestEnemy(game, this);
+        SolShip nearestEnemy = myPilot.findNearestEnemy(game, this);
         myPilot.update(game, this, nearestEnemy);
         myHull.update(game, myItemContainer, myPilot, this, nearestEnemy);
         game.getPartMan().updateAllHullEmittersOfType(this, "collision", colliding);
@@ -241,12 +243,6 @@ public void update(SolGame game) {
         updateIdleTime(game);
         updateShield(game);
 
-        if (!isMerc && FactionInfo.getDisposition().get(factionID) < -5) {
-            getPilot().stringToFaction("ehar");
-        } else {
-            getPilot().stringToFaction("laani");
-        }
-
         if (myArmor != null && !myItemContainer.contains(myArmor)) {
             myArmor = null;
         }
@@ -679,6 +675,7 @@ public float getAbilityAwait() {
     public void setMerc(MercItem mercItem) {
         this.mercItem = mercItem;
         isMerc = true;
+        updateFaction();
     }
 
     public MercItem getMerc() {
@@ -697,6 +694,20 @@ public int getFactionID() {
         return factionID;
     }
 
+    /**
+     * Re-evaluates which {@link Faction} the pilot of this ship belongs to, based on the disposition of its faction.
+     * <p>
+     * This is called when the ship is created, when it becomes a mercenary and whenever the disposition of its faction
+     * crosses {@link FactionInfo#HOSTILE_DISPOSITION}, so it does not need to be called every tick.
+     */
+    public void updateFaction() {
+        if (!isMerc && FactionInfo.isHostile(factionID)) {
+            myPilot.setFaction(Faction.EHAR);
+        } else {
+            myPilot.setFaction(Faction.LAANI);
+        }
+    }
+
     public void changeDisposition(int id) {
         FactionInfo.setDisposition(id, -1);
     }
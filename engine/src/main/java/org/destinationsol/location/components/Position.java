@@ -28,6 +28,6 @@ public class Position implements Component<Position> {
 
     @Override
     public void copy(Position other) {
-        position = other.position.cpy();
+        position.set(other.position);
     }
 }
@@ -45,9 +45,13 @@
 import java.io.File;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ReflectPermission;
+import java.net.URL;
 import java.nio.file.Paths;
 import java.security.Policy;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A class used for loading and managing modules in Destination Sol.
@@ -176,6 +180,11 @@ public ModuleManager() {
 
     public void init() throws Exception {
         try {
+            long startTime = System.nanoTime();
+            // The API scan only looks at the classpath, so it can run while the modules are being discovered
+            ClassLoader[] classLoaders = ClasspathHelper.classLoaders();
+            CompletableFuture<Reflections> apiScan = CompletableFuture.supplyAsync(() -> scanApiClasses(classLoaders));
+
             ModuleFactory moduleFactory = new ModuleFactory();
             engineModule = moduleFactory.createPackageModule("org.destinationsol");
 
@@ -188,8 +197,10 @@ public void init() throws Exception {
             Set<Module> requiredModules = Sets.newHashSet();
             registry.add(engineModule);
             requiredModules.addAll(registry);
+            logPhase("Module discovery", startTime);
 
-            loadEnvironment(requiredModules);
+            loadEnvironment(requiredModules, apiScan.join());
+            logPhase("Module loading", startTime);
         } catch (Exception e) {
             e.printStackTrace();
             throw e;
@@ -197,6 +208,11 @@ public void init() throws Exception {
     }
 
     public void loadEnvironment(Set<Module> modules) {
+        loadEnvironment(modules, scanApiClasses(ClasspathHelper.classLoaders()));
+    }
+
+    private void loadEnvironment(Set<Module> modules, Reflections apiClasses) {
+        long startTime = System.nanoTime();
         StandardPermissionProviderFactory permissionFactory = new StandardPermissionProviderFactory();
         for (String api : API_WHITELIST) {
             permissionFactory.getBasePermissionSet().addAPIPackage(api);
@@ -212,17 +228,43 @@ public void loadEnvironment(Set<Module> modules) {
         permissionFactory.getBasePermissionSet().grantPermission("com.google.gson", RuntimePermission.class);
         permissionFactory.getBasePermissionSet().grantPermission("com.google.gson.internal", RuntimePermission.class);
 
-        ConfigurationBuilder config = new ConfigurationBuilder()
-                .addClassLoader(ClasspathHelper.contextClassLoader())
-                .addUrls(ClasspathHelper.forClassLoader())
-                .addScanners(new TypeAnnotationsScanner(), new SubTypesScanner());
-        Reflections reflections = new Reflections(config);
-
         APIScanner scanner = new APIScanner(permissionFactory);
-        scanner.scan(reflections);
+        scanner.scan(apiClasses);
         Policy.setPolicy(new ModuleSecurityPolicy());
         System.setSecurityManager(new ModuleSecurityManager());
         environment = new ModuleEnvironment(modules,permissionFactory);
+        logPhase("Module environment", startTime);
+    }
+
+    /**
+     * Scans the classpath for the types and annotations the API scanner looks at, reusing the result of the last
+     * startup if the classpath has not changed since.
+     */
+    private Reflections scanApiClasses(ClassLoader[] classLoaders) {
+        long startTime = System.nanoTime();
+        Collection<URL> urls = ClasspathHelper.forClassLoader(classLoaders);
+        ReflectionsCache cache = new ReflectionsCache(ReflectionsCache.getDefaultDirectory(), "apiScan");
+        String key = cache.computeKey(urls);
+        Optional<Reflections> cached = cache.load(key);
+        if (cached.isPresent()) {
+            logPhase("API scan (cached)", startTime);
+            return cached.get();
+        }
+
+        ConfigurationBuilder config = new ConfigurationBuilder()
+                .addClassLoaders(classLoaders)
+                .addUrls(urls)
+                .addScanners(new TypeAnnotationsScanner(), new SubTypesScanner())
+                .useParallelExecutor();
+        Reflections reflections = new Reflections(config);
+        config.getExecutorService().shutdown();
+        cache.save(reflections, key);
+        logPhase("API scan", startTime);
+        return reflections;
+    }
+
+    private static void logPhase(String phase, long startTime) {
+        logger.info("{} took {} ms", phase, (System.nanoTime() - startTime) / 1000000);
     }
 
     public ModuleEnvironment getEnvironment() {
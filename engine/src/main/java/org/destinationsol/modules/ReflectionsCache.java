@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.modules;
+
+import org.reflections.Reflections;
+import org.reflections.util.ConfigurationBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the result of a {@link Reflections} scan on disk, so that it only has to be redone when the scanned classpath
+ * changes.
+ * <p>
+ * The cache is keyed by a hash over the scanned classpath entries, covering the size and modification time of every
+ * jar and class file. A stale or unreadable cache is simply ignored.
+ */
+public class ReflectionsCache {
+    private static final Logger logger = LoggerFactory.getLogger(ReflectionsCache.class);
+
+    private final Path cacheFile;
+    private final Path keyFile;
+
+    /**
+     * @param directory the directory to keep the cache in
+     * @param name the name of the cache, used for its files
+     */
+    public ReflectionsCache(Path directory, String name) {
+        cacheFile = directory.resolve(name + ".cache");
+        keyFile = directory.resolve(name + ".key");
+    }
+
+    /**
+     * Computes the key of a scan over the given classpath entries.
+     *
+     * @param urls the scanned classpath entries
+     * @return the key, or null if it could not be computed
+     */
+    public String computeKey(Collection<URL> urls) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            for (URL url : urls) {
+                digest.update(url.toString().getBytes(StandardCharsets.UTF_8));
+                File file;
+                try {
+                    file = new File(url.toURI());
+                } catch (URISyntaxException | IllegalArgumentException e) {
+                    continue;
+                }
+                for (File entry : listFiles(file)) {
+                    digest.update(longToBytes(entry.length()));
+                    digest.update(longToBytes(entry.lastModified()));
+                }
+            }
+            StringBuilder key = new StringBuilder();
+            for (byte b : digest.digest()) {
+                key.append(String.format("%02x", b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException | IOException e) {
+            logger.warn("Could not compute the reflections cache key, scanning without cache", e);
+            return null;
+        }
+    }
+
+    private static List<File> listFiles(File file) throws IOException {
+        List<File> files = new ArrayList<>();
+        if (file.isDirectory()) {
+            try (Stream<Path> paths = Files.walk(file.toPath())) {
+                paths.filter(Files::isRegularFile).sorted().forEach(path -> files.add(path.toFile()));
+            }
+        } else if (file.exists()) {
+            files.add(file);
+        }
+        return files;
+    }
+
+    private static byte[] longToBytes(long value) {
+        byte[] bytes = new byte[Long.BYTES];
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            bytes[i] = (byte) value;
+            value >>>= Byte.SIZE;
+        }
+        return bytes;
+    }
+
+    /**
+     * Loads the cached scan, if it was made with the given key.
+     *
+     * @param key the key of the wanted scan
+     * @return the cached scan, if there is a valid one
+     */
+    public Optional<Reflections> load(String key) {
+        if (key == null || !Files.isRegularFile(cacheFile) || !Files.isRegularFile(keyFile)) {
+            return Optional.empty();
+        }
+        try {
+            String cachedKey = new String(Files.readAllBytes(keyFile), StandardCharsets.UTF_8).trim();
+            if (!cachedKey.equals(key)) {
+                return Optional.empty();
+            }
+            Reflections reflections = new Reflections(new ConfigurationBuilder());
+            reflections.collect(cacheFile.toFile());
+            return Optional.of(reflections);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not read the reflections cache, scanning again", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a scan under the given key, replacing any scan cached before.
+     *
+     * @param reflections the scan to store
+     * @param key the key of the scan
+     */
+    public void save(Reflections reflections, String key) {
+        if (key == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            reflections.save(cacheFile.toString());
+            Files.write(keyFile, key.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not write the reflections cache", e);
+        }
+    }
+
+    /**
+     * Returns the directory startup caches are kept in, relative to the working directory.
+     */
+    public static Path getDefaultDirectory() {
+        return Paths.get(".").resolve("cache");
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2020 The Terasology Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.rendering;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.badlogic.gdx.utils.OrderedMap;
+import org.destinationsol.common.SolMath;
+import org.destinationsol.entitysystem.EntityQuery;
+import org.destinationsol.entitysystem.EntitySystemManager;
+import org.destinationsol.game.GameDrawer;
+import org.destinationsol.game.drawables.DrawableLevel;
+import org.destinationsol.game.drawables.DrawableManager;
+import org.destinationsol.location.components.Angle;
+import org.destinationsol.location.components.Position;
+import org.destinationsol.rendering.components.Renderable;
+import org.destinationsol.size.components.Size;
+import org.destinationsol.ui.DebugCollector;
+import org.terasology.gestalt.entitysystem.entity.EntityRef;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Draws the entities with a {@link Renderable} component as part of the {@link DrawableManager}'s draw.
+ * <p>
+ * Each frame, {@link #collect(EntitySystemManager, Vector2, float)} culls the entities against the view by their
+ * {@link Position} and a bound over their elements, and only fetches the renderables of the ones in view. Their elements
+ * are placed in the world and bucketed by {@link DrawableLevel} and texture, so that the drawable manager can draw them
+ * along with the legacy drawables of the same level and texture, without switching textures in between.
+ */
+public class EntityRenderer {
+    /**
+     * How many frames an entity out of view is culled by its cached bound before its renderable is fetched again, in
+     * case its elements changed. The refreshes of different entities are spread over these frames.
+     */
+    private static final int CULL_REFRESH_FRAMES = 30;
+    private final DrawableLevel[] drawableLevels;
+    private final ArrayList<OrderedMap<Texture, List<Sprite>>> sprites;
+    private final ArrayList<Sprite> spritePool = new ArrayList<>();
+    private final Vector2 elementPosition = new Vector2();
+    /**
+     * The depth of the deepest level of each entity's elements, and the distance from its position within which all of
+     * its elements lie, as of when its renderable was last fetched. Swapped with {@link #nextCullDepths} and
+     * {@link #nextCullRadii} every frame, which drops the entities no longer rendered.
+     */
+    private ObjectFloatMap<EntityRef> cullDepths = new ObjectFloatMap<>();
+    private ObjectFloatMap<EntityRef> cullRadii = new ObjectFloatMap<>();
+    private ObjectFloatMap<EntityRef> nextCullDepths = new ObjectFloatMap<>();
+    private ObjectFloatMap<EntityRef> nextCullRadii = new ObjectFloatMap<>();
+    private float cullDepth;
+    private float cullRadius;
+    private int frame;
+    private int usedSprites;
+    private int visibleEntities;
+    private int entityCount;
+
+    public EntityRenderer() {
+        drawableLevels = DrawableLevel.values();
+        sprites = new ArrayList<>();
+        for (DrawableLevel ignored : drawableLevels) {
+            sprites.add(new OrderedMap<>());
+        }
+    }
+
+    /**
+     * Gathers the elements of the entities in view, ready to be drawn with {@link #drawTexture(GameDrawer, int, Texture)}
+     * and {@link #drawRemaining(GameDrawer, int)}. The components of the entities are not changed.
+     *
+     * @param entitySystemManager the entity system holding the entities
+     * @param camPosition the position of the camera
+     * @param viewDistance the view distance of the camera, for the levels of depth 1
+     */
+    public void collect(EntitySystemManager entitySystemManager, Vector2 camPosition, float viewDistance) {
+        clear();
+        visibleEntities = 0;
+        frame++;
+        EntityQuery query = entitySystemManager.getQuery(Position.class, Size.class);
+        entityCount = query.refresh();
+        for (int row = 0; row < entityCount; row++) {
+            EntityRef entity = query.getEntity(row);
+            Vector2 position = query.get(row, Position.class).position;
+            float depth = cullDepths.get(entity, Float.NaN);
+            if (!Float.isNaN(depth) && (entity.getId() + frame) % CULL_REFRESH_FRAMES != 0) {
+                float radius = cullRadii.get(entity, 0);
+                if (!isVisible(position, radius, camPosition, viewDistance * depth)) {
+                    nextCullDepths.put(entity, depth);
+                    nextCullRadii.put(entity, radius);
+                    continue;
+                }
+            }
+
+            // Only entities in view, due a refresh, or seen for the first time, pay for fetching their renderable
+            Optional<Renderable> renderable = entity.getComponent(Renderable.class);
+            if (!renderable.isPresent()) {
+                continue;
+            }
+            float size = query.get(row, Size.class).size;
+            collect(entity, renderable.get(), position, size, camPosition, viewDistance);
+            nextCullDepths.put(entity, cullDepth);
+            nextCullRadii.put(entity, cullRadius);
+        }
+
+        ObjectFloatMap<EntityRef> previousCullDepths = cullDepths;
+        cullDepths = nextCullDepths;
+        nextCullDepths = previousCullDepths;
+        nextCullDepths.clear();
+        ObjectFloatMap<EntityRef> previousCullRadii = cullRadii;
+        cullRadii = nextCullRadii;
+        nextCullRadii = previousCullRadii;
+        nextCullRadii.clear();
+    }
+
+    /**
+     * Places the elements of an entity that are in view, and sets {@link #cullDepth} and {@link #cullRadius} to the
+     * bound of all of its elements.
+     */
+    private void collect(EntityRef entity, Renderable renderable, Vector2 basePosition, float size,
+                         Vector2 camPosition, float viewDistance) {
+        cullDepth = 1;
+        cullRadius = 0;
+        for (RenderableElement element : renderable.elements) {
+            cullDepth = Math.max(cullDepth, element.drawableLevel.depth);
+            // Matches the radius the elements are culled by below
+            float elementRadius = element.relativePosition.len() + Math.max(element.getWidth(), element.getHeight());
+            cullRadius = Math.max(cullRadius, elementRadius);
+        }
+        if (renderable.isInvisible) {
+            return;
+        }
+
+        float baseAngle = 0;
+        Optional<Angle> angle = entity.getComponent(Angle.class);
+        if (angle.isPresent()) {
+            baseAngle = angle.get().getAngle();
+        }
+
+        boolean isEntityVisible = false;
+        for (RenderableElement element : renderable.elements) {
+            float width = element.getWidth();
+            float height = element.getHeight();
+            SolMath.toWorld(elementPosition, element.relativePosition, baseAngle, basePosition);
+            float levelViewDistance = viewDistance * element.drawableLevel.depth;
+            if (!isVisible(elementPosition, Math.max(width, height), camPosition, levelViewDistance)) {
+                continue;
+            }
+            isEntityVisible = true;
+
+            // How much the sprite should be shifted to line up with the collision mesh
+            float horizontalShift = width / 2 + element.graphicsOffset.x * size;
+            float verticalShift = height / 2 + element.graphicsOffset.y * size;
+
+            Sprite sprite = obtainSprite();
+            sprite.set(element.texture, width, height, horizontalShift, verticalShift, elementPosition.x,
+                    elementPosition.y, element.relativeAngle + baseAngle, element.tint);
+            OrderedMap<Texture, List<Sprite>> map = sprites.get(element.drawableLevel.ordinal());
+            Texture texture = element.texture.getTexture();
+            List<Sprite> bucket = map.get(texture);
+            if (bucket == null) {
+                bucket = new ArrayList<>();
+                map.put(texture, bucket);
+            }
+            bucket.add(sprite);
+        }
+        if (isEntityVisible) {
+            visibleEntities++;
+        }
+    }
+
+    /**
+     * Draws the collected elements of a level that use a texture, and takes them out of the level.
+     *
+     * @param drawer the drawer to draw with
+     * @param levelIndex the ordinal of the {@link DrawableLevel}
+     * @param texture the texture of the elements to draw
+     */
+    public void drawTexture(GameDrawer drawer, int levelIndex, Texture texture) {
+        List<Sprite> bucket = sprites.get(levelIndex).get(texture);
+        if (bucket != null) {
+            draw(drawer, bucket);
+        }
+    }
+
+    /**
+     * Draws the collected elements of a level that were not drawn by {@link #drawTexture(GameDrawer, int, Texture)}.
+     *
+     * @param drawer the drawer to draw with
+     * @param levelIndex the ordinal of the {@link DrawableLevel}
+     */
+    public void drawRemaining(GameDrawer drawer, int levelIndex) {
+        OrderedMap<Texture, List<Sprite>> map = sprites.get(levelIndex);
+        Array<Texture> textures = map.orderedKeys();
+        for (int texIdx = 0, sz = textures.size; texIdx < sz; texIdx++) {
+            draw(drawer, map.get(textures.get(texIdx)));
+        }
+    }
+
+    private void draw(GameDrawer drawer, List<Sprite> bucket) {
+        for (int i = 0, n = bucket.size(); i < n; i++) {
+            Sprite sprite = bucket.get(i);
+            drawer.draw(sprite.texture, sprite.width, sprite.height, sprite.originX, sprite.originY, sprite.x, sprite.y,
+                    sprite.angle, sprite.tint);
+        }
+        bucket.clear();
+    }
+
+    private void clear() {
+        for (OrderedMap<Texture, List<Sprite>> map : sprites) {
+            for (List<Sprite> bucket : map.values()) {
+                bucket.clear();
+            }
+        }
+        for (int i = 0; i < usedSprites; i++) {
+            spritePool.get(i).clear();
+        }
+        usedSprites = 0;
+    }
+
+    private Sprite obtainSprite() {
+        if (usedSprites == spritePool.size()) {
+            spritePool.add(new Sprite());
+        }
+        return spritePool.get(usedSprites++);
+    }
+
+    private static boolean isVisible(Vector2 position, float radius, Vector2 camPosition, float viewDistance) {
+        return camPosition.dst(position) - viewDistance < radius;
+    }
+
+    public void debug() {
+        DebugCollector.debug("Rendered entities", visibleEntities);
+        DebugCollector.debug("Positioned entities", entityCount);
+        DebugCollector.debug("Entity sprites", usedSprites);
+    }
+
+    /**
+     * An element placed in the world for the current frame.
+     */
+    private static class Sprite {
+        private TextureAtlas.AtlasRegion texture;
+        private float width;
+        private float height;
+        private float originX;
+        private float originY;
+        private float x;
+        private float y;
+        private float angle;
+        private Color tint;
+
+        private void set(TextureAtlas.AtlasRegion texture, float width, float height, float originX, float originY,
+                         float x, float y, float angle, Color tint) {
+            this.texture = texture;
+            this.width = width;
+            this.height = height;
+            this.originX = originX;
+            this.originY = originY;
+            this.x = x;
+            this.y = y;
+            this.angle = angle;
+            this.tint = tint;
+        }
+
+        private void clear() {
+            texture = null;
+            tint = null;
+        }
+    }
+}
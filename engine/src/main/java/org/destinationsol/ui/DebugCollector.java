@@ -33,7 +33,7 @@ private DebugCollector() {
     }
 
     public static void draw(UiDrawer drawer) {
-        drawer.drawString(myDebugStrings.toString(), .5f, BorderDrawer.PLANET_PROXIMITY_INDICATOR_SIZE, FontSize.DEBUG, false, SolColor.WHITE);
+        drawer.drawString(myDebugStrings, .5f, BorderDrawer.PLANET_PROXIMITY_INDICATOR_SIZE, FontSize.DEBUG, false, SolColor.WHITE);
     }
 
     public static void debug(String name, String val) {
@@ -44,6 +44,11 @@ public static void debug(String name, int val) {
         myDebugStrings.append(name).append(": ").append(val).append("\n");
     }
 
+    public static void debug(String name, float val) {
+        myDebugStrings.append(name).append(": ");
+        TextFormatter.appendFloat(myDebugStrings, val, 2).append("\n");
+    }
+
     public static void warn(String msg) {
         if (!DebugOptions.SHOW_WARNINGS) {
             return;
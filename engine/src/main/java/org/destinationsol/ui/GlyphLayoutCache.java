@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.ui;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+
+/**
+ * A fixed-size cache of laid out text, so that labels that do not change from frame to frame are not laid out again
+ * every time they are drawn.
+ * <p>
+ * Layouts are keyed by the content of the text, the font scale and the font colour. The cache is direct-mapped: each
+ * key maps to exactly one slot, and a miss replaces whatever was laid out there before. A hit does not allocate, and a
+ * miss only copies the text.
+ */
+public class GlyphLayoutCache {
+    private final int mask;
+    private final String[] texts;
+    private final float[] scales;
+    private final int[] colors;
+    private final GlyphLayout[] layouts;
+    private int hits;
+    private int misses;
+
+    /**
+     * @param capacity the number of layouts kept, rounded up to a power of two
+     */
+    public GlyphLayoutCache(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        mask = size - 1;
+        texts = new String[size];
+        scales = new float[size];
+        colors = new int[size];
+        layouts = new GlyphLayout[size];
+    }
+
+    /**
+     * Returns the layout of the text in the font's current scale and colour, laying it out only if it is not cached.
+     * The returned layout stays valid until the next call.
+     *
+     * @param font the font, with its scale and colour already set
+     * @param text the text to lay out
+     * @return the laid out text
+     */
+    public GlyphLayout getLayout(BitmapFont font, CharSequence text) {
+        float scale = font.getData().scaleX;
+        int color = font.getColor().toIntBits();
+        int slot = hash(text, scale, color) & mask;
+
+        String cachedText = texts[slot];
+        if (cachedText != null && scales[slot] == scale && colors[slot] == color && cachedText.contentEquals(text)) {
+            hits++;
+            return layouts[slot];
+        }
+
+        misses++;
+        GlyphLayout layout = layouts[slot];
+        if (layout == null) {
+            layout = new GlyphLayout();
+            layouts[slot] = layout;
+        }
+        layout.setText(font, text);
+        texts[slot] = text.toString();
+        scales[slot] = scale;
+        colors[slot] = color;
+        return layout;
+    }
+
+    private static int hash(CharSequence text, float scale, int color) {
+        int hash = 31 * Float.floatToIntBits(scale) + color;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        // Spread the high bits, as only the low ones select the slot
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Reports how often laid out text was found in the cache through the {@link DebugCollector}.
+     */
+    public void debug() {
+        DebugCollector.debug("Text layout hits", hits);
+        DebugCollector.debug("Text layout misses", misses);
+    }
+}
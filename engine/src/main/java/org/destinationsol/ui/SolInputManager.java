@@ -16,6 +16,7 @@
 package org.destinationsol.ui;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.graphics.Pixmap;
@@ -35,11 +36,13 @@
 import org.destinationsol.game.context.Context;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888;
 
-public class SolInputManager {
+public class SolInputManager implements ResizeSubscriber {
     private static final float CURSOR_SZ = .07f;
     private static final float WARN_PERC_GROWTH_TIME = 1f;
     private static final int POINTER_COUNT = 4;
@@ -50,6 +53,7 @@ public class SolInputManager {
     private final List<SolUiScreen> screens = new ArrayList<>();
     private final List<SolUiScreen> screenToRemove = new ArrayList<>();
     private final List<SolUiScreen> screensToAdd = new ArrayList<>();
+    private final Map<SolUiScreen, ScreenState> screenStates = new HashMap<>();
     private final InputPointer[] inputPointers;
     private final InputPointer flashInputPointer;
     private final Vector2 mousePos;
@@ -97,6 +101,7 @@ public SolInputManager(OggSoundManager soundManager, Context context) {
 
         hoverSound = soundManager.getSound("engine:uiHover");
         osIsLinux = System.getProperty("os.name").equals("Linux");
+        SolApplication.addResizeSubscriber(this);
     }
 
     private static void setPointerPosition(InputPointer inputPointer, int screenX, int screenY) {
@@ -115,6 +120,7 @@ private void setMouseCursorHidden() {
 
     void maybeFlashPressed(int keyCode) {
         for (SolUiScreen screen : screens) {
+            getState(screen).idle = false;
             boolean consumed = false;
             List<SolUiControl> controls = screen.getControls();
             for (SolUiControl control : controls) {
@@ -133,9 +139,12 @@ void maybeFlashPressed(int x, int y) {
         lastTouchDragPosition.set(x, y);
         setPointerPosition(flashInputPointer, x, y);
         for (SolUiScreen screen : screens) {
-            List<SolUiControl> controls = screen.getControls();
-            for (SolUiControl control : controls) {
-                if (control.maybeFlashPressed(flashInputPointer)) {
+            ScreenState state = getState(screen);
+            state.index.update(screen.getControls());
+            List<SolUiControl> candidates = state.index.getCandidates(flashInputPointer.x, flashInputPointer.y);
+            for (int i = 0, size = candidates.size(); i < size; i++) {
+                if (candidates.get(i).maybeFlashPressed(flashInputPointer)) {
+                    state.idle = false;
                     return;
                 }
             }
@@ -166,6 +175,7 @@ public void addScreen(SolApplication solApplication, SolUiScreen screen) {
 
     private void removeScreen(SolUiScreen screen, SolApplication solApplication) {
         screenToRemove.add(screen);
+        screenStates.remove(screen);
         List<SolUiControl> controls = screen.getControls();
         for (SolUiControl control : controls) {
             control.blur();
@@ -199,17 +209,23 @@ public void update(SolApplication solApplication) {
         boolean consumed = false;
         mouseOnUi = false;
         boolean clickOutsideReacted = false;
+        boolean anyKeyPressed = Gdx.input.isKeyPressed(Input.Keys.ANY_KEY);
         for (SolUiScreen screen : screens) {
             boolean consumedNow = false;
             List<SolUiControl> controls = screen.getControls();
-            for (SolUiControl control : controls) {
-                control.update(inputPointers, currCursor != null, !consumed, this, solApplication);
-                if (control.isOn() || control.isJustOff()) {
-                    consumedNow = true;
-                }
-                Rectangle area = control.getScreenArea();
-                if (area != null && area.contains(mousePos)) {
-                    mouseOnUi = true;
+            ScreenState state = getState(screen);
+            state.index.update(controls);
+            // Updating idle controls that no key or pointer can reach would leave them idle, so they are skipped
+            if (!state.idle || anyKeyPressed || isPointerOverControl(state.index)) {
+                for (SolUiControl control : controls) {
+                    control.update(inputPointers, currCursor != null, !consumed, this, solApplication);
+                    if (control.isOn() || control.isJustOff()) {
+                        consumedNow = true;
+                    }
+                    Rectangle area = control.getScreenArea();
+                    if (area != null && area.contains(mousePos)) {
+                        mouseOnUi = true;
+                    }
                 }
             }
             if (consumedNow) {
@@ -236,6 +252,7 @@ public void update(SolApplication solApplication) {
                 mouseOnUi = true;
             }
             screen.updateCustom(solApplication, inputPointers, clickedOutside);
+            state.idle = areIdle(controls);
         }
 
         TutorialManager tutorialManager = game == null ? null : context.get(TutorialManager.class);
@@ -250,6 +267,41 @@ public void update(SolApplication solApplication) {
         touchDragged = false;
     }
 
+    private ScreenState getState(SolUiScreen screen) {
+        ScreenState state = screenStates.get(screen);
+        if (state == null) {
+            state = new ScreenState();
+            screenStates.put(screen, state);
+        }
+        return state;
+    }
+
+    private boolean isPointerOverControl(UiControlIndex index) {
+        if (index.isOverControl(mousePos.x, mousePos.y)) {
+            return true;
+        }
+        for (InputPointer inputPointer : inputPointers) {
+            if (index.isOverControl(inputPointer.x, inputPointer.y)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean areIdle(List<SolUiControl> controls) {
+        for (int i = 0, size = controls.size(); i < size; i++) {
+            if (!controls.get(i).isIdle()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void resize() {
+        SolUiControl.invalidateLayouts();
+    }
+
     private void updateWarnPerc() {
         float dif = SolMath.toInt(warnPercGrows) * Const.REAL_TIME_STEP / WARN_PERC_GROWTH_TIME;
         warnPercentage += dif;
@@ -399,6 +451,18 @@ public void dispose() {
         hoverSound.getOggSound().getSound().dispose();
     }
 
+    /**
+     * What the input manager retains about a screen between frames.
+     */
+    private static class ScreenState {
+        private final UiControlIndex index = new UiControlIndex();
+        /**
+         * Whether all controls of the screen were idle at the end of the last update. A new screen starts out not
+         * idle, so that its controls are updated at least once.
+         */
+        private boolean idle;
+    }
+
     public static class InputPointer {
         public float x;
         public float y;
@@ -22,6 +22,11 @@
 import org.destinationsol.common.SolColor;
 
 public class SolUiControl {
+    /**
+     * Bumped whenever the area of a control may have moved, so that hit-testing indexes know to rebuild.
+     */
+    private static int layoutGeneration;
+
     private final int[] keys;
     private Rectangle screenArea;
     private final boolean isWithSound;
@@ -229,6 +234,28 @@ public void enableWarn() {
         warnCount = 2;
     }
 
+    /**
+     * Returns true if the control is at rest: nothing is pressing or hovering it, and it has no pending input or
+     * warning. Updating an idle control while no key is down and no pointer is over it leaves it idle.
+     *
+     * @return true if the control is idle
+     */
+    public boolean isIdle() {
+        return !isKeyPressed && !wasKeyPressed && !isKeyFlashed && !isAreaPressed && !isAreaFlashed
+                && !isAreaJustUnpressed && !doesMouseHover && warnCount == 0;
+    }
+
+    static int getLayoutGeneration() {
+        return layoutGeneration;
+    }
+
+    /**
+     * Marks the areas of all controls as possibly changed, for instance after the window has been resized.
+     */
+    static void invalidateLayouts() {
+        layoutGeneration++;
+    }
+
     public void computePosition() {
         // TODO: Remove this condition once the entire codebase uses the new ui system
         if (referencePosition == null) {
@@ -240,6 +267,10 @@ public void computePosition() {
         int x = referencePosition.getX() + offsetX - width / 2;
         int y = referencePosition.getY() + offsetY - height / 2;
 
-        screenArea = new Rectangle(x * displayDimensions.getRatio() / displayDimensions.getWidth(), y / (float) displayDimensions.getHeight(), width * displayDimensions.getRatio() / displayDimensions.getWidth(), height / (float) displayDimensions.getHeight());
+        if (screenArea == null) {
+            screenArea = new Rectangle();
+        }
+        screenArea.set(x * displayDimensions.getRatio() / displayDimensions.getWidth(), y / (float) displayDimensions.getHeight(), width * displayDimensions.getRatio() / displayDimensions.getWidth(), height / (float) displayDimensions.getHeight());
+        layoutGeneration++;
     }
 }
@@ -32,6 +32,7 @@ public class SolUiSlider {
     private float value;
     private String text;
     private final int trimAt;
+    private final StringBuilder label = new StringBuilder();
 
     public SolUiSlider(Rectangle sliderRectangle, String text, float startingValue, int trimAt) {
         rectangle = sliderRectangle;
@@ -45,15 +46,10 @@ public void draw(UiDrawer uiDrawer) {
         uiDrawer.draw(sliderTexture, rectangle.width, rectangle.height, 0, 0, rectangle.x, rectangle.y, 0, SolColor.WHITE);
 
         uiDrawer.setTextMode(true);
-        String trimmedValue = Float.toString(value);
-        int length = trimmedValue.substring(trimmedValue.indexOf('.')).length();
-        if (length > trimAt) {
-            String leftSubstring = trimmedValue.substring(0, trimmedValue.indexOf('.'));
-            String rightSubstring = trimmedValue.substring(trimmedValue.indexOf('.'), leftSubstring.length() + 1 + trimAt);
-            trimmedValue = leftSubstring + rightSubstring;
-        }
+        label.setLength(0);
+        TextFormatter.appendFloat(label.append(text), value, trimAt);
 
-        uiDrawer.drawString(text + trimmedValue, rectangle.x + rectangle.width * 0.5f, rectangle.y + rectangle.height * 0.5f, 1, true, SolColor.WHITE);
+        uiDrawer.drawString(label, rectangle.x + rectangle.width * 0.5f, rectangle.y + rectangle.height * 0.5f, 1, true, SolColor.WHITE);
         uiDrawer.setTextMode(false);
         uiDrawer.draw(sliderMarkerTexture, rectangle.width * HANDLE_SCALE, rectangle.height, rectangle.width * HANDLE_SCALE * 0.5f, 0, rectangle.x + value * rectangle.width, rectangle.y, 0, SolColor.WHITE);
     }
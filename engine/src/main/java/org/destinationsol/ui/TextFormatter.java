@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.ui;
+
+/**
+ * Formats numbers into reusable {@link StringBuilder}s, for text that is rebuilt every frame. Unlike string
+ * concatenation, {@link Float#toString(float)} and {@link String#format(String, Object...)}, nothing here boxes its
+ * arguments or allocates, as long as the builder has room for the result.
+ */
+public final class TextFormatter {
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000, 100000, 1000000};
+
+    private TextFormatter() {
+    }
+
+    /**
+     * Clears the builder and fills it with a number.
+     *
+     * @param builder the builder to reuse
+     * @param value the number to write
+     * @return the builder
+     */
+    public static StringBuilder set(StringBuilder builder, int value) {
+        builder.setLength(0);
+        return builder.append(value);
+    }
+
+    /**
+     * Appends a number, rounded to at most the given number of decimals. Trailing zeros are left out, but there is
+     * always at least one decimal, so that {@code 1} is written as {@code 1.0}.
+     *
+     * @param builder the builder to append to
+     * @param value the number to write
+     * @param maxDecimals the maximum number of decimals, up to 6
+     * @return the builder
+     */
+    public static StringBuilder appendFloat(StringBuilder builder, float value, int maxDecimals) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            return builder.append(value);
+        }
+        int decimals = Math.max(1, Math.min(maxDecimals, POWERS_OF_TEN.length - 1));
+        int scale = POWERS_OF_TEN[decimals];
+        long scaled = Math.round((double) value * scale);
+        if (scaled < 0) {
+            builder.append('-');
+            scaled = -scaled;
+        }
+        builder.append(scaled / scale);
+        builder.append('.');
+
+        long fraction = scaled % scale;
+        while (decimals > 1 && fraction % 10 == 0) {
+            fraction /= 10;
+            decimals--;
+        }
+        for (int power = POWERS_OF_TEN[decimals] / 10; power > 1 && fraction < power; power /= 10) {
+            builder.append('0');
+        }
+        return builder.append(fraction);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.ui;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A uniform grid over the areas of the controls of one screen, used to find the controls under a pointer without
+ * testing each of them.
+ * <p>
+ * The grid is only rebuilt when the controls may have moved: when the screen hands out a different list of controls,
+ * the list changes length or ends, or {@link SolUiControl#invalidateLayouts()} has been called since the last build.
+ */
+class UiControlIndex {
+    private static final float CELL_SIZE = .05f;
+    private static final int MAX_CELLS_PER_AXIS = 64;
+
+    private final List<List<SolUiControl>> cells = new ArrayList<>();
+    private List<SolUiControl> indexedControls;
+    private int indexedSize;
+    private SolUiControl indexedFirst;
+    private SolUiControl indexedLast;
+    private int indexedGeneration;
+    private float minX;
+    private float minY;
+    private float cellWidth;
+    private float cellHeight;
+    private int columns;
+    private int rows;
+
+    /**
+     * Rebuilds the grid if the controls may have changed since it was last built.
+     *
+     * @param controls the current controls of the screen
+     */
+    void update(List<SolUiControl> controls) {
+        int size = controls.size();
+        SolUiControl first = size == 0 ? null : controls.get(0);
+        SolUiControl last = size == 0 ? null : controls.get(size - 1);
+        if (controls == indexedControls && size == indexedSize && first == indexedFirst && last == indexedLast
+                && SolUiControl.getLayoutGeneration() == indexedGeneration) {
+            return;
+        }
+        indexedControls = controls;
+        indexedSize = size;
+        indexedFirst = first;
+        indexedLast = last;
+        indexedGeneration = SolUiControl.getLayoutGeneration();
+        rebuild(controls);
+    }
+
+    private void rebuild(List<SolUiControl> controls) {
+        for (List<SolUiControl> cell : cells) {
+            cell.clear();
+        }
+        columns = 0;
+        rows = 0;
+
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        minX = Float.MAX_VALUE;
+        minY = Float.MAX_VALUE;
+        for (SolUiControl control : controls) {
+            Rectangle area = control.getScreenArea();
+            if (area == null) {
+                continue;
+            }
+            minX = Math.min(minX, area.x);
+            minY = Math.min(minY, area.y);
+            maxX = Math.max(maxX, area.x + area.width);
+            maxY = Math.max(maxY, area.y + area.height);
+        }
+        if (maxX < minX) {
+            return;
+        }
+
+        columns = Math.max(1, Math.min(MAX_CELLS_PER_AXIS, (int) Math.ceil((maxX - minX) / CELL_SIZE)));
+        rows = Math.max(1, Math.min(MAX_CELLS_PER_AXIS, (int) Math.ceil((maxY - minY) / CELL_SIZE)));
+        cellWidth = Math.max((maxX - minX) / columns, Float.MIN_NORMAL);
+        cellHeight = Math.max((maxY - minY) / rows, Float.MIN_NORMAL);
+        while (cells.size() < columns * rows) {
+            cells.add(new ArrayList<>());
+        }
+
+        for (SolUiControl control : controls) {
+            Rectangle area = control.getScreenArea();
+            if (area == null) {
+                continue;
+            }
+            int column0 = getColumn(area.x);
+            int column1 = getColumn(area.x + area.width);
+            int row0 = getRow(area.y);
+            int row1 = getRow(area.y + area.height);
+            for (int row = row0; row <= row1; row++) {
+                for (int column = column0; column <= column1; column++) {
+                    cells.get(row * columns + column).add(control);
+                }
+            }
+        }
+    }
+
+    private int getColumn(float x) {
+        return Math.min(columns - 1, Math.max(0, (int) ((x - minX) / cellWidth)));
+    }
+
+    private int getRow(float y) {
+        return Math.min(rows - 1, Math.max(0, (int) ((y - minY) / cellHeight)));
+    }
+
+    /**
+     * Returns the controls whose areas may contain a point, in the order of the screen's control list. The areas of
+     * the returned controls still have to be tested against the point.
+     *
+     * @param x the horizontal position of the point
+     * @param y the vertical position of the point
+     * @return the candidate controls, which must not be modified
+     */
+    List<SolUiControl> getCandidates(float x, float y) {
+        if (columns == 0 || x < minX || y < minY || x > minX + columns * cellWidth || y > minY + rows * cellHeight) {
+            return Collections.emptyList();
+        }
+        return cells.get(getRow(y) * columns + getColumn(x));
+    }
+
+    /**
+     * @param x the horizontal position of the point
+     * @param y the vertical position of the point
+     * @return true if the point is inside the area of any control
+     */
+    boolean isOverControl(float x, float y) {
+        List<SolUiControl> candidates = getCandidates(x, y);
+        for (int i = 0, size = candidates.size(); i < size; i++) {
+            Rectangle area = candidates.get(i).getScreenArea();
+            if (area != null && area.contains(x, y)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
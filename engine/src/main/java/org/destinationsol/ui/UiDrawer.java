@@ -81,11 +81,11 @@ public void setMatrix(Matrix4 matrix) {
         drawer.setMatrix(matrix);
     }
 
-    public void drawString(String s, float x, float y, float scale, boolean centered, Color tint) {
+    public void drawString(CharSequence s, float x, float y, float scale, boolean centered, Color tint) {
         drawString(s, x, y, scale, TextAlignment.CENTER, centered, tint);
     }
 
-    public void drawString(String s, float x, float y, float scale, TextAlignment align, boolean centered, Color tint) {
+    public void drawString(CharSequence s, float x, float y, float scale, TextAlignment align, boolean centered, Color tint) {
         if (isTextMode != null && !isTextMode) {
             throw new AssertionError("drawing text in atlas mode");
         }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 The Terasology Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.entitysystem;
+
+import org.destinationsol.game.context.internal.ContextImpl;
+import org.destinationsol.health.components.Health;
+import org.destinationsol.modules.ModuleManager;
+import org.destinationsol.size.components.Size;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.gestalt.entitysystem.component.management.ComponentManager;
+import org.terasology.gestalt.entitysystem.entity.EntityRef;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that entity jobs change every matching entity, whether run in parallel or sequentially, and that a job reading
+ * what an earlier job writes sees its changes.
+ */
+public class EntityJobSchedulerTest {
+
+    private static final int ENTITY_COUNT = 1000;
+
+    private EntitySystemManager entitySystemManager;
+    private List<EntityRef> entities;
+
+    @Before
+    public void setUp() throws Exception {
+        ModuleManager moduleManager = new ModuleManager();
+        moduleManager.init();
+        entitySystemManager = new EntitySystemManager(moduleManager.getEnvironment(), new ComponentManager(), new ContextImpl());
+        entities = new ArrayList<>();
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            Health health = new Health();
+            health.currentHealth = i;
+            Size size = new Size();
+            size.size = 1;
+            entities.add(entitySystemManager.getEntityManager().createEntity(health, size));
+        }
+    }
+
+    @Test
+    public void testParallel() {
+        testJobs(EntityJobScheduler.Ordering.PARALLEL);
+    }
+
+    @Test
+    public void testSequential() {
+        testJobs(EntityJobScheduler.Ordering.SEQUENTIAL);
+    }
+
+    private void testJobs(EntityJobScheduler.Ordering ordering) {
+        EntityJobScheduler scheduler = entitySystemManager.getJobScheduler();
+        scheduler.setOrdering(ordering);
+
+        scheduler.submit(ComponentAccess.writing(Health.class), (query, row) -> {
+            query.get(row, Health.class).currentHealth += 1;
+            return true;
+        });
+        // Conflicts with the job above, so it only runs once its changes are stored
+        scheduler.submit(ComponentAccess.reading(Health.class).andWriting(Size.class), (query, row) -> {
+            query.get(row, Size.class).size = query.get(row, Health.class).currentHealth;
+            return true;
+        });
+        scheduler.run();
+
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            EntityRef entity = entities.get(i);
+            assertEquals(i + 1, entity.getComponent(Health.class).get().currentHealth, 0);
+            assertEquals(i + 1, entity.getComponent(Size.class).get().size, 0);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2020 The Terasology Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.entitysystem;
+
+import com.badlogic.gdx.math.Vector2;
+import com.google.protobuf.ByteString;
+import org.destinationsol.entitysystem.EntityStoreCodec.ComponentRecord;
+import org.destinationsol.entitysystem.EntityStoreCodec.ComponentType;
+import org.destinationsol.entitysystem.EntityStoreCodec.EntityRecord;
+import org.destinationsol.entitysystem.EntityStoreCodec.IndexEntry;
+import org.destinationsol.entitysystem.EntityStoreCodec.StoreData;
+import org.destinationsol.entitysystem.EntityStoreCodec.StoreIndex;
+import org.destinationsol.protobuf.EntityData;
+import org.junit.Test;
+import org.terasology.gestalt.assets.ResourceUrn;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that entity stores read back exactly what was written, that deltas apply on top of their checkpoint, and that
+ * stores in the version 1 format can still be read.
+ */
+public class EntityStoreCodecTest {
+    private static final ComponentType NUMBERS = new ComponentType("test:numbers",
+            new String[]{"doubleValue", "floatValue", "intValue", "longValue", "boolValue"});
+    private static final ComponentType OBJECTS = new ComponentType("test:objects",
+            new String[]{"name", "urn", "vector", "missing"});
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        EntityRecord first = createEntity(1, 12.5f, -3f, 3);
+        EntityRecord second = createEntity(2, -1000f, 0.25f, -70000);
+        EntityRecord unlocated = new EntityRecord(5);
+        unlocated.components.add(createObjects("unlocated", null));
+
+        StoreData store = read(write(7, first, second, unlocated));
+
+        assertEquals(7, store.generation);
+        assertEquals(3, store.entities.size());
+        assertEntityEquals(first, store.entities.get(0));
+        assertEntityEquals(second, store.entities.get(1));
+        assertEntityEquals(unlocated, store.entities.get(2));
+        assertTrue(store.removedEntities.isEmpty());
+    }
+
+    @Test
+    public void testIndex() throws IOException {
+        EntityRecord first = createEntity(1, 12.5f, -3f, 3);
+        EntityRecord unlocated = new EntityRecord(5);
+        unlocated.components.add(createObjects("unlocated", null));
+        EntityRecord last = createEntity(9, 400f, 800f, Integer.MAX_VALUE);
+        ByteBuffer buffer = ByteBuffer.wrap(write(3, first, unlocated, last));
+
+        StoreIndex index = EntityStoreCodec.index(buffer);
+
+        assertEquals(3, index.generation);
+        assertEquals(3, index.entries.size());
+        IndexEntry firstEntry = index.entries.get(0);
+        assertEquals(1, firstEntry.id);
+        assertTrue(firstEntry.hasLocation);
+        assertEquals(12.5f, firstEntry.x, 0);
+        assertEquals(-3f, firstEntry.y, 0);
+        assertFalse(index.entries.get(1).hasLocation);
+        assertEntityEquals(first, EntityStoreCodec.readEntity(buffer, firstEntry, index.types));
+        assertEntityEquals(unlocated, EntityStoreCodec.readEntity(buffer, index.entries.get(1), index.types));
+        assertEntityEquals(last, EntityStoreCodec.readEntity(buffer, index.entries.get(2), index.types));
+    }
+
+    @Test
+    public void testDeltas() throws IOException {
+        Map<Long, EntityRecord> records = new LinkedHashMap<>();
+        EntityStoreCodec.apply(read(write(4, createEntity(1, 0, 0, 1), createEntity(2, 0, 0, 2),
+                createEntity(3, 0, 0, 3))), records);
+
+        ByteArrayOutputStream deltaBytes = new ByteArrayOutputStream();
+        EntityRecord changed = createEntity(2, 50f, 60f, 20);
+        EntityRecord added = createEntity(4, 0, 0, 4);
+        try (EntityStoreCodec.Writer writer = new EntityStoreCodec.Writer(deltaBytes, 4)) {
+            writer.writeEntity(changed);
+            writer.writeEntity(added);
+            writer.writeRemovedEntity(3);
+        }
+        StoreData delta = read(deltaBytes.toByteArray());
+        assertEquals(4, delta.generation);
+        EntityStoreCodec.apply(delta, records);
+
+        assertEquals(3, records.size());
+        assertEntityEquals(createEntity(1, 0, 0, 1), records.get(1L));
+        assertEntityEquals(changed, records.get(2L));
+        assertNull(records.get(3L));
+        assertEntityEquals(added, records.get(4L));
+    }
+
+    @Test
+    public void testReadVersion1() throws IOException {
+        EntityData.EntityStore store = EntityData.EntityStore.newBuilder()
+                .addEntity(EntityData.Entity.newBuilder()
+                        .setId(6)
+                        .addComponent(EntityData.Component.newBuilder()
+                                .setTypeName("test:numbers")
+                                .addField(createVersion1Field("floatValue", "float", "2.5"))
+                                .addField(createVersion1Field("intValue", "int", "-4"))
+                                .addField(createVersion1Field("boolValue", "boolean", "true")))
+                        .addComponent(EntityData.Component.newBuilder()
+                                .setTypeName("test:objects")
+                                .addField(createVersion1Field("name", "class java.lang.String", "old"))
+                                .addField(createVersion1Field("urn", "class org.terasology.gestalt.assets.ResourceUrn",
+                                        "engine:asteroid_0"))))
+                .build();
+
+        List<EntityRecord> entities = EntityStoreCodec.readVersion1(new ByteArrayInputStream(store.toByteArray()));
+
+        assertEquals(1, entities.size());
+        EntityRecord entity = entities.get(0);
+        assertEquals(6, entity.id);
+        assertFalse(entity.hasLocation);
+        assertEquals(2, entity.components.size());
+        ComponentRecord numbers = entity.components.get(0);
+        assertEquals("test:numbers", numbers.type.name);
+        assertArrayEquals(new String[]{"floatValue", "intValue", "boolValue"}, numbers.type.fieldNames);
+        assertArrayEquals(new Object[]{2.5f, -4, true}, numbers.values);
+        ComponentRecord objects = entity.components.get(1);
+        assertArrayEquals(new Object[]{"old", new ResourceUrn("engine:asteroid_0")}, objects.values);
+    }
+
+    private static EntityRecord createEntity(long id, float x, float y, int number) {
+        EntityRecord entity = new EntityRecord(id);
+        entity.hasLocation = true;
+        entity.x = x;
+        entity.y = y;
+        ComponentRecord numbers = new ComponentRecord(NUMBERS);
+        numbers.values[0] = number * 0.5;
+        numbers.values[1] = number * 0.25f;
+        numbers.values[2] = number;
+        numbers.values[3] = number * 10000000000L;
+        numbers.values[4] = number % 2 == 0;
+        entity.components.add(numbers);
+        entity.components.add(createObjects("entity " + id, new Vector2(x, y)));
+        return entity;
+    }
+
+    private static ComponentRecord createObjects(String name, Vector2 vector) {
+        ComponentRecord objects = new ComponentRecord(OBJECTS);
+        objects.values[0] = name;
+        objects.values[1] = new ResourceUrn("engine:asteroid_0");
+        objects.values[2] = vector;
+        // The last field is left null, and so is not stored
+        return objects;
+    }
+
+    private static EntityData.Field createVersion1Field(String name, String type, String value) {
+        return EntityData.Field.newBuilder()
+                .setName(name)
+                .setType(type)
+                .setValue(ByteString.copyFrom(value, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private static byte[] write(long generation, EntityRecord... entities) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (EntityStoreCodec.Writer writer = new EntityStoreCodec.Writer(bytes, generation)) {
+            for (EntityRecord entity : entities) {
+                writer.writeEntity(entity);
+            }
+            assertEquals(entities.length, writer.getEntityCount());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static StoreData read(byte[] bytes) throws IOException {
+        return EntityStoreCodec.read(new ByteArrayInputStream(bytes));
+    }
+
+    private static void assertEntityEquals(EntityRecord expected, EntityRecord actual) {
+        assertEquals(expected.id, actual.id);
+        assertEquals(expected.hasLocation, actual.hasLocation);
+        assertEquals(expected.x, actual.x, 0);
+        assertEquals(expected.y, actual.y, 0);
+        assertEquals(expected.components.size(), actual.components.size());
+        for (int i = 0; i < expected.components.size(); i++) {
+            ComponentRecord expectedComponent = expected.components.get(i);
+            ComponentRecord actualComponent = actual.components.get(i);
+            assertEquals(expectedComponent.type.name, actualComponent.type.name);
+            assertArrayEquals(expectedComponent.type.fieldNames, actualComponent.type.fieldNames);
+            assertArrayEquals(expectedComponent.values, actualComponent.values);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 The Terasology Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.chunk;
+
+import com.badlogic.gdx.utils.LongArray;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ChunkWindowTest {
+    private ChunkWindow window;
+    private LongArray pending;
+
+    @Before
+    public void setUp() {
+        window = new ChunkWindow(1, 3);
+        pending = new LongArray();
+    }
+
+    @Test
+    public void testChunkKeys() {
+        long key = ChunkManager.getChunkKey(-3, 7);
+        assertEquals(-3, ChunkManager.getChunkX(key));
+        assertEquals(7, ChunkManager.getChunkY(key));
+        key = ChunkManager.getChunkKey(5, -1);
+        assertEquals(5, ChunkManager.getChunkX(key));
+        assertEquals(-1, ChunkManager.getChunkY(key));
+    }
+
+    @Test
+    public void testFillsAroundCentre() {
+        window.moveTo(0, 0, pending);
+
+        assertEquals(9, pending.size);
+        assertEquals(ChunkManager.getChunkKey(0, 0), pending.get(0));
+        assertEquals(ChunkState.PENDING, window.getState(-1, 1));
+        assertEquals(ChunkState.UNLOADED, window.getState(2, 0));
+    }
+
+    @Test
+    public void testKeepsChunksWithinRemoveDistance() {
+        fill(0, 0);
+        fill(1, 0);
+
+        // Only the column entering the fill distance is new
+        assertEquals(3, pending.size);
+        assertEquals(ChunkState.LIVE, window.getState(-1, 0));
+        assertEquals(ChunkState.LIVE, window.getState(2, 0));
+    }
+
+    @Test
+    public void testEvictsFarChunks() {
+        fill(0, 0);
+        fill(1, 0);
+        fill(2, 0);
+
+        assertEquals(ChunkState.EVICTING, window.getState(-1, 0));
+        assertEquals(ChunkState.LIVE, window.getState(0, 0));
+
+        fill(3, 0);
+
+        assertEquals(ChunkState.UNLOADED, window.getState(-1, 0));
+        assertEquals(ChunkState.EVICTING, window.getState(0, 0));
+    }
+
+    @Test
+    public void testRefillsChunksComingBack() {
+        fill(0, 0);
+        fill(1, 0);
+        fill(2, 0);
+        window.moveTo(0, 0, pending);
+
+        assertEquals(ChunkState.PENDING, window.getState(-1, 0));
+        assertEquals(ChunkState.LIVE, window.getState(1, 0));
+    }
+
+    @Test
+    public void testEvictsOnDiagonalMove() {
+        fill(0, 0);
+        fill(1, 1);
+        fill(2, 2);
+
+        assertEquals(ChunkState.EVICTING, window.getState(-1, 1));
+        assertEquals(ChunkState.EVICTING, window.getState(1, -1));
+        assertEquals(ChunkState.LIVE, window.getState(0, 0));
+        assertEquals(ChunkState.LIVE, window.getState(3, 3));
+    }
+
+    @Test
+    public void testEvictsEverythingOnLongJump() {
+        fill(0, 0);
+        fill(1, 0);
+        fill(100, -100);
+
+        // The chunks around the new centre take over the cells of most of the old ones
+        assertEquals(ChunkState.UNLOADED, window.getState(0, 0));
+        assertEquals(ChunkState.EVICTING, window.getState(2, 0));
+        assertEquals(ChunkState.LIVE, window.getState(100, -100));
+
+        fill(101, -100);
+
+        assertEquals(ChunkState.UNLOADED, window.getState(2, 0));
+        assertEquals(ChunkState.LIVE, window.getState(100, -100));
+    }
+
+    private void fill(int centreX, int centreY) {
+        pending.clear();
+        window.moveTo(centreX, centreY, pending);
+        for (int i = 0; i < pending.size; i++) {
+            long key = pending.get(i);
+            window.setState(ChunkManager.getChunkX(key), ChunkManager.getChunkY(key), ChunkState.LIVE);
+        }
+    }
+}